@@ -0,0 +1,102 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures the parse throughput of {@link AddressBookParser} for each type of command, and compares its splitting of
+ * the command word from the arguments against the regex it used to split them with.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AddressBookParserBenchmark {
+
+    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+
+    @Param({"add", "edit", "delete", "select", "find", "list", "history", "change", "filter", "free", "merge",
+        "deleteSelectNotes", "downloadAllNotes"})
+    private String commandWord;
+
+    private String userInput;
+    private AddressBookParser parser;
+
+    @Setup
+    public void setUp() throws ParseException {
+        switch (commandWord) {
+
+        case "add":
+            userInput = "add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 "
+                    + "t/friends t/owesMoney em/CS2113 em/CS2101";
+            break;
+        case "edit":
+            userInput = "edit 1 p/91234567 e/johndoe@example.com em/CS2113";
+            break;
+        case "delete":
+            userInput = "delete main 1";
+            break;
+        case "select":
+            userInput = "select 1";
+            break;
+        case "find":
+            userInput = "find main alice bob charlie";
+            break;
+        case "change":
+            userInput = "change 1 mon 8am CS2113";
+            break;
+        case "filter":
+            userInput = "filter CS2101 mon 10am";
+            break;
+        case "free":
+            userInput = "free f/self f/1 f/2";
+            break;
+        case "merge":
+            userInput = "merge m/1 m/2 n/GES PROJECT";
+            break;
+        case "deleteSelectNotes":
+            userInput = "deleteSelectNotes CS2101 CS2113";
+            break;
+        case "downloadAllNotes":
+            userInput = "downloadAllNotes user/e0123456 pass/password mod/CS2113";
+            break;
+        default:
+            userInput = commandWord;
+        }
+        parser = new AddressBookParser();
+        // every input is valid, so that failed parses are not measured
+        parser.parseCommand(userInput);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+
+    /**
+     * Splits the command word from its arguments with the regex that the parser used to split them with.
+     */
+    @Benchmark
+    public String splitCommandWordWithRegex() {
+        Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        return matcher.matches() ? matcher.group("commandWord") + matcher.group("arguments") : null;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.logic.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link ArgumentTokenizer} against the tokenizer it replaced, which searched the arguments once per prefix
+ * and sorted the positions found, on the arguments of an add command.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArgumentTokenizerBenchmark {
+
+    private static final String ADD_ARGUMENTS = " n/John Doe p/98765432 e/johnd@example.com "
+            + "a/311, Clementi Ave 2, #02-25 t/friends t/owesMoney em/CS2113 em/CS2101";
+    private static final Prefix[] ADD_PREFIXES = {CliSyntax.PREFIX_NAME, CliSyntax.PREFIX_PHONE,
+        CliSyntax.PREFIX_EMAIL, CliSyntax.PREFIX_ADDRESS, CliSyntax.PREFIX_TAG, CliSyntax.PREFIX_ENROLLED_MODULE};
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, ADD_PREFIXES);
+    }
+
+    /**
+     * Tokenizes the arguments as the tokenizer that {@link ArgumentTokenizer} replaced did.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenizePerPrefix() {
+        List<int[]> positions = Arrays.stream(ADD_PREFIXES)
+                .flatMap(prefix -> findPrefixPositions(prefix).stream())
+                .collect(Collectors.toList());
+        positions.sort((first, second) -> first[1] - second[1]);
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix prefix = new Prefix("");
+        int valueStart = 0;
+        for (int[] position : positions) {
+            argMultimap.put(prefix, ADD_ARGUMENTS.substring(valueStart, position[1]).trim());
+            prefix = ADD_PREFIXES[position[0]];
+            valueStart = position[1] + prefix.getPrefix().length();
+        }
+        argMultimap.put(prefix, ADD_ARGUMENTS.substring(valueStart).trim());
+        return argMultimap;
+    }
+
+    /**
+     * Returns the index of {@code prefix} in {@code ADD_PREFIXES} with each position it occurs at.
+     */
+    private static List<int[]> findPrefixPositions(Prefix prefix) {
+        List<int[]> positions = new ArrayList<>();
+        int prefixIndex = Arrays.asList(ADD_PREFIXES).indexOf(prefix);
+        int position = ADD_ARGUMENTS.indexOf(" " + prefix.getPrefix());
+        while (position != -1) {
+            positions.add(new int[] {prefixIndex, position + 1});
+            position = ADD_ARGUMENTS.indexOf(" " + prefix.getPrefix(), position + 1);
+        }
+        return positions;
+    }
+}
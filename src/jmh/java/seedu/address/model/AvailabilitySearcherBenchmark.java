@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.WeeklyTimetable;
+
+/**
+ * Compares {@link AvailabilitySearcher} against the slot by slot scan of a merged timetable previously used by the
+ * free command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AvailabilitySearcherBenchmark {
+
+    private static final String[] MODULES = {"CS2113", "CS2101", "CS2040c", "MA1521", "ST2332", "GES1041"};
+
+    @Param({"10", "100", "1000"})
+    private int participants;
+
+    private List<WeeklyTimetable> timetables;
+    private AvailabilitySearcher searcher;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(2113);
+        timetables = new ArrayList<>();
+        for (int i = 0; i < participants; i++) {
+            WeeklyTimetable timetable = WeeklyTimetable.empty();
+            for (int slot = 0; slot < WeeklyTimetable.NUM_SLOTS; slot++) {
+                // keeps a few common free slots even in large groups
+                if (slot % 7 != 0 && random.nextInt(4) == 0) {
+                    timetable = timetable.withActivity(WeeklyTimetable.dayName(slot / WeeklyTimetable.SLOTS_PER_DAY),
+                            slot % WeeklyTimetable.SLOTS_PER_DAY, MODULES[random.nextInt(MODULES.length)]);
+                }
+            }
+            timetables.add(timetable);
+        }
+        searcher = AvailabilitySearcher.of(timetables);
+    }
+
+    /**
+     * Finds the next common free window from the timetables of the participants, as the free command does.
+     */
+    @Benchmark
+    public AvailabilitySearcher.FreeWindow nextWindow() {
+        return AvailabilitySearcher.of(timetables).findNext(2, 4);
+    }
+
+    /**
+     * Finds the next 3 common free windows of at least 2 hours in an already reduced group.
+     */
+    @Benchmark
+    public List<AvailabilitySearcher.FreeWindow> nextWindowsSearchOnly() {
+        return searcher.findNext(2, 4, 3, 2);
+    }
+
+    /**
+     * Merges the timetables into per-slot busy counts and scans the slots of each day, as the free command used to.
+     */
+    @Benchmark
+    public String slotScan() {
+        WeeklyTimetable merged = TimetableMergeEngine.toGroupTimetable(TimetableMergeEngine.countBusy(timetables));
+        int dayToCheck = 2;
+        int hourNow = 12;
+        for (int i = 0; i < 6; i++) {
+            List<Integer> listFoundSlot = new ArrayList<>();
+            for (int timeSlotIndex = 0; timeSlotIndex < WeeklyTimetable.SLOTS_PER_DAY; timeSlotIndex++) {
+                String slot = merged.getActivity(WeeklyTimetable.slotIndex(dayToCheck, timeSlotIndex));
+                if (slot.equals("0") && (i > 0 || timeSlotIndex >= hourNow - 8)) {
+                    if (!listFoundSlot.isEmpty() && timeSlotIndex - listFoundSlot.get(listFoundSlot.size() - 1) != 1) {
+                        break;
+                    }
+                    listFoundSlot.add(timeSlotIndex);
+                }
+            }
+            DateFormat sdf = new SimpleDateFormat("EEE hh:mm aa");
+            if (!listFoundSlot.isEmpty()) {
+                return sdf.format(Calendar.getInstance().getTime());
+            }
+            dayToCheck = (dayToCheck + 1) % WeeklyTimetable.NUM_DAYS;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static seedu.address.model.util.SampleDataUtil.getTagSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.TimeSlots;
+
+/**
+ * Compares adding a cohort of persons to an address book in a single {@link Model#transaction(Model.Transaction)}
+ * against adding them one command at a time, each raising an event and saving an address book state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelTransactionBenchmark {
+
+    private static final int COHORT_SIZE = 200;
+
+    @Param({"1000", "10000"})
+    private int persons;
+
+    private AddressBook addressBook;
+    private List<Person> cohort;
+    private ModelManager model;
+
+    @Setup
+    public void setUp() {
+        addressBook = new AddressBook();
+        for (int i = 0; i < persons; i++) {
+            addressBook.addPerson(createPerson("Person " + i));
+        }
+        cohort = new ArrayList<>();
+        for (int i = 0; i < COHORT_SIZE; i++) {
+            cohort.add(createPerson("Student " + i));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpModel() {
+        model = new ModelManager(addressBook, new NotesDownloaded(), new UserPrefs());
+    }
+
+    @Benchmark
+    public ModelManager addInTransaction() {
+        model.transaction(transaction -> cohort.forEach(transaction::addPerson));
+        return model;
+    }
+
+    /**
+     * Adds the cohort as a batch of add commands did before transactions.
+     */
+    @Benchmark
+    public ModelManager addOneByOne() {
+        for (Person person : cohort) {
+            model.addPerson(person);
+            model.commitAddressBook();
+        }
+        return model;
+    }
+
+    private static Person createPerson(String name) {
+        return new Person(new Name(name), new Phone("91234567"), new Email("student@example.com"),
+                new Address("Kent Ridge"), getTagSet("cohort"), new TreeMap<>(), TimeSlots.initTimeSlots());
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.TimeSlots;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.BenchmarkPersons;
+
+/**
+ * Compares {@link TimetableMergeEngine} against the pairwise merge previously used by the merge commands.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimetableMergeEngineBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int groupSize;
+
+    private List<Person> members;
+    private Name groupName;
+
+    @Setup
+    public void setUp() {
+        members = BenchmarkPersons.generate(groupSize);
+        groupName = new Name("Group");
+    }
+
+    @Benchmark
+    public Person mergeEngine() {
+        return TimetableMergeEngine.mergeGroup(groupName, members);
+    }
+
+    /**
+     * Counts busy persons per slot without building the merged group contact.
+     */
+    @Benchmark
+    public int[] countBusyOnly() {
+        long[] masks = new long[members.size()];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = members.get(i).getTimetable().getBusyMask();
+        }
+        return TimetableMergeEngine.countBusy(masks);
+    }
+
+    /**
+     * Merges the group two persons at a time, as the merge commands used to.
+     */
+    @Benchmark
+    public Person pairwiseMerge() {
+        Person merged = members.get(0);
+        for (int j = 0; j < members.size() - 1; j++) {
+            merged = PairwiseMerge.mergeTimetables(merged, members.get(j + 1), j, groupName);
+        }
+        return merged;
+    }
+
+    /**
+     * The pairwise merge that MergeCommand, FreeCommand and UpdateMergedCommand each used to carry a copy of.
+     */
+    private static class PairwiseMerge {
+
+        private static final String[] DAYS = {"mon", "tue", "wed", "thu", "fri"};
+
+        /**
+         * Merges 2 people into a single person with a merged timetable.
+         */
+        static Person mergeTimetables(Person person1, Person person2, int index, Name name) {
+            Address address;
+            if (index == 0) {
+                address = new Address(person1.getName().toString() + ", " + person2.getName().toString());
+            } else {
+                address = new Address(person1.getAddress().toString() + ", " + person2.getName().toString());
+            }
+            Set<Tag> mergedTags = new HashSet<>();
+            mergedTags.add(new Tag("merged"));
+            Map<String, List<TimeSlots>> mergedSlots = new HashMap<>();
+            for (String day : DAYS) {
+                mergedSlots.put(day, compareTimeSlots(person1.getTimeSlots().get(day).toArray(new TimeSlots[0]),
+                        person2.getTimeSlots().get(day).toArray(new TimeSlots[0])));
+            }
+            return new Person(name, new Phone("99999999"), new Email("notimportant@no"), address, mergedTags,
+                    new TreeMap<>(), mergedSlots);
+        }
+
+        /**
+         * Compares 2 lists of time slots and returns a merged list.
+         */
+        static List<TimeSlots> compareTimeSlots(TimeSlots[] day1, TimeSlots[] day2) {
+            List<TimeSlots> finalDay = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                if (day1[i].toString().equalsIgnoreCase("free")
+                        || day1[i].toString().equalsIgnoreCase("0")) {
+                    day1[i] = TimeSlots.of("0");
+                } else {
+                    try {
+                        Integer.parseInt(day1[i].toString());
+                    } catch (NumberFormatException e) {
+                        day1[i] = TimeSlots.of("1");
+                    }
+                }
+
+                if (day2[i].toString().equalsIgnoreCase("free")) {
+                    day2[i] = TimeSlots.of("0");
+                } else {
+                    day2[i] = TimeSlots.of("1");
+                }
+                int totalBusyCount = Integer.parseInt(day1[i].toString()) + Integer.parseInt(day2[i].toString());
+                finalDay.add(TimeSlots.of(Integer.toString(totalBusyCount)));
+            }
+            return finalDay;
+        }
+    }
+}
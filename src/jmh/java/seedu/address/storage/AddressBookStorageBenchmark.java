@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.BenchmarkPersons;
+
+/**
+ * Compares loading and saving address books in the binary format against the xml format.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int contacts;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private XmlAddressBookStorage xmlStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = BenchmarkPersons.generateAddressBook(contacts);
+
+        folder = Files.createTempDirectory("storage-benchmark");
+        xmlStorage = new XmlAddressBookStorage(folder.resolve("addressbook.xml"));
+        binaryStorage = new BinaryAddressBookStorage(folder.resolve("addressbook.bin"));
+        xmlStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtil.deleteAllFiles(folder);
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void saveXml() throws IOException {
+        xmlStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void saveBinary() throws IOException {
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadXml() throws DataConversionException, IOException {
+        return xmlStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadBinary() throws DataConversionException, IOException {
+        return binaryStorage.readAddressBook().get();
+    }
+}
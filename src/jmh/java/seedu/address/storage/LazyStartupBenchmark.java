@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.NotesDownloaded;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.BenchmarkPersons;
+
+/**
+ * Compares starting up with a large binary address book whose person details are decoded on load against one whose
+ * details are decoded on first use. Run with {@code -prof gc} to compare the memory allocated.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazyStartupBenchmark {
+
+    @Param({"10000", "100000"})
+    private int contacts;
+
+    @Param({"false", "true"})
+    private boolean lazy;
+
+    private Path folder;
+    private BinaryAddressBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        AddressBook addressBook = BenchmarkPersons.generateAddressBook(contacts);
+
+        folder = Files.createTempDirectory("lazy-startup-benchmark");
+        storage = new BinaryAddressBookStorage(folder.resolve("addressbook.bin"), lazy);
+        storage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtil.deleteAllFiles(folder);
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public Model startUp() throws DataConversionException, IOException {
+        return new ModelManager(storage.readAddressBook().get(), new NotesDownloaded(), new UserPrefs());
+    }
+}
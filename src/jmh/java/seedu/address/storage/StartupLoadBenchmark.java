@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.BenchmarkPersons;
+
+/**
+ * Measures loading a 50,000 contact xml address book on startup with different numbers of conversion threads.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupLoadBenchmark {
+
+    private static final int CONTACTS = 50000;
+    private static final String[] TAGS = {"friends", "colleagues", "family", "project"};
+
+    /** The number of conversion threads, where 0 uses every available processor. */
+    @Param({"1", "2", "4", "0"})
+    private int parallelism;
+
+    private Path folder;
+    private XmlAddressBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        AddressBook addressBook = BenchmarkPersons.generateAddressBook(CONTACTS, TAGS);
+
+        folder = Files.createTempDirectory("startup-benchmark");
+        storage = new XmlAddressBookStorage(folder.resolve("addressbook.xml"), parallelism);
+        storage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtil.deleteAllFiles(folder);
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataConversionException, IOException {
+        return storage.readAddressBook().get();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.WeeklyTimetable;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates the synthetic persons that the benchmarks run on. The same seed is used every time, so that every run
+ * of a benchmark, and every benchmark, sees the same persons.
+ */
+public class BenchmarkPersons {
+
+    private static final long SEED = 2113;
+    private static final String[] MODULES = {"CS2113", "CS2101", "CS2040c", "MA1521", "ST2332", "GES1041"};
+
+    /**
+     * Returns {@code count} persons named "Person 0" onwards, each busy in about a third of the slots of the week.
+     * Person {@code i} is tagged with {@code tags[i % tags.length]}, or not tagged if no tags are given.
+     */
+    public static List<Person> generate(int count, String... tags) {
+        Random random = new Random(SEED);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Set<Tag> tagSet = new HashSet<>();
+            if (tags.length > 0) {
+                tagSet.add(new Tag(tags[i % tags.length]));
+            }
+            persons.add(new Person(new Name("Person " + i), new Phone("9123456" + (i % 10)),
+                    new Email("person" + i + "@example.com"), new Address("Blk " + i), tagSet, new TreeMap<>(),
+                    randomTimetable(random)));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of the persons returned by {@link #generate(int, String...)}.
+     */
+    public static AddressBook generateAddressBook(int count, String... tags) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : generate(count, tags)) {
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns a timetable with a random module in about a third of its slots.
+     */
+    private static WeeklyTimetable randomTimetable(Random random) {
+        WeeklyTimetable timetable = WeeklyTimetable.empty();
+        for (int slot = 0; slot < WeeklyTimetable.NUM_SLOTS; slot++) {
+            if (random.nextInt(3) == 0) {
+                timetable = timetable.withActivity(WeeklyTimetable.dayName(slot / WeeklyTimetable.SLOTS_PER_DAY),
+                        slot % WeeklyTimetable.SLOTS_PER_DAY, MODULES[random.nextInt(MODULES.length)]);
+            }
+        }
+        return timetable;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -17,6 +18,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path batchPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +28,44 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file of commands to execute without the UI, or null if the UI should be started.
+     */
+    public Path getBatchPath() {
+        return batchPath;
+    }
+
+    public void setBatchPath(Path batchPath) {
+        this.batchPath = batchPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the named parameters in the command-line arguments {@code args}, which are given as
+     * {@code --name=value} as they are to the application, before the application is launched.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    /**
+     * Parses the named parameters {@code namedParameters}, keyed by their names.
+     */
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,6 +74,13 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchPathParameter = namedParameters.get("batch");
+        if (batchPathParameter != null && !FileUtil.isValidPath(batchPathParameter)) {
+            logger.warning("Invalid batch path " + batchPathParameter + ". Starting the UI instead.");
+            batchPathParameter = null;
+        }
+        appParameters.setBatchPath(batchPathParameter != null ? Paths.get(batchPathParameter) : null);
+
         return appParameters;
     }
 
@@ -54,11 +95,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getBatchPath(), otherAppParameters.getBatchPath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchPath);
     }
 }
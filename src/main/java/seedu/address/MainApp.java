@@ -5,6 +5,8 @@ import static seedu.address.commons.util.FileUtil.loadFolders;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -20,8 +22,13 @@ import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandHistory;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -29,8 +36,11 @@ import seedu.address.model.NotesDownloaded;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyNotesDownloaded;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedAddressBook;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.NotesDownloadStorage;
 import seedu.address.storage.NotesDownloadStorageHelper;
@@ -66,13 +76,25 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()), Platform::runLater);
+
+        ui = new UiManager(logic, config, userPrefs);
+
+        initEventsCenter();
+    }
+
+    /**
+     * Initializes every component but the UI, whose changes to the filtered person list are published with
+     * {@code uiExecutor}.
+     */
+    private void initComponents(AppParameters appParameters, Executor uiExecutor) {
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        NotesDownloadStorage notesDownloadStorage = new NotesDownloadStorageHelper(userPrefs.getNotesFolderPath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        NotesDownloadStorage notesDownloadStorage = new NotesDownloadStorageHelper(userPrefs.getNotesFolderPath(),
+                userPrefs.getNotesDeleteParallelism());
 
         storage = new StorageManager(addressBookStorage, userPrefsStorage, notesDownloadStorage);
 
@@ -80,11 +102,48 @@ public class MainApp extends Application {
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, initCommandHistory(userPrefs), uiExecutor);
+    }
 
-        ui = new UiManager(logic, config, userPrefs);
+    /**
+     * Executes the commands in the batch file of {@code appParameters} without starting the UI, then saves the
+     * address book, whether or not the batch succeeded. The result of the batch is printed to standard output.
+     *
+     * @return the exit status, which is 1 if the batch file could not be executed or the batch failed unexpectedly.
+     */
+    private int runBatch(AppParameters appParameters) {
+        logger.info("=============================[ Running AddressBook Batch ]===========================");
+        initComponents(appParameters, Runnable::run);
 
-        initEventsCenter();
+        int exitStatus = 0;
+        try {
+            CommandResult result = logic.execute(BatchCommand.COMMAND_WORD + " " + appParameters.getBatchPath());
+            System.out.println(result.feedbackToUser);
+        } catch (CommandException | ParseException e) {
+            System.err.println(e.getMessage());
+            exitStatus = 1;
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Batch failed unexpectedly", e);
+            System.err.println(e);
+            exitStatus = 1;
+        } finally {
+            storage.flushAddressBook();
+        }
+        return exitStatus;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the address book file format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        switch (userPrefs.getAddressBookFormat()) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(userPrefs.getAddressBookFilePath());
+        case BINARY:
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath(), userPrefs.isLazyPersonDetails());
+        default:
+            return new XmlAddressBookStorage(userPrefs.getAddressBookFilePath(), userPrefs.getLoadParallelism());
+        }
     }
 
     /**
@@ -115,10 +174,37 @@ public class MainApp extends Application {
             initialDataWithSelf.setSelf();
             initialAddressBookData = new AddressBook(initialDataWithSelf);
         }
-        initalNotesDownloadedData = new NotesDownloaded(loadFolders(userPrefs.getNotesFolderPath()));
+        try {
+            initalNotesDownloadedData = new NotesDownloaded(storage.readDownloadedNotes());
+        } catch (IOException e) {
+            logger.warning("Problem while reading the notes catalog. Will be listing the notes folder instead");
+            initalNotesDownloadedData = new NotesDownloaded(loadFolders(userPrefs.getNotesFolderPath()));
+        }
         return new ModelManager(initialAddressBookData, initalNotesDownloadedData, userPrefs);
     }
 
+    /**
+     * Returns a {@code CommandHistory} with the capacity chosen in {@code userPrefs}, kept in the command history file
+     * chosen there if there is one. <br>
+     * The command history will only be kept in memory if errors occur when reading the command history file.
+     */
+    private CommandHistory initCommandHistory(UserPrefs userPrefs) {
+        int capacity = userPrefs.getCommandHistoryCapacity();
+        if (capacity <= 0) {
+            logger.warning("Command history capacity is not positive. Will be using the default capacity");
+            capacity = CommandHistory.DEFAULT_CAPACITY;
+        }
+        if (userPrefs.getCommandHistoryFilePath() == null) {
+            return new CommandHistory(capacity);
+        }
+        try {
+            return CommandHistory.loadFrom(userPrefs.getCommandHistoryFilePath(), capacity);
+        } catch (IOException e) {
+            logger.warning("Problem while reading the command history file. Will not keep the command history");
+            return new CommandHistory(capacity);
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -181,6 +267,11 @@ public class MainApp extends Application {
             initializedPrefs = new UserPrefs();
         }
 
+        if (initializedPrefs.getUndoHistoryLimit() < 0) {
+            logger.warning("Undo history limit is negative. Will be using the default limit");
+            initializedPrefs.setUndoHistoryLimit(VersionedAddressBook.DEFAULT_HISTORY_LIMIT);
+        }
+
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
             storage.saveUserPrefs(initializedPrefs);
@@ -205,6 +296,7 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.flushAddressBook();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -217,10 +309,23 @@ public class MainApp extends Application {
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        stop();
+        // the exit command executes on the logic thread, but the UI can only be stopped on the JavaFX thread
+        if (Platform.isFxApplicationThread()) {
+            stop();
+        } else {
+            Platform.runLater(this::stop);
+        }
     }
 
+    /**
+     * Starts the UI, or executes the commands in a batch file without it if one is given with
+     * {@code --batch=FILE_PATH}.
+     */
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getBatchPath() != null) {
+            System.exit(new MainApp().runBatch(appParameters));
+        }
         launch(args);
     }
 }
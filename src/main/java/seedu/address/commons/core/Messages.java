@@ -25,6 +25,7 @@ public class Messages {
     public static final String MESSAGE_DOWNLOAD_SELECT_SUCCESS = "Here are your the files available for: ";
     public static final String MESSAGE_USERNAME_PASSWORD_ERROR = "You have entered a wrong username or Password.";
     public static final String MESSAGE_DYNAMIC_WAITING_INTERRUPTED = "Waiting for the files have been interrupted";
+    public static final String MESSAGE_COMMAND_CANCELLED = "The command has been cancelled";
     public static final String MESSAGE_DOWNLOAD_SELECT_NO_FILES_SELECTED =
         "Please select a file after the \"file/\" tag. Ie: file/(0,1,2...n))";
     public static final String MESSAGE_FILE_DOES_NOT_EXIST_ERROR = "A file you selected does not exist,"
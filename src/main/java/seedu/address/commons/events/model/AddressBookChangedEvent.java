@@ -1,6 +1,9 @@
 package seedu.address.commons.events.model;
 
+import java.util.Optional;
+
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /** Indicates the AddressBook in the model has changed*/
@@ -8,12 +11,32 @@ public class AddressBookChangedEvent extends BaseEvent {
 
     public final ReadOnlyAddressBook data;
 
+    private final AddressBookDelta delta;
+
+    /**
+     * Creates an event for a change to {@code data} whose persons that changed are not known.
+     */
     public AddressBookChangedEvent(ReadOnlyAddressBook data) {
+        this(data, null);
+    }
+
+    /**
+     * Creates an event for the changes in {@code delta}, which brought the address book to {@code data}.
+     */
+    public AddressBookChangedEvent(ReadOnlyAddressBook data, AddressBookDelta delta) {
         this.data = data;
+        this.delta = delta;
+    }
+
+    /**
+     * Returns the persons that changed since the previous event, if they are known.
+     */
+    public Optional<AddressBookDelta> getDelta() {
+        return Optional.ofNullable(delta);
     }
 
     @Override
     public String toString() {
-        return "number of persons " + data.getPersonList().size();
+        return "number of persons " + data.getPersonList().size() + (delta == null ? "" : ", " + delta);
     }
 }
@@ -0,0 +1,21 @@
+package seedu.address.commons.events.ui;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that a command which is still executing has made progress.
+ */
+public class CommandProgressEvent extends BaseEvent {
+
+    public final String message;
+
+    public CommandProgressEvent(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + message;
+    }
+
+}
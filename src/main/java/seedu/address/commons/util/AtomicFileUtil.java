@@ -0,0 +1,272 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Saves files so that a crash during a save never leaves a damaged file behind, and finds an intact version of a
+ * file to load.
+ * A file is saved by writing it to a temporary file, which then atomically replaces the file. The file being
+ * replaced is kept as the newest of a bounded number of backups.
+ * Every saved file ends with a checksum line, written as a comment of the file's format, holding the CRC32 and the
+ * length of everything before it. Files without a checksum line, such as files written by hand, are assumed intact.
+ */
+public class AtomicFileUtil {
+
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(AtomicFileUtil.class);
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final int MAX_CHECKSUM_LINE_LENGTH = 128;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The comment syntaxes in which the checksum line can be written.
+     */
+    public enum CommentStyle {
+        /** An xml comment, which may follow the root element of an xml document. */
+        XML("<!-- ", " -->"),
+        /** A line comment, which has to be removed with {@link #withoutChecksumLine(String)} before parsing. */
+        LINE("// ", "");
+
+        private final String prefix;
+        private final String suffix;
+
+        CommentStyle(String prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        private String checksumLine(long checksum, long length) {
+            return String.format("%scrc32 %08x length %d%s\n", prefix, checksum, length, suffix);
+        }
+    }
+
+    private static final Pattern CHECKSUM_LINE_FORMAT =
+            Pattern.compile("(?:<!-- |// )crc32 (?<checksum>[0-9a-f]{8}) length (?<length>[0-9]+)(?: -->)?\n");
+    private static final Pattern PARTIAL_CHECKSUM_LINE_FORMAT = Pattern.compile("(?:^|\n)(?:<!-- |// )crc32 [^\n]*$");
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Replaces the file at {@code file} with the content written by {@code writer}, followed by a checksum line in
+     * {@code style}. Up to {@code backupCount} earlier versions of the file are kept as backups.
+     * If this fails, or the app crashes while this runs, the file is left as it was.
+     */
+    public static void save(Path file, CommentStyle style, int backupCount, ContentWriter writer)
+            throws IOException {
+        requireNonNull(file);
+        requireNonNull(style);
+        requireNonNull(writer);
+
+        FileUtil.createParentDirsOfFile(file);
+        Path tempFile = siblingOf(file, TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ChecksumOutputStream checksummed = new ChecksumOutputStream(Channels.newOutputStream(channel));
+            OutputStream out = new BufferedOutputStream(checksummed);
+            writer.writeTo(out);
+            out.flush();
+            if (checksummed.length > 0 && checksummed.lastByte != '\n') {
+                out.write('\n');
+                out.flush();
+            }
+            out.write(style.checksumLine(checksummed.checksum.getValue(), checksummed.length)
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (Files.exists(file)) {
+            rotateBackups(file, backupCount);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the newest intact version of the file at {@code file}, looking at the file itself and then at its
+     * {@code backupCount} newest backups. If no version is intact, the file itself is returned if it exists, to be
+     * read and rejected by its reader. Returns {@code Optional.empty()} if neither the file nor any backup exists.
+     */
+    public static Optional<Path> findIntactVersion(Path file, int backupCount) throws IOException {
+        requireNonNull(file);
+        for (int generation = 0; generation <= backupCount; generation++) {
+            Path version = generation == 0 ? file : getBackupPath(file, generation);
+            if (!Files.exists(version)) {
+                continue;
+            }
+            if (isIntact(version)) {
+                if (generation > 0) {
+                    logger.warning("Using backup " + version + " as " + file + " is missing or damaged");
+                }
+                return Optional.of(version);
+            }
+            logger.warning("Checksum of " + version + " does not match its content");
+        }
+        return Files.exists(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    /**
+     * Returns true if the file at {@code file} matches its checksum line, or has no checksum line.
+     */
+    public static boolean isIntact(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int tailLength = (int) Math.min(size, MAX_CHECKSUM_LINE_LENGTH);
+            ByteBuffer tail = ByteBuffer.allocate(tailLength);
+            while (tail.hasRemaining() && channel.read(tail, size - tailLength + tail.position()) >= 0) {
+                // reads until the tail is full
+            }
+            String tailText = new String(tail.array(), StandardCharsets.ISO_8859_1);
+            Matcher checksumLine = findChecksumLine(tailText);
+            if (checksumLine == null) {
+                // a file cut short within its checksum line is damaged, while a file without one is not checked
+                return !PARTIAL_CHECKSUM_LINE_FORMAT.matcher(tailText).find();
+            }
+            long length = Long.parseLong(checksumLine.group("length"));
+            long expectedChecksum = Long.parseLong(checksumLine.group("checksum"), 16);
+            return length == size - tailLength + checksumLine.start()
+                    && checksumOf(Channels.newInputStream(channel.position(0)), length) == expectedChecksum;
+        }
+    }
+
+    /**
+     * Returns {@code content} without the checksum line at its end, or {@code content} itself if it has none.
+     */
+    public static String withoutChecksumLine(String content) {
+        requireNonNull(content);
+        Matcher checksumLine = findChecksumLine(content);
+        return checksumLine == null ? content : content.substring(0, checksumLine.start());
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} that is {@code generation} saves old.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        return siblingOf(file, BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Makes the current version of {@code file} the newest backup, dropping the oldest backup if there are already
+     * {@code backupCount} of them. The file itself is left in place, to be replaced atomically.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        if (backupCount <= 0) {
+            return;
+        }
+        Files.deleteIfExists(getBackupPath(file, backupCount));
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupPath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupPath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Path newestBackup = getBackupPath(file, 1);
+        try {
+            Files.createLink(newestBackup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            // without hard links the file is moved aside, and a crash before it is replaced leaves only the backup
+            Files.move(file, newestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the checksum line at the end of {@code tail}, or null if {@code tail} does not end with one.
+     */
+    private static Matcher findChecksumLine(String tail) {
+        int lineStart = tail.lastIndexOf('\n', tail.length() - 2) + 1;
+        Matcher matcher = CHECKSUM_LINE_FORMAT.matcher(tail);
+        matcher.region(lineStart, tail.length());
+        return matcher.matches() ? matcher : null;
+    }
+
+    /**
+     * Returns the CRC32 of the first {@code length} bytes of {@code in}, or -1 if it has fewer bytes.
+     */
+    private static long checksumOf(InputStream in, long length) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        long remaining = length;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                return -1;
+            }
+            checksum.update(buffer, 0, read);
+            remaining -= read;
+        }
+        return checksum.getValue();
+    }
+
+    private static Path siblingOf(Path file, String suffix) {
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    /**
+     * Computes the CRC32 and length of the bytes written through it, and remembers the last byte.
+     */
+    private static class ChecksumOutputStream extends FilterOutputStream {
+        private final CRC32 checksum = new CRC32();
+        private long length;
+        private int lastByte = -1;
+
+        ChecksumOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            checksum.update(b);
+            length++;
+            lastByte = b & 0xff;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            out.write(b, off, len);
+            checksum.update(b, off, len);
+            length += len;
+            lastByte = b[off + len - 1] & 0xff;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An observable copy of a source list that is changed on another thread than the source list, such as the JavaFX
+ * application thread.
+ * Changes to the source list are recorded on the thread that makes them, and applied to the copy in batches by the
+ * publisher: every change made while an earlier batch waits to be applied joins that batch.
+ */
+public class BatchedListMirror<E> {
+
+    private final ObservableList<E> mirror;
+    private final ObservableList<E> unmodifiableMirror;
+    private final Executor publisher;
+
+    // The changes waiting to be applied to the mirror, in order, guarded by this mirror
+    private List<Runnable> pendingChanges = new ArrayList<>();
+
+    /**
+     * Creates a copy of {@code source} whose changes are applied by {@code publisher}.
+     * {@code source} must not change while this is constructed.
+     */
+    public BatchedListMirror(ObservableList<? extends E> source, Executor publisher) {
+        requireNonNull(source);
+        requireNonNull(publisher);
+        this.mirror = FXCollections.observableArrayList(source);
+        this.unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        this.publisher = publisher;
+        source.addListener(this::recordChange);
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy, to be read only by the publisher's thread.
+     */
+    public ObservableList<E> asUnmodifiableObservableList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Records the changes in {@code change}, copying the elements they add, and schedules them to be applied.
+     */
+    private void recordChange(ListChangeListener.Change<? extends E> change) {
+        List<Runnable> changes = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                List<E> elements = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                changes.add(() -> setRange(from, elements));
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<E> added = new ArrayList<>(change.getAddedSubList());
+                changes.add(() -> replaceRange(from, removedSize, added));
+            }
+        }
+
+        boolean isBatchWaiting;
+        synchronized (this) {
+            isBatchWaiting = !pendingChanges.isEmpty();
+            pendingChanges.addAll(changes);
+        }
+        if (!isBatchWaiting) {
+            publisher.execute(this::applyPendingChanges);
+        }
+    }
+
+    /**
+     * Applies every change recorded so far to the mirror.
+     */
+    private void applyPendingChanges() {
+        List<Runnable> changes;
+        synchronized (this) {
+            changes = pendingChanges;
+            pendingChanges = new ArrayList<>();
+        }
+        changes.forEach(Runnable::run);
+    }
+
+    private void setRange(int from, List<E> elements) {
+        for (int i = 0; i < elements.size(); i++) {
+            mirror.set(from + i, elements.get(i));
+        }
+    }
+
+    /**
+     * Replaces the {@code removedSize} elements of the mirror at {@code from} with {@code added}. Elements replaced
+     * one for one are set in place.
+     */
+    private void replaceRange(int from, int removedSize, List<E> added) {
+        int replacedSize = Math.min(removedSize, added.size());
+        setRange(from, added.subList(0, replacedSize));
+        if (removedSize > replacedSize) {
+            mirror.remove(from + replacedSize, from + removedSize);
+        } else if (added.size() > replacedSize) {
+            mirror.addAll(from + replacedSize, added.subList(replacedSize, added.size()));
+        }
+    }
+}
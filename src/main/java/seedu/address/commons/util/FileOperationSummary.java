@@ -0,0 +1,95 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Summarises an operation on many files: the number of files and bytes it affected, the files it failed on, and
+ * the time it took. Directories are not counted as files.
+ */
+public class FileOperationSummary {
+
+    private final long fileCount;
+    private final long byteCount;
+    private final List<String> failures;
+    private final Duration elapsed;
+
+    public FileOperationSummary(long fileCount, long byteCount, List<String> failures, Duration elapsed) {
+        requireNonNull(failures);
+        requireNonNull(elapsed);
+        this.fileCount = fileCount;
+        this.byteCount = byteCount;
+        this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+        this.elapsed = elapsed;
+    }
+
+    public long getFileCount() {
+        return fileCount;
+    }
+
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * Returns a description of every failure, each naming the file that the operation failed on.
+     */
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(fileCount)
+                .append(" files, ")
+                .append(byteCount)
+                .append(" bytes, ")
+                .append(failures.size())
+                .append(" failures in ")
+                .append(elapsed.toMillis())
+                .append(" ms");
+        failures.forEach(failure -> builder.append("\n  ").append(failure));
+        return builder.toString();
+    }
+
+    /**
+     * Counts the files, bytes and failures of an operation as it runs, possibly on several threads at once.
+     */
+    static class Tally {
+        private final long startTime = System.nanoTime();
+        private final LongAdder fileCount = new LongAdder();
+        private final LongAdder byteCount = new LongAdder();
+        private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+        void addFile(long size) {
+            fileCount.increment();
+            byteCount.add(size);
+        }
+
+        void addFailure(Path path, Exception cause) {
+            failures.add(path + ": " + cause);
+        }
+
+        FileOperationSummary toSummary() {
+            return new FileOperationSummary(fileCount.sum(), byteCount.sum(), new ArrayList<>(failures),
+                    Duration.ofNanos(System.nanoTime() - startTime));
+        }
+    }
+}
@@ -2,12 +2,26 @@ package seedu.address.commons.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Writes, reads, relocates and deletes files
@@ -170,92 +184,195 @@ public class FileUtil {
     }
 
     /**
-     * Moves all files in a given folder, to a designated folder
+     * Moves all files in a given folder, to a designated folder within it.
+     * Hidden files and folders are not moved. A file that cannot be moved is left in place and reported in the
+     * summary returned.
      */
-
-    public static void relocateFiles(Path folder, String designatedFolder) {
-        File currentDirectory = new File(folder.toString());
-        String targetFolder = currentDirectory.toString() + DIRECTORY_INDICATOR
-                                + designatedFolder + DIRECTORY_INDICATOR;
-        String currentName;
-        File[] filesList = currentDirectory.listFiles();
-        for (File file : filesList) {
-            if (file.isDirectory() || file.isHidden()) {
-                continue;
+    public static FileOperationSummary relocateFiles(Path folder, String designatedFolder) {
+        FileOperationSummary.Tally tally = new FileOperationSummary.Tally();
+        Path targetFolder = folder.resolve(designatedFolder);
+        for (Path file : listVisibleEntries(folder, tally)) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (attributes.isDirectory()) {
+                    continue;
+                }
+                move(file, targetFolder.resolve(file.getFileName()));
+                tally.addFile(attributes.size());
+            } catch (IOException e) {
+                tally.addFailure(file, e);
             }
-            currentName = file.getName();
-            file.renameTo(new File(targetFolder + currentName));
         }
+        return tally.toSummary();
     }
 
     /**
      * Deletes all files in a given folder
+     *
+     * @see #deleteAllFiles(Path, int)
      */
-    public static void deleteAllFiles(Path folder) {
-        File currentDirectory = new File(folder.toString());
-        File[] filesList = currentDirectory.listFiles();
-        for (File file : filesList) {
-            //No bookkeeping files stored by the Operating System should be deleted
-            if (file.isHidden()) {
-                continue;
+    public static FileOperationSummary deleteAllFiles(Path folder) {
+        return deleteAllFiles(folder, 1);
+    }
+
+    /**
+     * Deletes all files and folders in a given folder, deleting up to {@code parallelism} of its folders at once.
+     * Hidden files and folders directly in the given folder, such as bookkeeping files stored by the Operating
+     * System, are not deleted. Files that cannot be deleted are left in place and reported in the summary returned.
+     */
+    public static FileOperationSummary deleteAllFiles(Path folder, int parallelism) {
+        FileOperationSummary.Tally tally = new FileOperationSummary.Tally();
+        deleteTrees(listVisibleEntries(folder, tally), parallelism, tally);
+        return tally.toSummary();
+    }
+
+    /**
+     * Deletes the files and folders in a given folder whose names contain any of {@code folderNames}
+     *
+     * @see #deleteAllFiles(Path, int)
+     */
+    public static FileOperationSummary deleteSelectedFolders(Path folder, Set<String> folderNames) {
+        return deleteSelectedFolders(folder, folderNames, 1);
+    }
+
+    /**
+     * Deletes the files and folders in a given folder whose names contain any of {@code folderNames}, deleting up to
+     * {@code parallelism} of them at once. Hidden files and folders are not deleted.
+     */
+    public static FileOperationSummary deleteSelectedFolders(Path folder, Set<String> folderNames, int parallelism) {
+        FileOperationSummary.Tally tally = new FileOperationSummary.Tally();
+        List<Path> targets = new ArrayList<>();
+        for (Path entry : listVisibleEntries(folder, tally)) {
+            String currentName = entry.getFileName().toString();
+            if (folderNames.stream().anyMatch(currentName::contains)) {
+                targets.add(entry);
             }
+        }
+        deleteTrees(targets, parallelism, tally);
+        return tally.toSummary();
+    }
 
-            String[] directoryContents = file.list();
-            if (file.isDirectory() && directoryContents != null) {
-                recursiveDelete(file);
-                continue;
+    /**
+     * Deletes the given folders and everything in them, deleting up to {@code parallelism} folders at once.
+     * Folders that do not exist are skipped.
+     */
+    public static FileOperationSummary deleteFolders(Collection<Path> folders, int parallelism) {
+        FileOperationSummary.Tally tally = new FileOperationSummary.Tally();
+        List<Path> existingFolders = new ArrayList<>();
+        for (Path folder : folders) {
+            if (Files.exists(folder, LinkOption.NOFOLLOW_LINKS)) {
+                existingFolders.add(folder);
             }
-            file.delete();
         }
+        deleteTrees(existingFolders, parallelism, tally);
+        return tally.toSummary();
     }
 
     /**
-     * Deletes all files in a given folder
+     * Returns the files and folders directly in {@code folder} that are not hidden.
+     * A folder that cannot be listed is reported to {@code tally}, and has no entries.
      */
-    public static void deleteSelectedFolders(Path folder, Set<String> folderNames) {
-        File currentDirectory = new File(folder.toString());
-        String currentName;
-        File[] filesList = currentDirectory.listFiles();
-        Boolean isTarget;
-        for (File tempFolder : filesList) {
-            currentName = tempFolder.getName();
-            isTarget = false;
-            for (String name : folderNames) {
-                if (currentName.contains(name)) {
-                    isTarget = true;
+    private static List<Path> listVisibleEntries(Path folder, FileOperationSummary.Tally tally) {
+        List<Path> entries = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder)) {
+            for (Path entry : stream) {
+                if (!Files.isHidden(entry)) {
+                    entries.add(entry);
                 }
             }
+        } catch (IOException e) {
+            tally.addFailure(folder, e);
+        }
+        return entries;
+    }
 
-            //No bookkeeping files stored by the Operating System should be deleted
-            if (tempFolder.isHidden()) {
-                continue;
-            }
+    /**
+     * Moves {@code source} to {@code target}, replacing it, atomically if the file system allows it.
+     */
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
 
-            if (!isTarget) {
-                continue;
-            }
+    /**
+     * Deletes the files and folders {@code roots}, with everything in them, on up to {@code parallelism} threads.
+     * If the current thread is interrupted while waiting for the deletions, the deletions that have not finished are
+     * cancelled and reported to {@code tally}, and the interrupt status of the thread is kept.
+     */
+    private static void deleteTrees(List<Path> roots, int parallelism, FileOperationSummary.Tally tally) {
+        int threadCount = Math.min(parallelism, roots.size());
+        if (threadCount <= 1) {
+            roots.forEach(root -> deleteTree(root, tally));
+            return;
+        }
 
-            String[] directoryContents = tempFolder.list();
-            if (tempFolder.isDirectory() && directoryContents != null) {
-                recursiveDelete(tempFolder);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> deletions = new ArrayList<>();
+        try {
+            for (Path root : roots) {
+                deletions.add(executor.submit(() -> deleteTree(root, tally)));
+            }
+            for (Future<?> deletion : deletions) {
+                deletion.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (int i = 0; i < deletions.size(); i++) {
+                // a deletion already running is left to finish, but may have deleted only part of its folder
+                if (deletions.get(i).cancel(false)) {
+                    tally.addFailure(roots.get(i), new InterruptedException("Deletion was interrupted"));
+                }
             }
-            tempFolder.delete();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Deleting a folder failed unexpectedly", e.getCause());
+        } finally {
+            executor.shutdown();
         }
     }
 
     /**
-     * Helps to delete notes in an occupied folder
+     * Deletes {@code root}, and everything in it if it is a folder. Symbolic links are deleted, not followed.
+     * Everything that cannot be deleted is left in place and reported to {@code tally}.
      */
-    private static void recursiveDelete(File file) {
-        if (file.isDirectory()) {
-            File[] directoryContents = file.listFiles();
-            if (directoryContents != null) {
-                for (File content : directoryContents) {
-                    recursiveDelete(content);
+    private static void deleteTree(Path root, FileOperationSummary.Tally tally) {
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    try {
+                        Files.delete(file);
+                        tally.addFile(attributes.size());
+                    } catch (IOException e) {
+                        tally.addFailure(file, e);
+                    }
+                    return FileVisitResult.CONTINUE;
                 }
-            }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    tally.addFailure(file, e);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path directory, IOException e) {
+                    try {
+                        if (e != null) {
+                            throw e;
+                        }
+                        Files.delete(directory);
+                    } catch (IOException deleteFailure) {
+                        tally.addFailure(directory, deleteFailure);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            tally.addFailure(root, e);
         }
-        file.delete();
     }
 
 }
@@ -0,0 +1,450 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable map sorted by the natural ordering of its keys.
+ * Updating the map returns a new map that shares all unchanged entries with the old one, so keeping many versions
+ * of a large map costs only the {@code O(log n)} nodes rewritten by each update.
+ * <p>
+ * The map is a treap whose node priorities are derived from the keys, which gives every set of keys a single tree
+ * shape. Two versions of a map therefore share whole subtrees wherever they hold the same entries, and
+ * {@link #diff(PersistentSortedMap, ChangeConsumer)} skips those subtrees.
+ * Null keys and null values are not allowed.
+ */
+public final class PersistentSortedMap<K extends Comparable<? super K>, V> implements Iterable<Map.Entry<K, V>> {
+
+    @SuppressWarnings("rawtypes")
+    private static final PersistentSortedMap EMPTY = new PersistentSortedMap<>(null);
+
+    private final Node<K, V> root;
+
+    private PersistentSortedMap(Node<K, V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K extends Comparable<? super K>, V> PersistentSortedMap<K, V> empty() {
+        return (PersistentSortedMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is none.
+     */
+    public V get(K key) {
+        requireNonNull(key);
+        Node<K, V> node = root;
+        while (node != null) {
+            int cmp = key.compareTo(node.key);
+            if (cmp == 0) {
+                return node.value;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns the position of {@code key} in key order if it is in this map. Otherwise, returns
+     * {@code (-(insertion point) - 1)}, where the insertion point is the number of keys less than {@code key}.
+     * This follows the convention of {@link java.util.Collections#binarySearch(List, Object)}.
+     */
+    public int indexOf(K key) {
+        requireNonNull(key);
+        int lessCount = 0;
+        Node<K, V> node = root;
+        while (node != null) {
+            int cmp = key.compareTo(node.key);
+            if (cmp == 0) {
+                return lessCount + sizeOf(node.left);
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                lessCount += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -lessCount - 1;
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}, replacing any previous value of {@code key}.
+     * Returns this map if {@code key} is already mapped to the same {@code value} instance.
+     */
+    public PersistentSortedMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        Node<K, V> newRoot = insert(root, key, priorityOf(key), value);
+        return newRoot == root ? this : new PersistentSortedMap<>(newRoot);
+    }
+
+    /**
+     * Returns a map without {@code key}, or this map if it does not contain {@code key}.
+     */
+    public PersistentSortedMap<K, V> remove(K key) {
+        requireNonNull(key);
+        Node<K, V> newRoot = delete(root, key);
+        return newRoot == root ? this : newRoot == null ? empty() : new PersistentSortedMap<>(newRoot);
+    }
+
+    /**
+     * Returns the values of this map in key order.
+     */
+    public List<V> values() {
+        List<V> values = new ArrayList<>(size());
+        for (Map.Entry<K, V> entry : this) {
+            values.add(entry.getValue());
+        }
+        return values;
+    }
+
+    /**
+     * Reports every key whose value differs between this map and {@code other} to {@code consumer}, in key order.
+     * The value of a key missing from one of the maps is reported as null. Values are compared by identity.
+     * Subtrees shared by both maps are skipped, so comparing two versions that differ in {@code d} keys takes
+     * {@code O(d log n)} time.
+     */
+    public void diff(PersistentSortedMap<K, V> other, ChangeConsumer<K, V> consumer) {
+        requireNonNull(other);
+        requireNonNull(consumer);
+        diffNodes(root, other.root, consumer);
+    }
+
+    /**
+     * Returns an iterator over the entries of this map in key order.
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new EntryIterator<>(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PersistentSortedMap)) {
+            return false;
+        }
+        PersistentSortedMap<?, ?> otherMap = (PersistentSortedMap<?, ?>) other;
+        if (size() != otherMap.size()) {
+            return false;
+        }
+        Iterator<? extends Map.Entry<?, ?>> otherEntries = otherMap.iterator();
+        for (Map.Entry<K, V> entry : this) {
+            Map.Entry<?, ?> otherEntry = otherEntries.next();
+            if (!entry.getKey().equals(otherEntry.getKey()) || !entry.getValue().equals(otherEntry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (Map.Entry<K, V> entry : this) {
+            hash += entry.getKey().hashCode() ^ entry.getValue().hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (Map.Entry<K, V> entry : this) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Returns {@code node} with {@code key} mapped to {@code value}, rotating the new node up while its priority
+     * is higher than its parent's.
+     */
+    private static <K extends Comparable<? super K>, V> Node<K, V> insert(Node<K, V> node, K key, int priority,
+            V value) {
+        if (node == null) {
+            return new Node<>(key, priority, value, null, null);
+        }
+        int cmp = key.compareTo(node.key);
+        if (cmp == 0) {
+            return node.value == value ? node : new Node<>(key, priority, value, node.left, node.right);
+        }
+        if (cmp < 0) {
+            Node<K, V> left = insert(node.left, key, priority, value);
+            if (left == node.left) {
+                return node;
+            }
+            if (left.isAbove(node)) {
+                return left.withRight(node.withLeft(left.right));
+            }
+            return node.withLeft(left);
+        }
+        Node<K, V> right = insert(node.right, key, priority, value);
+        if (right == node.right) {
+            return node;
+        }
+        if (right.isAbove(node)) {
+            return right.withLeft(node.withRight(right.left));
+        }
+        return node.withRight(right);
+    }
+
+    /**
+     * Returns {@code node} without {@code key}.
+     */
+    private static <K extends Comparable<? super K>, V> Node<K, V> delete(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = key.compareTo(node.key);
+        if (cmp == 0) {
+            return join(node.left, node.right);
+        }
+        if (cmp < 0) {
+            Node<K, V> left = delete(node.left, key);
+            return left == node.left ? node : node.withLeft(left);
+        }
+        Node<K, V> right = delete(node.right, key);
+        return right == node.right ? node : node.withRight(right);
+    }
+
+    /**
+     * Joins two trees where every key of {@code lower} is less than every key of {@code higher}.
+     */
+    private static <K extends Comparable<? super K>, V> Node<K, V> join(Node<K, V> lower, Node<K, V> higher) {
+        if (lower == null) {
+            return higher;
+        }
+        if (higher == null) {
+            return lower;
+        }
+        if (lower.isAbove(higher)) {
+            return lower.withRight(join(lower.right, higher));
+        }
+        return higher.withLeft(join(lower, higher.left));
+    }
+
+    /**
+     * Splits {@code node} into the trees of keys less than and greater than {@code key}, and the node of
+     * {@code key} itself if present.
+     */
+    private static <K extends Comparable<? super K>, V> Split<K, V> split(Node<K, V> node, K key) {
+        if (node == null) {
+            return new Split<>(null, null, null);
+        }
+        int cmp = key.compareTo(node.key);
+        if (cmp == 0) {
+            return new Split<>(node.left, node, node.right);
+        }
+        if (cmp < 0) {
+            Split<K, V> parts = split(node.left, key);
+            parts.higher = parts.higher == node.left ? node : node.withLeft(parts.higher);
+            return parts;
+        }
+        Split<K, V> parts = split(node.right, key);
+        parts.lower = parts.lower == node.right ? node : node.withRight(parts.lower);
+        return parts;
+    }
+
+    /**
+     * Reports the differences between the trees {@code oldNode} and {@code newNode} to {@code consumer}.
+     */
+    private static <K extends Comparable<? super K>, V> void diffNodes(Node<K, V> oldNode, Node<K, V> newNode,
+            ChangeConsumer<K, V> consumer) {
+        if (oldNode == newNode) {
+            return;
+        }
+        if (oldNode == null) {
+            new EntryIterator<>(newNode).forEachRemaining(entry ->
+                    consumer.accept(entry.getKey(), null, entry.getValue()));
+            return;
+        }
+        if (newNode == null) {
+            new EntryIterator<>(oldNode).forEachRemaining(entry ->
+                    consumer.accept(entry.getKey(), entry.getValue(), null));
+            return;
+        }
+
+        Split<K, V> parts = oldNode.key.compareTo(newNode.key) == 0
+                ? new Split<>(newNode.left, newNode, newNode.right)
+                : split(newNode, oldNode.key);
+        diffNodes(oldNode.left, parts.lower, consumer);
+        V newValue = parts.node == null ? null : parts.node.value;
+        if (oldNode.value != newValue) {
+            consumer.accept(oldNode.key, oldNode.value, newValue);
+        }
+        diffNodes(oldNode.right, parts.higher, consumer);
+    }
+
+    /**
+     * Returns the treap priority of {@code key}, which scrambles its hash code so that nodes are balanced even
+     * when keys with similar hash codes are inserted in order.
+     */
+    private static int priorityOf(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int sizeOf(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Receives the differences found by {@link #diff(PersistentSortedMap, ChangeConsumer)}.
+     */
+    @FunctionalInterface
+    public interface ChangeConsumer<K, V> {
+        /**
+         * Called for a key whose value changed from {@code oldValue} to {@code newValue}. Either value is null if
+         * the key is absent from that version of the map.
+         */
+        void accept(K key, V oldValue, V newValue);
+    }
+
+    /**
+     * An immutable treap node, which is also the map entry of its key.
+     */
+    private static final class Node<K extends Comparable<? super K>, V> implements Map.Entry<K, V> {
+        private final K key;
+        private final int priority;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int size;
+
+        Node(K key, int priority, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.priority = priority;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+        }
+
+        Node<K, V> withLeft(Node<K, V> newLeft) {
+            return new Node<>(key, priority, value, newLeft, right);
+        }
+
+        Node<K, V> withRight(Node<K, V> newRight) {
+            return new Node<>(key, priority, value, left, newRight);
+        }
+
+        /**
+         * Returns true if this node belongs above {@code other} in the treap. Ties in priority are broken by key
+         * so that the shape of the tree depends only on its keys.
+         */
+        boolean isAbove(Node<K, V> other) {
+            return priority > other.priority || (priority == other.priority && key.compareTo(other.key) < 0);
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V newValue) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Map.Entry
+                    && key.equals(((Map.Entry<?, ?>) other).getKey())
+                    && Objects.equals(value, ((Map.Entry<?, ?>) other).getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * A tree split around a key: the trees of the keys less than and greater than it, and its node if present.
+     */
+    private static final class Split<K extends Comparable<? super K>, V> {
+        private Node<K, V> lower;
+        private final Node<K, V> node;
+        private Node<K, V> higher;
+
+        Split(Node<K, V> lower, Node<K, V> node, Node<K, V> higher) {
+            this.lower = lower;
+            this.node = node;
+            this.higher = higher;
+        }
+    }
+
+    /**
+     * Iterates over the entries of a tree in key order.
+     */
+    private static final class EntryIterator<K extends Comparable<? super K>, V> implements Iterator<Map.Entry<K, V>> {
+        private final Deque<Node<K, V>> path = new ArrayDeque<>();
+
+        EntryIterator(Node<K, V> root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> node = path.pop();
+            pushLeftSpine(node.right);
+            return node;
+        }
+
+        private void pushLeftSpine(Node<K, V> node) {
+            for (Node<K, V> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+}
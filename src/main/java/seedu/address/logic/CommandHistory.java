@@ -1,45 +1,135 @@
 package seedu.address.logic;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.LinkedList;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.DownloadAllNotesCommand;
 import seedu.address.logic.commands.DownloadSelectNotesCommand;
 
 /**
- * Stores the history of commands executed.
+ * Stores the history of commands executed, up to a fixed number of the most recent commands. It may be read by
+ * other threads than the one executing the commands.
+ * The commands are kept in a window of an array whose slots are never written twice, so that the snapshots
+ * returned by {@link #getHistory()} can share the array without copying it and never change. Once the array is full,
+ * the window is moved to a new array, which happens once every {@code capacity} commands at most.
  */
 public class CommandHistory {
-    private LinkedList<String> userInputHistory;
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandHistory.class);
+    private static final int INITIAL_ARRAY_LENGTH = 16;
+
+    private final int capacity;
+    // The history is userInputHistory[start, end), oldest first
+    private String[] userInputHistory;
+    private int start;
+    private int end;
+    // The file the history is kept in, or null if it is only kept in memory
+    private CommandHistoryFile historyFile;
 
     public CommandHistory() {
-        userInputHistory = new LinkedList<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty command history that keeps the {@code capacity} most recent commands.
+     */
+    public CommandHistory(int capacity) {
+        checkArgument(capacity > 0, "The capacity of a command history must be positive.");
+        this.capacity = capacity;
+        userInputHistory = new String[Math.min(INITIAL_ARRAY_LENGTH, 2 * capacity)];
     }
 
     public CommandHistory(CommandHistory commandHistory) {
-        userInputHistory = new LinkedList<>(commandHistory.userInputHistory);
+        this(commandHistory.capacity);
+        commandHistory.getHistory().forEach(this::append);
+    }
+
+    /**
+     * Returns a command history that keeps the {@code capacity} most recent commands in {@code file}, starting with
+     * the commands already kept there. The file is created once a command is added if it does not exist.
+     * @throws IOException if the file cannot be read or written.
+     */
+    public static CommandHistory loadFrom(Path file, int capacity) throws IOException {
+        requireNonNull(file);
+        CommandHistory history = new CommandHistory(capacity);
+        CommandHistoryFile historyFile = new CommandHistoryFile(file);
+        historyFile.read().forEach(history::append);
+        if (!historyFile.isIntact() || historyFile.getRecordCount() != history.size()) {
+            historyFile.rewrite(history.getHistory());
+        }
+        history.historyFile = historyFile;
+        return history;
     }
 
     /**
      * Appends {@code userInput} to the list of user input entered.
      */
-    public void add(String userInput) {
+    public synchronized void add(String userInput) {
         requireNonNull(userInput);
         // Only add history if the previous command was not a download command,
         // this is because download commands involve sensitive information
         if (!userInput.contains(DownloadAllNotesCommand.COMMAND_WORD)
             && !userInput.contains(DownloadSelectNotesCommand.COMMAND_WORD)) {
-            userInputHistory.add(userInput);
+            append(userInput);
+            save(userInput);
         }
     }
 
     /**
-     * Returns a defensive copy of {@code userInputHistory}.
+     * Appends {@code userInput} to the window, dropping the oldest command if the history is full.
      */
-    public List<String> getHistory() {
-        return new LinkedList<>(userInputHistory);
+    private void append(String userInput) {
+        if (end == userInputHistory.length) {
+            String[] movedHistory = new String[Math.min(2 * userInputHistory.length, 2 * capacity)];
+            System.arraycopy(userInputHistory, start, movedHistory, 0, end - start);
+            userInputHistory = movedHistory;
+            end -= start;
+            start = 0;
+        }
+        userInputHistory[end++] = userInput;
+        if (end - start > capacity) {
+            start++;
+        }
+    }
+
+    /**
+     * Appends {@code userInput} to the history file, if there is one, and rewrites the file with only the history
+     * once it holds twice as many commands. The history stops being saved if the file cannot be written.
+     */
+    private void save(String userInput) {
+        if (historyFile == null) {
+            return;
+        }
+        try {
+            historyFile.append(userInput);
+            if (historyFile.getRecordCount() >= 2 * capacity) {
+                historyFile.rewrite(getHistory());
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save the command history, it will no longer be saved: " + e);
+            historyFile = null;
+        }
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the history, oldest first, which does not change as commands are added.
+     */
+    public synchronized List<String> getHistory() {
+        return new Snapshot(userInputHistory, start, end);
+    }
+
+    private int size() {
+        return end - start;
     }
 
     @Override
@@ -56,11 +146,44 @@ public class CommandHistory {
 
         // state check
         CommandHistory other = (CommandHistory) obj;
-        return userInputHistory.equals(other.userInputHistory);
+        return getHistory().equals(other.getHistory());
     }
 
     @Override
     public int hashCode() {
-        return userInputHistory.hashCode();
+        return getHistory().hashCode();
+    }
+
+    /**
+     * A view of a window of an array whose slots in the window are never written again.
+     */
+    private static class Snapshot extends AbstractList<String> implements RandomAccess {
+        private final String[] elements;
+        private final int start;
+        private final int end;
+
+        Snapshot(String[] elements, int start, int end) {
+            this.elements = elements;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return elements[start + index];
+        }
+
+        @Override
+        public int size() {
+            return end - start;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return Arrays.copyOfRange(elements, start, end, Object[].class);
+        }
     }
 }
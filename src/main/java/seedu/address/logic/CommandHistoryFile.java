@@ -0,0 +1,153 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A file that keeps a command history as a header followed by one record per command, oldest first, each record
+ * being the command in modified UTF-8 prefixed by its length, see {@link DataOutputStream#writeUTF(String)}.
+ * Commands are appended to the file as they are added, and the file is rewritten with only the history from time to
+ * time. A record cut short by a crash while it was appended is ignored, and commands too long for a record are not
+ * kept.
+ * The file is written through {@code FileOutputStream}, which unlike a {@code FileChannel} is not closed when the
+ * thread writing it is interrupted, as the thread executing a cancelled command is.
+ */
+class CommandHistoryFile {
+
+    private static final int MAGIC = 0x43484953; // "CHIS"
+    private static final int VERSION = 1;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path file;
+    private int recordCount;
+    private boolean isIntact = true;
+
+    CommandHistoryFile(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    /**
+     * Returns the commands kept in the file, oldest first, or no commands if the file does not exist or is not a
+     * command history file.
+     */
+    List<String> read() throws IOException {
+        List<String> commands = new ArrayList<>();
+        recordCount = 0;
+        isIntact = true;
+        if (Files.notExists(file)) {
+            return commands;
+        }
+
+        ByteArrayInputStream bytes = new ByteArrayInputStream(Files.readAllBytes(file));
+        DataInputStream in = new DataInputStream(bytes);
+        try {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                isIntact = false;
+                return commands;
+            }
+            while (bytes.available() > 0) {
+                commands.add(in.readUTF());
+                recordCount++;
+            }
+        } catch (EOFException | UTFDataFormatException e) {
+            // a header or record cut short
+            isIntact = false;
+        }
+        return commands;
+    }
+
+    /**
+     * Returns the number of commands kept in the file, including the ones that are no longer in the history.
+     */
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns false if the last {@link #read()} found a file that has to be rewritten before commands are appended.
+     */
+    boolean isIntact() {
+        return isIntact;
+    }
+
+    /**
+     * Appends {@code command} to the file, creating the file if it does not exist.
+     */
+    void append(String command) throws IOException {
+        boolean isNew = Files.notExists(file);
+        if (isNew) {
+            FileUtil.createParentDirsOfFile(file);
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(file.toFile(), true)))) {
+            if (isNew) {
+                writeHeader(out);
+            }
+            if (writeCommand(out, command)) {
+                recordCount++;
+            }
+        }
+    }
+
+    /**
+     * Replaces the file with a file that keeps only {@code commands}. If this fails, the file is left as it was.
+     */
+    void rewrite(List<String> commands) throws IOException {
+        FileUtil.createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        int writtenCount = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(tempFile.toFile())))) {
+            writeHeader(out);
+            for (String command : commands) {
+                if (writeCommand(out, command)) {
+                    writtenCount++;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        recordCount = writtenCount;
+        isIntact = true;
+    }
+
+    private static void writeHeader(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+    }
+
+    /**
+     * Writes the record of {@code command}, and returns false without writing anything if it is too long for one.
+     */
+    private static boolean writeCommand(DataOutputStream out, String command) throws IOException {
+        try {
+            out.writeUTF(command);
+            return true;
+        } catch (UTFDataFormatException e) {
+            return false;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
 
 /**
  * Has a cursor that points to an element in the list, and is able to iterate through the list.
@@ -13,7 +14,8 @@ import java.util.NoSuchElementException;
  * {@code next()} and {@code previous()}, the next and previous elements are returned respectively.
  */
 public class ListElementPointer {
-    private List<String> list;
+    private final List<String> list;
+    private final List<String> addedElements = new ArrayList<>();
     private int index;
 
     /**
@@ -21,15 +23,36 @@ public class ListElementPointer {
      * The cursor points to the last element in {@code list}.
      */
     public ListElementPointer(List<String> list) {
-        this.list = new ArrayList<>(list);
-        index = this.list.size() - 1;
+        this(new ArrayList<>(list), list.size() - 1);
+    }
+
+    private ListElementPointer(List<String> list, int index) {
+        this.list = list;
+        this.index = index;
+    }
+
+    /**
+     * Returns a {@code ListElementPointer} which is backed by {@code list} itself, which must never change, such as
+     * a snapshot from {@link CommandHistory#getHistory()}.
+     * The cursor points to the last element in {@code list}.
+     */
+    static ListElementPointer ofUnchangingList(List<String> list) {
+        return new ListElementPointer(list, list.size() - 1);
     }
 
     /**
      * Appends {@code element} to the end of the list.
      */
     public void add(String element) {
-        list.add(element);
+        addedElements.add(element);
+    }
+
+    private int size() {
+        return list.size() + addedElements.size();
+    }
+
+    private String get(int index) {
+        return index < list.size() ? list.get(index) : addedElements.get(index - list.size());
     }
 
     /**
@@ -56,7 +79,7 @@ public class ListElementPointer {
     }
 
     private boolean isWithinBounds(int index) {
-        return index >= 0 && index < list.size();
+        return index >= 0 && index < size();
     }
 
     /**
@@ -67,7 +90,7 @@ public class ListElementPointer {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return list.get(++index);
+        return get(++index);
     }
 
     /**
@@ -78,7 +101,7 @@ public class ListElementPointer {
         if (!hasPrevious()) {
             throw new NoSuchElementException();
         }
-        return list.get(--index);
+        return get(--index);
     }
 
     /**
@@ -89,7 +112,7 @@ public class ListElementPointer {
         if (!hasCurrent()) {
             throw new NoSuchElementException();
         }
-        return list.get(index);
+        return get(index);
     }
 
     @Override
@@ -106,6 +129,7 @@ public class ListElementPointer {
 
         // state check
         ListElementPointer iterator = (ListElementPointer) other;
-        return list.equals(iterator.list) && index == iterator.index;
+        return index == iterator.index && size() == iterator.size()
+                && IntStream.range(0, size()).allMatch(i -> get(i).equals(iterator.get(i)));
     }
 }
@@ -1,5 +1,8 @@
 package seedu.address.logic;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -19,9 +22,26 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /**
+     * Schedules the command to be executed after every command submitted before it, without waiting for it.
+     * The returned future completes exceptionally with a {@code CommandException} or {@code ParseException} if the
+     * command fails. Cancelling the future before the command starts executing cancels the command. Once it has
+     * started, cancelling the future only interrupts a command that is cancellable, which then fails with a
+     * {@code CommandException}, and the future still completes with the outcome of the command.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, once it is available.
+     */
+    CompletableFuture<CommandResult> submit(String commandText);
+
+    /**
+     * Returns an unmodifiable view of the filtered list of persons, to be read only by the thread that the changes
+     * made by commands are published to.
+     */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns the command words that start with {@code partialCommandWord}, in lexicographic order */
+    List<String> getCommandWordCompletions(String partialCommandWord);
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
 }
@@ -1,10 +1,18 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.BatchedListMirror;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -22,31 +30,165 @@ public class LogicManager extends ComponentManager implements Logic {
     private final Model model;
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
+    private final Executor commandExecutor;
+    private final ObservableList<Person> filteredPersonList;
 
+    /**
+     * Creates a LogicManager that executes submitted commands on the thread that submits them, and whose filtered
+     * list of persons is the model's own.
+     */
     public LogicManager(Model model) {
+        this(model, new CommandHistory(), Runnable::run, model.getFilteredPersonList());
+    }
+
+    /**
+     * Creates a LogicManager that executes submitted commands one at a time on its own thread, and publishes the
+     * changes they make to its filtered list of persons with {@code uiExecutor}, such as {@code Platform::runLater}.
+     * The commands executed are added to {@code history}.
+     */
+    public LogicManager(Model model, CommandHistory history, Executor uiExecutor) {
+        this(model, history, newCommandExecutor(), uiExecutor);
+    }
+
+    /**
+     * Creates a LogicManager that executes submitted commands with {@code commandExecutor}, which must execute them
+     * one at a time and in order, and publishes the changes they make with {@code uiExecutor}.
+     */
+    LogicManager(Model model, CommandHistory history, Executor commandExecutor, Executor uiExecutor) {
+        this(model, history, commandExecutor, new BatchedListMirror<Person>(model.getFilteredPersonList(),
+                uiExecutor).asUnmodifiableObservableList());
+    }
+
+    private LogicManager(Model model, CommandHistory history, Executor commandExecutor,
+            ObservableList<Person> filteredPersonList) {
+        requireNonNull(model);
+        requireNonNull(history);
         this.model = model;
-        history = new CommandHistory();
+        this.history = history;
+        this.commandExecutor = commandExecutor;
+        this.filteredPersonList = filteredPersonList;
         addressBookParser = new AddressBookParser();
     }
 
+    /**
+     * Returns an executor that executes commands one at a time on a daemon thread named "logic", which does not keep
+     * the app running once the UI has stopped.
+     */
+    private static ExecutorService newCommandExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "logic");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, null);
+    }
+
+    /**
+     * Parses and executes {@code commandText}, and adds it to the history. The command is executed by
+     * {@code submission} if it is not null, so that it can be cancelled while it executes.
+     */
+    private CommandResult execute(String commandText, SubmittedCommand submission)
+            throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         try {
             Command command = addressBookParser.parseCommand(commandText);
-            return command.execute(model, history);
+            return submission == null ? command.execute(model, history) : submission.execute(command);
         } finally {
             history.add(commandText);
         }
     }
 
+    @Override
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        SubmittedCommand submission = new SubmittedCommand(commandText);
+        commandExecutor.execute(submission::run);
+        return submission;
+    }
+
+    /**
+     * The result of a submitted command, which cancels the command if it is cancelled before the command starts.
+     * Once the command has started, cancelling it only interrupts it if it is cancellable, and the result is still
+     * the outcome of the command, which may have completed before it noticed the interrupt.
+     */
+    private class SubmittedCommand extends CompletableFuture<CommandResult> {
+        private final String commandText;
+        // guarded by this submitted command
+        private boolean isStarted;
+        private Thread executingThread;
+
+        SubmittedCommand(String commandText) {
+            this.commandText = commandText;
+        }
+
+        /**
+         * Executes the command unless it has been cancelled, and completes with its outcome.
+         */
+        void run() {
+            synchronized (this) {
+                if (isDone()) {
+                    return;
+                }
+                isStarted = true;
+            }
+            try {
+                complete(LogicManager.this.execute(commandText, this));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                completeExceptionally(e);
+            }
+        }
+
+        /**
+         * Executes {@code command}, allowing it to be interrupted while it executes if it is cancellable.
+         */
+        CommandResult execute(Command command) throws CommandException {
+            if (!command.isCancellable()) {
+                return command.execute(model, history);
+            }
+            synchronized (this) {
+                executingThread = Thread.currentThread();
+            }
+            try {
+                return command.execute(model, history);
+            } finally {
+                synchronized (this) {
+                    executingThread = null;
+                    // an interrupt that came too late to cancel the command must not affect what follows it
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        @Override
+        public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+            if (!isStarted) {
+                logger.info("----------------[CANCELLED COMMAND][" + commandText + "]");
+                return super.cancel(mayInterruptIfRunning);
+            }
+            if (mayInterruptIfRunning && executingThread != null) {
+                logger.info("----------------[INTERRUPTED COMMAND][" + commandText + "]");
+                executingThread.interrupt();
+            }
+            return false;
+        }
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return filteredPersonList;
+    }
+
+    @Override
+    public List<String> getCommandWordCompletions(String partialCommandWord) {
+        return addressBookParser.getCommandWordCompletions(partialCommandWord);
     }
 
     @Override
     public ListElementPointer getHistorySnapshot() {
-        return new ListElementPointer(history.getHistory());
+        return ListElementPointer.ofUnchangingList(history.getHistory());
     }
 }
@@ -0,0 +1,177 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.MutableModel;
+
+/**
+ * Executes the commands in a file, one per line, as a single change to the address book.
+ * The commands are executed in a single transaction of the model, so that the address book is saved once and its
+ * state is saved once for undo. A line that fails, including one whose command fails unexpectedly, is reported and
+ * leaves no changes behind, and the lines after it are still executed. Nothing is changed if the file cannot be read
+ * or the command is cancelled.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Executes the commands in a file, one per line, "
+        + "as a single change that is undone with a single undo. "
+        + "Blank lines and lines starting with # are skipped, "
+        + "and lines that fail are reported and skipped.\n"
+        + "Parameters: FILE_PATH\n"
+        + "Example: " + COMMAND_WORD + " data/cohort.txt";
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d of %2$d commands from %3$s.";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_LINES_FAILED = "...and %1$d more lines that failed.";
+    public static final String MESSAGE_NOT_ALLOWED_IN_BATCH = "This command cannot be used in a batch";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+
+    static final String COMMENT_MARKER = "#";
+    static final int MAX_REPORTED_FAILURES = 20;
+
+    private static final String MESSAGE_PROGRESS = "Executed %1$d commands from %2$s...";
+    private static final int PROGRESS_INTERVAL = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(BatchCommand.class);
+
+    private final Path file;
+
+    public BatchCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        BatchOutcome outcome = new BatchOutcome();
+        model.transaction(workingCopy -> executeLines(workingCopy, history, outcome));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, outcome.executedCount, outcome.commandCount, file)
+                + describeFailures(outcome.failures));
+    }
+
+    /**
+     * Returns true, as the batch stops before its next line once it is interrupted, and none of its lines are then
+     * applied.
+     */
+    @Override
+    public boolean isCancellable() {
+        return true;
+    }
+
+    /**
+     * Executes the commands in the file against {@code model}, each in a transaction of its own within the batch so
+     * that a command that fails leaves no changes behind, and records the outcome in {@code outcome}.
+     *
+     * @throws CommandException if the file cannot be read or the batch is cancelled.
+     */
+    private void executeLines(MutableModel model, CommandHistory history, BatchOutcome outcome)
+            throws CommandException {
+        AddressBookParser addressBookParser = new AddressBookParser();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (isSkipped(line)) {
+                    continue;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CommandException(Messages.MESSAGE_COMMAND_CANCELLED);
+                }
+                outcome.commandCount++;
+                try {
+                    Command command = addressBookParser.parseCommand(line);
+                    if (!isAllowedInBatch(command)) {
+                        throw new CommandException(MESSAGE_NOT_ALLOWED_IN_BATCH);
+                    }
+                    model.transaction(lineModel -> command.execute(lineModel, history));
+                    outcome.executedCount++;
+                } catch (ParseException | CommandException e) {
+                    String failure = String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage());
+                    logger.warning(failure);
+                    outcome.failures.add(failure);
+                } catch (RuntimeException e) {
+                    String failure = String.format(MESSAGE_LINE_FAILED, lineNumber, e);
+                    logger.log(Level.WARNING, failure, e);
+                    outcome.failures.add(failure);
+                }
+                if (outcome.commandCount % PROGRESS_INTERVAL == 0) {
+                    reportProgress(String.format(MESSAGE_PROGRESS, outcome.commandCount, file));
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, file, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Returns true if {@code line} is blank or a comment, which are not commands.
+     */
+    private static boolean isSkipped(String line) {
+        String trimmedLine = line.trim();
+        return trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_MARKER);
+    }
+
+    /**
+     * Returns false for the commands that change what a batch cannot undo as one change, or that act on the
+     * application rather than the address book.
+     */
+    private static boolean isAllowedInBatch(Command command) {
+        return !(command instanceof BatchCommand
+                || command instanceof UndoCommand
+                || command instanceof RedoCommand
+                || command instanceof ExitCommand
+                || command instanceof DownloadAbstract
+                || command instanceof ClearNotesCommand
+                || command instanceof DeleteSelectNotesCommand);
+    }
+
+    /**
+     * Returns the first {@code MAX_REPORTED_FAILURES} failures, one per line, followed by the number of the others.
+     */
+    private static String describeFailures(List<String> failures) {
+        StringBuilder description = new StringBuilder();
+        failures.stream()
+                .limit(MAX_REPORTED_FAILURES)
+                .forEach(failure -> description.append('\n').append(failure));
+        if (failures.size() > MAX_REPORTED_FAILURES) {
+            description.append('\n')
+                    .append(String.format(MESSAGE_MORE_LINES_FAILED, failures.size() - MAX_REPORTED_FAILURES));
+        }
+        return description.toString();
+    }
+
+    /**
+     * The number of commands in a batch file and of those executed, and the failures of the others.
+     */
+    private static class BatchOutcome {
+        private final List<String> failures = new ArrayList<>();
+        private int commandCount;
+        private int executedCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && file.equals(((BatchCommand) other).file));
+    }
+}
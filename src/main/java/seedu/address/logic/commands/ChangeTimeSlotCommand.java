@@ -138,7 +138,7 @@ public class ChangeTimeSlotCommand extends Command {
                 activity = actions[i];
 
                 if (!changedTimeSlots.get(day).get(changeTimeToIndex(time)).toString().equalsIgnoreCase(activity)) {
-                    changedTimeSlots.get(day).set(changeTimeToIndex(time), new TimeSlots(activity));
+                    changedTimeSlots.get(day).set(changeTimeToIndex(time), TimeSlots.of(activity));
                     didTimetableChange = true;
                 }
 
@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.ui.CommandProgressEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -19,4 +21,22 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model, CommandHistory history) throws CommandException;
 
+    /**
+     * Returns true if this command can be cancelled while it executes. Such a command stops with a
+     * {@code CommandException} once its thread is interrupted, and leaves no partial changes behind.
+     * Other commands are always executed to completion once they have started.
+     */
+    public boolean isCancellable() {
+        return false;
+    }
+
+    /**
+     * Displays {@code message} to the user while the command is still executing.
+     * Long-running commands should report their progress this way, and should be cancellable, see
+     * {@link #isCancellable()}.
+     */
+    protected void reportProgress(String message) {
+        EventsCenter.getInstance().post(new CommandProgressEvent(message));
+    }
+
 }
@@ -17,6 +17,9 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.Select;
 
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+
 /**
  * DownloadAbstract is an abstract class that does the basic setting up of Selenium chrome drivers. Implementation of
  * DownloadAllNotesCommand and DownloadSelectNotesCommand extends on this class
@@ -59,6 +62,12 @@ public abstract class DownloadAbstract extends Command {
 
     protected static final String NEWLINE_SEPARATOR = "\r\n";
 
+    protected static final String MESSAGE_PROGRESS_LOGGING_IN = "Logging in to IVLE...";
+
+    protected static final String MESSAGE_PROGRESS_FINDING_MODULE = "Looking for the module on IVLE...";
+
+    protected static final String MESSAGE_PROGRESS_DOWNLOADING = "Downloading the notes of %1$s...";
+
     protected String username;
     protected String password;
     protected String moduleCode;
@@ -222,6 +231,29 @@ public abstract class DownloadAbstract extends Command {
 
     protected abstract void downloadFiles(WebDriver driver);
 
+    /**
+     * Returns true, as the command stops before its next page of IVLE once it is interrupted, so that it downloads
+     * and adds no notes.
+     */
+    @Override
+    public boolean isCancellable() {
+        return true;
+    }
+
+    /**
+     * closeIfCancelled closes the current WebDriver session and stops the command if it has been cancelled,
+     * so that a cancelled download does not go on to the next page of IVLE.
+     *
+     * @param driver is the current WebDriver session
+     */
+
+    protected void closeIfCancelled(WebDriver driver) throws CommandException {
+        if (Thread.currentThread().isInterrupted()) {
+            driver.close();
+            throw new CommandException(Messages.MESSAGE_COMMAND_CANCELLED);
+        }
+    }
+
     /**
      * dynamicWaiting implements "busy waiting" to prevent premature termination of chromeDriver in event that
      * the file download size requires more time than the default timeout of chromeDriver
@@ -53,6 +53,7 @@ public class DownloadAllNotesCommand extends DownloadAbstract {
             throw new CommandException(Messages.MESSAGE_CHROME_DRIVER_NOT_FOUND);
         }
 
+        reportProgress(MESSAGE_PROGRESS_LOGGING_IN);
         WebDriver driver = initializeWebDriver();
         try {
             loginIvle(driver);
@@ -64,10 +65,13 @@ public class DownloadAllNotesCommand extends DownloadAbstract {
             driver.close();
             throw new CommandException(Messages.MESSAGE_USERNAME_PASSWORD_ERROR + NEWLINE_SEPARATOR + MESSAGE_USAGE);
         }
+        closeIfCancelled(driver);
+        reportProgress(MESSAGE_PROGRESS_FINDING_MODULE);
         if (!isModuleExisting(driver)) {
             driver.close();
             throw new CommandException(Messages.MESSAGE_MODULE_NOT_FOUND + NEWLINE_SEPARATOR + MESSAGE_USAGE);
         }
+        closeIfCancelled(driver);
         /**
          * Updated to disable download operations, if isDownloadDisabled==true.
          * Function will not proceed after this if statement.
@@ -77,10 +81,12 @@ public class DownloadAllNotesCommand extends DownloadAbstract {
             return new CommandResult(Messages.MESSAGE_DOWNLOAD_DISABLED);
         }
         initializeDownloadFolder();
+        reportProgress(String.format(MESSAGE_PROGRESS_DOWNLOADING, moduleCode));
         downloadFiles(driver);
         try {
             dynamicWaiting();
         } catch (InterruptedException ie) {
+            driver.close();
             throw new CommandException(Messages.MESSAGE_DYNAMIC_WAITING_INTERRUPTED);
         }
         driver.close();
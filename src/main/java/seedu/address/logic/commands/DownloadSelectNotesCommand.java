@@ -79,6 +79,7 @@ public class DownloadSelectNotesCommand extends DownloadAbstract {
             throw new CommandException(Messages.MESSAGE_CHROME_DRIVER_NOT_FOUND);
         }
 
+        reportProgress(MESSAGE_PROGRESS_LOGGING_IN);
         WebDriver driver = initializeWebDriver();
         try {
             loginIvle(driver);
@@ -90,10 +91,13 @@ public class DownloadSelectNotesCommand extends DownloadAbstract {
             driver.close();
             throw new CommandException(Messages.MESSAGE_USERNAME_PASSWORD_ERROR + NEWLINE_SEPARATOR + MESSAGE_USAGE);
         }
+        closeIfCancelled(driver);
+        reportProgress(MESSAGE_PROGRESS_FINDING_MODULE);
         if (!isModuleExisting(driver)) {
             driver.close();
             throw new CommandException(Messages.MESSAGE_MODULE_NOT_FOUND + NEWLINE_SEPARATOR + MESSAGE_USAGE);
         }
+        closeIfCancelled(driver);
         if (fileSelect == null) {
             availableDownloadFiles = getFileNames(driver);
             driver.close();
@@ -110,6 +114,7 @@ public class DownloadSelectNotesCommand extends DownloadAbstract {
         }
 
         initializeDownloadFolder();
+        reportProgress(String.format(MESSAGE_PROGRESS_DOWNLOADING, moduleCode));
         try {
             downloadFiles(driver);
         } catch (IndexOutOfBoundsException iobe) {
@@ -119,6 +124,7 @@ public class DownloadSelectNotesCommand extends DownloadAbstract {
         try {
             dynamicWaiting();
         } catch (InterruptedException ie) {
+            driver.close();
             throw new CommandException(Messages.MESSAGE_DYNAMIC_WAITING_INTERRUPTED);
         }
         driver.close();
@@ -12,7 +12,6 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Base64;
 import java.util.List;
-import java.util.Map;
 
 import javafx.collections.ObservableList;
 
@@ -84,7 +83,7 @@ public class ExportCommand extends Command {
         }
 
         if (!privacy.equalsIgnoreCase("public")) {
-            changeToBusy(myPerson);
+            myPerson = changeToBusy(myPerson);
         }
 
         String serializedString = getSerializedString(myPerson);
@@ -118,25 +117,12 @@ public class ExportCommand extends Command {
     }
 
     /**
-     * Changes all time slots that have activities to a busy slot.
+     * Returns a copy of {@code source} with all time slots that have activities changed to a busy slot.
      */
-    private void changeToBusy(Person source) {
-
-        Map<String, List<TimeSlots>> timeSlots = source.getTimeSlots();
-        String[] days = {"mon", "tue", "wed", "thu", "fri"};
-        for (String day : days) {
-            List<TimeSlots> daySlots = timeSlots.get(day);
-            for (int i = 0; i < 12; i++) {
-                TimeSlots activity = daySlots.get(i);
-
-                System.out.println(activity.toString() + " zzk");
-                if (!activity.toString().equalsIgnoreCase("free")) {
-                    activity = new TimeSlots("busy");
-                    daySlots.set(i, activity);
-                }
-            }
-        }
-
+    private Person changeToBusy(Person source) {
+        return new Person(source.getName(), source.getPhone(), source.getEmail(), source.getAddress(),
+            source.getTags(), source.getEnrolledModules(),
+            source.getTimetable().withBusyActivity(TimeSlots.BUSY.toString()));
     }
 
     @Override
@@ -47,15 +47,15 @@ public class ImportCommand extends Command {
         requireNonNull(model);
         Person p = getSerializedPerson(personString);
 
-        String outputToUser = MESSAGE_SUCCESS;
-
-        if (model.hasPerson(p)) {
-            model.deletePerson(p);
-            outputToUser = MESSAGE_SUCCESS_OVERWRITE;
-        }
-
-        model.addPerson(p);
-        model.commitAddressBook();
+        String outputToUser = model.hasPerson(p) ? MESSAGE_SUCCESS_OVERWRITE : MESSAGE_SUCCESS;
+
+        // the existing contact is replaced as a single change, so that it is never missing from the address book
+        model.transaction(transaction -> {
+            if (transaction.hasPerson(p)) {
+                transaction.deletePerson(p);
+            }
+            transaction.addPerson(p);
+        });
         return new CommandResult(outputToUser);
 
     }
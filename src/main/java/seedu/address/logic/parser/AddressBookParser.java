@@ -3,10 +3,12 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ChangeTimeSlotCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearNotesCommand;
@@ -35,13 +37,61 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * Command words are looked up in a trie of the commands registered below, which also completes partial command words.
  */
 public class AddressBookParser {
 
     /**
-     * Used for initial separation of command word and args.
+     * Creates the command for a command word from the arguments that follow it.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    @FunctionalInterface
+    private interface CommandFactory {
+        Command create(String arguments) throws ParseException;
+    }
+
+    private static final StringTrie<CommandFactory> COMMANDS = new StringTrie<>(registerCommands());
+
+    /**
+     * Returns the factories of the commands, keyed by their command words.
+     */
+    private static Map<String, CommandFactory> registerCommands() {
+        Map<String, CommandFactory> commands = new LinkedHashMap<>();
+        // ============================== AddressBook Commands ==============================
+        commands.put(AddCommand.COMMAND_WORD, arguments -> new AddCommandParser().parse(arguments));
+        commands.put(EditCommand.COMMAND_WORD, arguments -> new EditCommandParser().parse(arguments));
+        commands.put(SelectCommand.COMMAND_WORD, arguments -> new SelectCommandParser().parse(arguments));
+        commands.put(DeleteCommand.COMMAND_WORD, arguments -> new DeleteCommandParser().parse(arguments));
+        commands.put(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        commands.put(FindCommand.COMMAND_WORD, arguments -> new FindCommandParser().parse(arguments));
+        commands.put(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        commands.put(HistoryCommand.COMMAND_WORD, arguments -> new HistoryCommand());
+        commands.put(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        commands.put(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        commands.put(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        commands.put(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        commands.put(BatchCommand.COMMAND_WORD, arguments -> new BatchCommandParser().parse(arguments));
+
+        // ============================== Time Table Commands ==============================
+        commands.put(ChangeTimeSlotCommand.COMMAND_WORD,
+            arguments -> new ChangeTimeSlotCommandParser().parse(arguments));
+        commands.put(ExportCommand.COMMAND_WORD, arguments -> new ExportCommandParser().parse(arguments));
+        commands.put(FilterCommand.COMMAND_WORD, arguments -> new FilterCommandParser().parse(arguments));
+        commands.put(FreeCommand.COMMAND_WORD, arguments -> new FreeCommandParser().parse(arguments));
+        commands.put(ImportCommand.COMMAND_WORD, arguments -> new ImportCommandParser().parse(arguments));
+        commands.put(MergeCommand.COMMAND_WORD, arguments -> new MergeCommandParser().parse(arguments));
+        commands.put(UpdateMergedCommand.COMMAND_WORD, arguments -> new UpdateMergedCommand());
+
+        // ============================== Notes Download Commands ==============================
+        commands.put(ClearNotesCommand.COMMAND_WORD, arguments -> new ClearNotesCommand());
+        commands.put(DeleteSelectNotesCommand.COMMAND_WORD,
+            arguments -> new DeleteSelectNotesCommandParser().parse(arguments));
+        commands.put(DownloadAllNotesCommand.COMMAND_WORD,
+            arguments -> new DownloadAllNotesCommandParser().parse(arguments));
+        commands.put(DownloadSelectNotesCommand.COMMAND_WORD,
+            arguments -> new DownloadSelectNotesCommandParser().parse(arguments));
+        commands.put(ShowNotesCommand.COMMAND_WORD, arguments -> new ShowNotesCommand());
+        return commands;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -51,92 +101,48 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        // the command word is the leading run of non-whitespace characters, and the arguments are what follows it
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        if (commandWordEnd == 0 || hasLineTerminator(trimmedInput, commandWordEnd)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-        // ============================== AddressBook Commands ==============================
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case SelectCommand.COMMAND_WORD:
-            return new SelectCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case HistoryCommand.COMMAND_WORD:
-            return new HistoryCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
-
-        case RedoCommand.COMMAND_WORD:
-            return new RedoCommand();
-
-        // ============================== Time Table Commands ==============================
-        case ChangeTimeSlotCommand.COMMAND_WORD:
-            return new ChangeTimeSlotCommandParser().parse(arguments);
-
-        case ExportCommand.COMMAND_WORD:
-            return new ExportCommandParser().parse(arguments);
-
-        case FilterCommand.COMMAND_WORD:
-            return new FilterCommandParser().parse(arguments);
-
-        case FreeCommand.COMMAND_WORD:
-            return new FreeCommandParser().parse(arguments);
-
-        case ImportCommand.COMMAND_WORD:
-            return new ImportCommandParser().parse(arguments);
-
-        case MergeCommand.COMMAND_WORD:
-            return new MergeCommandParser().parse(arguments);
-
-        case UpdateMergedCommand.COMMAND_WORD:
-            return new UpdateMergedCommand();
-
-        // ============================== Notes Download Commands ==============================
-        case ClearNotesCommand.COMMAND_WORD:
-            return new ClearNotesCommand();
-
-        case DeleteSelectNotesCommand.COMMAND_WORD:
-            return new DeleteSelectNotesCommandParser().parse(arguments);
-
-        case DownloadAllNotesCommand.COMMAND_WORD:
-            return new DownloadAllNotesCommandParser().parse(arguments);
+        final CommandFactory commandFactory = COMMANDS.get(trimmedInput, 0, commandWordEnd);
+        if (commandFactory == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return commandFactory.create(trimmedInput.substring(commandWordEnd));
+    }
 
-        case DownloadSelectNotesCommand.COMMAND_WORD:
-            return new DownloadSelectNotesCommandParser().parse(arguments);
+    /**
+     * Returns the command words that start with {@code partialCommandWord}, in lexicographic order.
+     */
+    public List<String> getCommandWordCompletions(String partialCommandWord) {
+        return COMMANDS.keysStartingWith(partialCommandWord);
+    }
 
-        case ShowNotesCommand.COMMAND_WORD:
-            return new ShowNotesCommand();
+    /**
+     * Returns true if {@code c} separates the command word from its arguments, as {@code \s} does in a regex.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns true if {@code input} has a line terminator at or after {@code fromIndex}, which arguments must not have.
+     */
+    private static boolean hasLineTerminator(String input, int fromIndex) {
+        for (int i = fromIndex; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
         }
+        return false;
     }
 
 }
@@ -1,9 +1,8 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,137 +11,81 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * The arguments string is scanned once, looking up the prefixes in a trie at every whitespace. The trie of the
+ * prefixes in {@link CliSyntax} is built only once.
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE_PREFIX = new Prefix("");
+    private static final StringTrie<Prefix> CLI_SYNTAX_PREFIXES = trieOf(CliSyntax.getAllPrefixes());
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * Where several given prefixes occur at the same position, the longest one is recognized.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
+        StringTrie<Prefix> trie = areCliSyntaxPrefixes(prefixes) ? CLI_SYNTAX_PREFIXES : trieOf(prefixes);
+        Predicate<Prefix> isGiven = match -> isAnyOf(match, prefixes);
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
 
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        Prefix currentPrefix = PREAMBLE_PREFIX;
+        int valueStartPosition = 0;
+        // A prefix is only recognized where there is a whitespace before it
+        int whitespacePosition = argsString.indexOf(' ');
+        while (whitespacePosition != -1) {
+            int prefixPosition = whitespacePosition + 1;
+            Prefix prefix = trie.longestMatchAt(argsString, prefixPosition, isGiven);
+            if (prefix != null) {
+                argMultimap.put(currentPrefix, argsString.substring(valueStartPosition, prefixPosition).trim());
+                currentPrefix = prefix;
+                valueStartPosition = prefixPosition + prefix.getPrefix().length();
+            }
+            whitespacePosition = argsString.indexOf(' ', Math.max(prefixPosition, valueStartPosition - 1));
         }
+        argMultimap.put(currentPrefix, argsString.substring(valueStartPosition).trim());
 
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+        return argMultimap;
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * Returns true if every one of {@code prefixes} is in {@link CliSyntax}.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+    private static boolean areCliSyntaxPrefixes(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            String prefixString = prefix.getPrefix();
+            if (CLI_SYNTAX_PREFIXES.get(prefixString, 0, prefixString.length()) == null) {
+                return false;
+            }
         }
-
-        return argMultimap;
+        return true;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns true if {@code prefix} is one of {@code prefixes}.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private static boolean isAnyOf(Prefix prefix, Prefix... prefixes) {
+        for (Prefix candidate : prefixes) {
+            if (candidate.equals(prefix)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Returns a trie of {@code prefixes}, each mapped to itself.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
-        }
-
-        Prefix getPrefix() {
-            return prefix;
+    private static StringTrie<Prefix> trieOf(Prefix... prefixes) {
+        Map<String, Prefix> prefixesByString = new LinkedHashMap<>();
+        for (Prefix prefix : prefixes) {
+            prefixesByString.put(prefix.getPrefix(), prefix);
         }
+        return new StringTrie<>(prefixesByString);
     }
 
 }
@@ -18,4 +18,13 @@ public class CliSyntax {
     public static final Prefix PREFIX_MODULECODE = new Prefix("mod/");
     public static final Prefix PREFIX_SELECT_FILE = new Prefix("file/");
     public static final Prefix PREFIX_FREE = new Prefix("f/");
+
+    /**
+     * Returns every prefix defined above.
+     */
+    public static Prefix[] getAllPrefixes() {
+        return new Prefix[] {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG,
+            PREFIX_ENROLLED_MODULE, PREFIX_MERGE, PREFIX_USERNAME, PREFIX_PASSWORD, PREFIX_MODULECODE,
+            PREFIX_SELECT_FILE, PREFIX_FREE};
+    }
 }
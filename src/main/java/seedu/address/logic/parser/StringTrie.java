@@ -0,0 +1,148 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * An immutable trie of strings, each mapped to a value. Strings are looked up character by character in the text
+ * they occur in, without creating substrings.
+ */
+final class StringTrie<V> {
+
+    private final Node<V> root;
+
+    /**
+     * Creates a trie of the keys of {@code entries}, each mapped to its value.
+     */
+    StringTrie(Map<String, ? extends V> entries) {
+        requireNonNull(entries);
+        MutableNode<V> mutableRoot = new MutableNode<>();
+        entries.forEach((key, value) -> {
+            requireNonNull(value);
+            MutableNode<V> node = mutableRoot;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOf(key.charAt(i));
+            }
+            node.key = key;
+            node.value = value;
+        });
+        root = mutableRoot.freeze();
+    }
+
+    /**
+     * Returns the value of {@code text.subSequence(start, end)}, or null if it is not in this trie.
+     */
+    V get(CharSequence text, int start, int end) {
+        Node<V> node = root;
+        for (int i = start; i < end && node != null; i++) {
+            node = node.childOf(text.charAt(i));
+        }
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Returns the value of the longest string in this trie that occurs in {@code text} at {@code start} and whose
+     * value is accepted by {@code isAccepted}, or null if there is none.
+     */
+    V longestMatchAt(CharSequence text, int start, Predicate<? super V> isAccepted) {
+        V longestMatch = null;
+        Node<V> node = root;
+        for (int i = start; node != null; i++) {
+            if (node.value != null && isAccepted.test(node.value)) {
+                longestMatch = node.value;
+            }
+            node = i < text.length() ? node.childOf(text.charAt(i)) : null;
+        }
+        return longestMatch;
+    }
+
+    /**
+     * Returns the strings in this trie that start with {@code prefix}, in lexicographic order.
+     */
+    List<String> keysStartingWith(String prefix) {
+        Node<V> node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.childOf(prefix.charAt(i));
+        }
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        List<String> keys = new ArrayList<>();
+        node.collectKeys(keys);
+        return keys;
+    }
+
+    /**
+     * A node of the trie, whose children are kept in order of their characters.
+     */
+    private static final class Node<V> {
+        private final char[] labels;
+        private final List<Node<V>> children;
+        private final String key;
+        private final V value;
+
+        Node(char[] labels, List<Node<V>> children, String key, V value) {
+            this.labels = labels;
+            this.children = children;
+            this.key = key;
+            this.value = value;
+        }
+
+        /**
+         * Returns the child reached through {@code label}, or null if there is none.
+         */
+        Node<V> childOf(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children.get(index);
+        }
+
+        /**
+         * Adds the strings ending at this node and its descendants to {@code keys}, in lexicographic order.
+         */
+        void collectKeys(List<String> keys) {
+            if (key != null) {
+                keys.add(key);
+            }
+            for (Node<V> child : children) {
+                child.collectKeys(keys);
+            }
+        }
+    }
+
+    /**
+     * A node of a trie being built, whose children are kept in order of their characters.
+     */
+    private static final class MutableNode<V> {
+        private final SortedMap<Character, MutableNode<V>> children = new TreeMap<>();
+        private String key;
+        private V value;
+
+        /**
+         * Returns the child reached through {@code label}, adding it if there is none.
+         */
+        MutableNode<V> childOf(char label) {
+            return children.computeIfAbsent(label, unused -> new MutableNode<>());
+        }
+
+        /**
+         * Returns the immutable node of this node and its descendants.
+         */
+        Node<V> freeze() {
+            char[] labels = new char[children.size()];
+            List<Node<V>> frozenChildren = new ArrayList<>(children.size());
+            for (Map.Entry<Character, MutableNode<V>> child : children.entrySet()) {
+                labels[frozenChildren.size()] = child.getKey();
+                frozenChildren.add(child.getValue().freeze());
+            }
+            return new Node<>(labels, frozenChildren, key, value);
+        }
+    }
+}
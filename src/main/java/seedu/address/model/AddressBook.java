@@ -3,16 +3,23 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.util.SampleDataUtil.getTagSet;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.function.Predicate;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentSortedMap;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.TimeSlots;
+import seedu.address.model.person.TimetableContainsModulePredicate;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -22,6 +29,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final MergedGroupIndex groupIndex;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -32,6 +40,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        groupIndex = new MergedGroupIndex(persons::findByName);
     }
 
     public AddressBook() {
@@ -56,6 +65,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        groupIndex.clear();
+        for (Person person : persons) {
+            if (!MergedGroupIndex.isGroup(person)) {
+                groupIndex.add(person);
+            }
+        }
+        for (Person person : persons) {
+            if (MergedGroupIndex.isGroup(person)) {
+                groupIndex.add(person);
+            }
+        }
+        updateChangedGroups();
     }
 
     /**
@@ -64,6 +85,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // the persons of another address book are known to be unique and can be shared without copying
+            restore(((AddressBook) newData).getSnapshot());
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -82,7 +108,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        Optional<Person> overwritten = persons.findByName(p.getName().fullName);
         persons.add(p);
+        overwritten.ifPresent(groupIndex::remove);
+        groupIndex.add(p);
+        updateChangedGroups();
     }
 
     /**
@@ -93,7 +123,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void updatePerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        Person stored = persons.findByName(target.getName().fullName).orElse(target);
         persons.setPerson(target, editedPerson);
+        groupIndex.replace(stored, editedPerson);
+        updateChangedGroups();
     }
 
     /**
@@ -101,13 +134,92 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        Person stored = persons.findByName(key.getName().fullName).orElse(key);
         persons.remove(key);
+        groupIndex.remove(stored);
+        updateChangedGroups();
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons as {@code predicate}, answered from the module and free slot
+     * indexes of this address book instead of testing every person.
+     */
+    public Predicate<Person> toIndexedPredicate(TimetableContainsModulePredicate predicate) {
+        return persons.toIndexedPredicate(predicate);
+    }
+
+    /**
+     * Removes the contacts that are no longer in the address book from every merged group, and adds the user to the
+     * merged groups that do not include the user yet. The timetables of merged groups are otherwise kept current as
+     * their members change.
+     *
+     * @return the names of the removed contacts, each mapped to the names of the groups it was removed from.
+     */
+    public Map<String, List<String>> pruneMergedGroups() {
+        Map<String, List<String>> removedMembers = groupIndex.pruneMembers();
+        updateChangedGroups();
+        return removedMembers;
     }
 
     public void setSelf() {
         Person self = (new Person(new Name("Self"), new Phone("000"), new Email("self@self"), new Address("self"),
                 getTagSet("self"), new TreeMap<>(), TimeSlots.initTimeSlots()));
-        persons.add(self);
+        addPerson(self);
+    }
+
+    /**
+     * Replaces the merged groups whose timetable or members changed with their current versions.
+     */
+    private void updateChangedGroups() {
+        for (Person group : groupIndex.drainChangedGroups()) {
+            persons.setPerson(group, group);
+        }
+    }
+
+    //// snapshot operations
+
+    /**
+     * Returns an immutable snapshot of the persons in this address book, keyed by full name.
+     * Taking a snapshot does not copy any person, and later changes to this address book do not affect it.
+     */
+    @Override
+    public PersistentSortedMap<String, Person> getSnapshot() {
+        return persons.getSnapshot();
+    }
+
+    /**
+     * Restores the persons in {@code snapshot}, which must have been taken with {@link #getSnapshot()}.
+     * Only the persons that differ from the current ones are re-indexed.
+     *
+     * @return true if any person differed from the current ones.
+     */
+    boolean restore(PersistentSortedMap<String, Person> snapshot) {
+        requireNonNull(snapshot);
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        persons.getSnapshot().diff(snapshot, (name, oldPerson, newPerson) -> {
+            if (oldPerson != null) {
+                removed.add(oldPerson);
+            }
+            if (newPerson != null) {
+                added.add(newPerson);
+            }
+        });
+
+        removed.forEach(groupIndex::remove);
+        persons.restore(snapshot);
+        for (Person person : added) {
+            if (!MergedGroupIndex.isGroup(person)) {
+                groupIndex.add(person);
+            }
+        }
+        for (Person person : added) {
+            if (MergedGroupIndex.isGroup(person)) {
+                groupIndex.add(person);
+            }
+        }
+        updateChangedGroups();
+        return !removed.isEmpty() || !added.isEmpty();
     }
 
     //// util methods
@@ -123,6 +235,25 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns a read-only copy of this address book in constant time, by sharing the persons of its current state.
+     */
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        PersistentSortedMap<String, Person> snapshot = getSnapshot();
+        return new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(snapshot.values()));
+            }
+
+            @Override
+            public PersistentSortedMap<String, Person> getSnapshot() {
+                return snapshot;
+            }
+        };
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
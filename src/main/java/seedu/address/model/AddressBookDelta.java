@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.PersistentSortedMap;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons that changed between two versions of an address book, in order of their names.
+ * A person whose details changed is reported as removed with its old details, and added with its new details.
+ */
+public class AddressBookDelta {
+
+    private final List<Person> removedPersons;
+    private final List<Person> addedPersons;
+
+    public AddressBookDelta(List<Person> removedPersons, List<Person> addedPersons) {
+        requireNonNull(removedPersons);
+        requireNonNull(addedPersons);
+        this.removedPersons = Collections.unmodifiableList(new ArrayList<>(removedPersons));
+        this.addedPersons = Collections.unmodifiableList(new ArrayList<>(addedPersons));
+    }
+
+    /**
+     * Returns the changes from the address book whose snapshot is {@code oldSnapshot} to the one whose snapshot is
+     * {@code newSnapshot}, which takes time in proportion to the number of changes rather than of persons.
+     */
+    static AddressBookDelta between(PersistentSortedMap<String, Person> oldSnapshot,
+            PersistentSortedMap<String, Person> newSnapshot) {
+        List<Person> removedPersons = new ArrayList<>();
+        List<Person> addedPersons = new ArrayList<>();
+        oldSnapshot.diff(newSnapshot, (name, oldPerson, newPerson) -> {
+            if (oldPerson != null) {
+                removedPersons.add(oldPerson);
+            }
+            if (newPerson != null) {
+                addedPersons.add(newPerson);
+            }
+        });
+        return new AddressBookDelta(removedPersons, addedPersons);
+    }
+
+    /**
+     * Returns the persons that are no longer in the address book, or whose details changed, with their old details.
+     */
+    public List<Person> getRemovedPersons() {
+        return removedPersons;
+    }
+
+    /**
+     * Returns the persons that are new to the address book, or whose details changed, with their new details.
+     */
+    public List<Person> getAddedPersons() {
+        return addedPersons;
+    }
+
+    /**
+     * Returns true if no person changed.
+     */
+    public boolean isEmpty() {
+        return removedPersons.isEmpty() && addedPersons.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookDelta // instanceof handles nulls
+                && removedPersons.equals(((AddressBookDelta) other).removedPersons)
+                && addedPersons.equals(((AddressBookDelta) other).addedPersons));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * removedPersons.hashCode() + addedPersons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return removedPersons.size() + " persons removed, " + addedPersons.size() + " persons added";
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.person.WeeklyTimetable;
+
+/**
+ * Finds the windows of time in which every one of a group of persons is free.
+ * The group is reduced once to a bitmask of its common free slots, indexed as in {@link WeeklyTimetable}, so
+ * every search costs a few word operations per day regardless of the size of the group.
+ * A window is a run of consecutive common free slots within a day.
+ */
+public class AvailabilitySearcher {
+
+    /** Number of days searched, which ends on the starting day of the following week. */
+    private static final int DAYS_SEARCHED = WeeklyTimetable.NUM_DAYS + 1;
+    private static final long DAY_MASK = (1L << WeeklyTimetable.SLOTS_PER_DAY) - 1;
+
+    private final long commonFreeMask;
+
+    /**
+     * Creates a searcher over the slots set in {@code commonFreeMask}.
+     */
+    public AvailabilitySearcher(long commonFreeMask) {
+        this.commonFreeMask = commonFreeMask & WeeklyTimetable.ALL_SLOTS_MASK;
+    }
+
+    /**
+     * Creates a searcher over the slots in which every one of {@code timetables} is free.
+     */
+    public static AvailabilitySearcher of(List<WeeklyTimetable> timetables) {
+        return new AvailabilitySearcher(TimetableMergeEngine.commonFreeMask(timetables));
+    }
+
+    public long getCommonFreeMask() {
+        return commonFreeMask;
+    }
+
+    /**
+     * Returns the first {@code maxWindows} windows of at least {@code minSlots} slots, in time order, starting from
+     * {@code slot} of {@code day}. Windows on the starting day begin no earlier than {@code slot}. The search
+     * continues through the following days of the week and ends with the whole of the starting day of the next
+     * week.
+     *
+     * @throws IllegalArgumentException if {@code day} or {@code slot} is out of range, or {@code minSlots} is not
+     *     positive.
+     */
+    public List<FreeWindow> findNext(int day, int slot, int maxWindows, int minSlots) {
+        if (day < 0 || day >= WeeklyTimetable.NUM_DAYS || slot < 0 || slot > WeeklyTimetable.SLOTS_PER_DAY
+                || minSlots <= 0) {
+            throw new IllegalArgumentException("Invalid search from day " + day + " slot " + slot);
+        }
+
+        List<FreeWindow> windows = new ArrayList<>();
+        for (int offset = 0; offset < DAYS_SEARCHED && windows.size() < maxWindows; offset++) {
+            int currentDay = (day + offset) % WeeklyTimetable.NUM_DAYS;
+            long freeSlots = (commonFreeMask >>> WeeklyTimetable.slotIndex(currentDay, 0)) & DAY_MASK;
+            if (offset == 0) {
+                freeSlots &= DAY_MASK << slot;
+            }
+            addWindows(currentDay, offset, freeSlots, minSlots, maxWindows, windows);
+        }
+        return windows;
+    }
+
+    /**
+     * Returns the first window of at least one slot starting from {@code slot} of {@code day}, if any.
+     *
+     * @see #findNext(int, int, int, int)
+     */
+    public FreeWindow findNext(int day, int slot) {
+        List<FreeWindow> windows = findNext(day, slot, 1, 1);
+        return windows.isEmpty() ? null : windows.get(0);
+    }
+
+    /**
+     * Adds the runs of set bits in {@code freeSlots} that are at least {@code minSlots} long to {@code windows},
+     * until {@code windows} holds {@code maxWindows} windows.
+     */
+    private static void addWindows(int day, int daysAhead, long freeSlots, int minSlots, int maxWindows,
+            List<FreeWindow> windows) {
+        long remaining = freeSlots;
+        while (remaining != 0 && windows.size() < maxWindows) {
+            int start = Long.numberOfTrailingZeros(remaining);
+            int length = Long.numberOfTrailingZeros(~(remaining >>> start));
+            if (length >= minSlots) {
+                windows.add(new FreeWindow(day, daysAhead, start, start + length));
+            }
+            remaining &= ~(((1L << length) - 1) << start);
+        }
+    }
+
+    /**
+     * A window of consecutive free slots within a day.
+     * Guarantees: immutable.
+     */
+    public static final class FreeWindow {
+        private static final int FIRST_HOUR = 8;
+
+        private final int day;
+        private final int daysAhead;
+        private final int startSlot;
+        private final int endSlot;
+
+        FreeWindow(int day, int daysAhead, int startSlot, int endSlot) {
+            this.day = day;
+            this.daysAhead = daysAhead;
+            this.startSlot = startSlot;
+            this.endSlot = endSlot;
+        }
+
+        /** Returns the index of the day of the window in the week. */
+        public int getDay() {
+            return day;
+        }
+
+        /** Returns the number of days from the starting day of the search to the day of the window. */
+        public int getDaysAhead() {
+            return daysAhead;
+        }
+
+        /** Returns the first slot of the window. */
+        public int getStartSlot() {
+            return startSlot;
+        }
+
+        /** Returns the slot right after the window. */
+        public int getEndSlot() {
+            return endSlot;
+        }
+
+        /** Returns the hour of the day at which the window starts, from 8 to 19. */
+        public int getStartHour() {
+            return FIRST_HOUR + startSlot;
+        }
+
+        /** Returns the hour of the day at which the window ends, from 9 to 20. */
+        public int getEndHour() {
+            return FIRST_HOUR + endSlot;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof FreeWindow // instanceof handles nulls
+                    && day == ((FreeWindow) other).day
+                    && daysAhead == ((FreeWindow) other).daysAhead
+                    && startSlot == ((FreeWindow) other).startSlot
+                    && endSlot == ((FreeWindow) other).endSlot);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(day, daysAhead, startSlot, endSlot);
+        }
+
+        @Override
+        public String toString() {
+            return WeeklyTimetable.dayName(day) + " " + getStartHour() + ":00-" + getEndHour() + ":00";
+        }
+    }
+}
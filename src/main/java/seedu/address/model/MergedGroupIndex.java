@@ -0,0 +1,324 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.IsMergedPredicate;
+import seedu.address.model.person.IsSelfPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.WeeklyTimetable;
+
+/**
+ * Keeps the timetables of merged groups current as their members change.
+ * Every group keeps per-slot busy counters that always equal the sum of the busy masks of those of its listed
+ * members who are in the address book. When a member is added, edited or removed, only the counters of the groups
+ * listing that member are adjusted, and those groups are marked dirty so that the address book can replace them.
+ * Members are listed by name in the group's address, as written by {@link TimetableMergeEngine#mergeGroup}.
+ */
+class MergedGroupIndex {
+
+    private static final String MEMBER_DELIMITER_REGEX = "\\s*(=>|,|\\s)\\s";
+
+    private static final IsMergedPredicate IS_MERGED = new IsMergedPredicate();
+    private static final IsSelfPredicate IS_SELF = new IsSelfPredicate();
+
+    private final Function<String, Optional<Person>> lookup;
+    private final Map<String, Group> groups = new HashMap<>();
+    private final Map<String, Set<String>> groupsByMember = new HashMap<>();
+    private final Set<String> dirtyGroups = new LinkedHashSet<>();
+    private String selfName;
+
+    /**
+     * Creates an index that finds persons in the address book by full name through {@code lookup}.
+     */
+    MergedGroupIndex(Function<String, Optional<Person>> lookup) {
+        this.lookup = requireNonNull(lookup);
+    }
+
+    static boolean isGroup(Person person) {
+        return IS_MERGED.test(person);
+    }
+
+    /**
+     * Forgets all groups and members.
+     */
+    void clear() {
+        groups.clear();
+        groupsByMember.clear();
+        dirtyGroups.clear();
+        selfName = null;
+    }
+
+    /**
+     * Starts tracking {@code person}, which has just been added to the address book.
+     */
+    void add(Person person) {
+        if (isGroup(person)) {
+            addGroup(person);
+        } else {
+            addMember(person);
+        }
+    }
+
+    /**
+     * Stops tracking {@code person}, which has just been removed from the address book.
+     */
+    void remove(Person person) {
+        if (isGroup(person)) {
+            removeGroup(person);
+        } else {
+            removeMember(person);
+        }
+    }
+
+    /**
+     * Updates the index after {@code target} has been replaced by {@code editedPerson} in the address book.
+     */
+    void replace(Person target, Person editedPerson) {
+        if (isGroup(target) || isGroup(editedPerson)) {
+            remove(target);
+            add(editedPerson);
+            return;
+        }
+
+        String oldName = target.getName().fullName;
+        String newName = editedPerson.getName().fullName;
+        boolean isRenamed = !oldName.equals(newName);
+        if (!isRenamed && target.getTimetable().getBusyMask() == editedPerson.getTimetable().getBusyMask()) {
+            updateSelf(target, editedPerson);
+            return;
+        }
+
+        removeMember(target);
+        if (isRenamed) {
+            renameMember(oldName, newName);
+        }
+        addMember(editedPerson);
+    }
+
+    /**
+     * Removes the members that are no longer in the address book from every group, and adds the user to groups
+     * that do not list the user yet.
+     *
+     * @return the names of the removed members, each mapped to the names of the groups it was removed from.
+     */
+    Map<String, List<String>> pruneMembers() {
+        Map<String, List<String>> removedMembers = new LinkedHashMap<>();
+        Optional<Person> self = Optional.ofNullable(selfName).flatMap(this::findMember);
+        for (Group group : groups.values()) {
+            String groupName = group.person.getName().fullName;
+            Iterator<String> it = group.memberNames.iterator();
+            while (it.hasNext()) {
+                String memberName = it.next();
+                if (!findMember(memberName).isPresent()) {
+                    it.remove();
+                    unlink(memberName, groupName);
+                    removedMembers.computeIfAbsent(memberName, unused -> new ArrayList<>()).add(groupName);
+                    group.isAddressChanged = true;
+                }
+            }
+            if (self.isPresent() && !group.memberNames.contains(selfName)) {
+                group.memberNames.add(selfName);
+                groupsByMember.computeIfAbsent(selfName, unused -> new HashSet<>()).add(groupName);
+                adjust(group, self.get().getTimetable().getBusyMask(), 1);
+                group.isAddressChanged = true;
+            }
+            if (group.isAddressChanged) {
+                dirtyGroups.add(groupName);
+            }
+        }
+        return removedMembers;
+    }
+
+    /**
+     * Returns the current versions of the groups that changed since the last call, and marks them clean.
+     * Groups whose members changed without changing their address or timetable are not returned.
+     * The returned groups should replace the groups of the same name in the address book.
+     */
+    List<Person> drainChangedGroups() {
+        List<Person> changed = new ArrayList<>();
+        for (String groupName : dirtyGroups) {
+            Group group = groups.get(groupName);
+            Person old = group.person;
+            Address address = group.isAddressChanged && !group.memberNames.isEmpty()
+                    ? new Address(String.join(TimetableMergeEngine.MEMBER_SEPARATOR, group.memberNames))
+                    : old.getAddress();
+            WeeklyTimetable timetable = TimetableMergeEngine.toGroupTimetable(group.busyCounts);
+            group.isAddressChanged = false;
+            if (address.equals(old.getAddress()) && timetable.equals(old.getTimetable())) {
+                continue;
+            }
+            group.person = new Person(old.getName(), old.getPhone(), old.getEmail(), address, old.getTags(),
+                    old.getEnrolledModules(), timetable);
+            changed.add(group.person);
+        }
+        dirtyGroups.clear();
+        return changed;
+    }
+
+    /**
+     * Starts tracking {@code group}, counting the busy slots of its members that are in the address book.
+     * The group is marked dirty if its stored timetable does not match those counts.
+     */
+    private void addGroup(Person group) {
+        String groupName = group.getName().fullName;
+        String memberList = group.getAddress().value.trim();
+        List<String> memberNames =
+                new ArrayList<>(new LinkedHashSet<>(Arrays.asList(memberList.split(MEMBER_DELIMITER_REGEX))));
+
+        long[] busyMasks = new long[memberNames.size()];
+        for (int i = 0; i < busyMasks.length; i++) {
+            String memberName = memberNames.get(i);
+            if (memberName.equalsIgnoreCase(selfName)) {
+                memberName = selfName;
+                memberNames.set(i, selfName);
+            }
+            groupsByMember.computeIfAbsent(memberName, unused -> new HashSet<>()).add(groupName);
+            busyMasks[i] = findMember(memberName).map(member -> member.getTimetable().getBusyMask()).orElse(0L);
+        }
+
+        Group entry = new Group(group, memberNames, TimetableMergeEngine.countBusy(busyMasks));
+        groups.put(groupName, entry);
+        if (!TimetableMergeEngine.toGroupTimetable(entry.busyCounts).equals(group.getTimetable())) {
+            dirtyGroups.add(groupName);
+        }
+    }
+
+    /**
+     * Stops tracking {@code group} and its member list.
+     */
+    private void removeGroup(Person group) {
+        String groupName = group.getName().fullName;
+        Group entry = groups.remove(groupName);
+        dirtyGroups.remove(groupName);
+        if (entry == null) {
+            return;
+        }
+        for (String memberName : entry.memberNames) {
+            unlink(memberName, groupName);
+        }
+    }
+
+    /**
+     * Adds the busy slots of {@code member} to the groups listing it.
+     */
+    private void addMember(Person member) {
+        if (IS_SELF.test(member)) {
+            selfName = member.getName().fullName;
+        }
+        adjustGroupsOf(member, 1);
+    }
+
+    /**
+     * Removes the busy slots of {@code member} from the groups listing it.
+     */
+    private void removeMember(Person member) {
+        if (IS_SELF.test(member)) {
+            selfName = null;
+        }
+        adjustGroupsOf(member, -1);
+    }
+
+    /**
+     * Replaces {@code oldName} by {@code newName} in the member lists of the groups listing {@code oldName}.
+     */
+    private void renameMember(String oldName, String newName) {
+        Set<String> groupNames = groupsByMember.remove(oldName);
+        if (groupNames == null) {
+            return;
+        }
+        for (String groupName : groupNames) {
+            Group group = groups.get(groupName);
+            int index = group.memberNames.indexOf(oldName);
+            if (group.memberNames.contains(newName)) {
+                group.memberNames.remove(index);
+            } else {
+                group.memberNames.set(index, newName);
+                groupsByMember.computeIfAbsent(newName, unused -> new HashSet<>()).add(groupName);
+            }
+            group.isAddressChanged = true;
+            dirtyGroups.add(groupName);
+        }
+    }
+
+    /**
+     * Keeps track of the user's name when the user is edited without affecting any group.
+     */
+    private void updateSelf(Person target, Person editedPerson) {
+        if (IS_SELF.test(target) && !IS_SELF.test(editedPerson)) {
+            selfName = null;
+        } else if (IS_SELF.test(editedPerson)) {
+            selfName = editedPerson.getName().fullName;
+        }
+    }
+
+    /**
+     * Adds {@code delta} times the busy mask of {@code member} to every group listing {@code member}.
+     */
+    private void adjustGroupsOf(Person member, int delta) {
+        Set<String> groupNames = groupsByMember.get(member.getName().fullName);
+        if (groupNames == null) {
+            return;
+        }
+        long busyMask = member.getTimetable().getBusyMask();
+        for (String groupName : groupNames) {
+            adjust(groups.get(groupName), busyMask, delta);
+            dirtyGroups.add(groupName);
+        }
+    }
+
+    private static void adjust(Group group, long busyMask, int delta) {
+        for (long bits = busyMask; bits != 0; bits &= bits - 1) {
+            group.busyCounts[Long.numberOfTrailingZeros(bits)] += delta;
+        }
+    }
+
+    /**
+     * Removes {@code groupName} from the groups listing {@code memberName}.
+     */
+    private void unlink(String memberName, String groupName) {
+        Set<String> groupNames = groupsByMember.get(memberName);
+        if (groupNames != null) {
+            groupNames.remove(groupName);
+            if (groupNames.isEmpty()) {
+                groupsByMember.remove(memberName);
+            }
+        }
+    }
+
+    /**
+     * Returns the person called {@code name} if it is in the address book and can be a group member.
+     */
+    private Optional<Person> findMember(String name) {
+        return lookup.apply(name).filter(person -> !isGroup(person));
+    }
+
+    /**
+     * A merged group with its listed members and per-slot busy counters.
+     */
+    private static class Group {
+        private Person person;
+        private final List<String> memberNames;
+        private final int[] busyCounts;
+        private boolean isAddressChanged;
+
+        Group(Person person, List<String> memberNames, int[] busyCounts) {
+            this.person = person;
+            this.memberNames = memberNames;
+            this.busyCounts = busyCounts;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimetableContainsModulePredicate;
 
 /**
  * The API of the Model component.
@@ -49,6 +52,13 @@ public interface Model {
      */
     void updatePerson(Person target, Person editedPerson);
 
+    /**
+     * Removes the contacts that are no longer in the address book from every merged group.
+     *
+     * @return the names of the removed contacts, each mapped to the names of the groups it was removed from.
+     */
+    Map<String, List<String>> pruneMergedGroups();
+
     /**
      * Returns an unmodifiable view of the filtered person list
      */
@@ -61,6 +71,14 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, using the module and
+     * free slot indexes of the address book.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(TimetableContainsModulePredicate predicate);
+
     /**
      * Returns true if the model has previous address book states to restore.
      */
@@ -86,6 +104,16 @@ public interface Model {
      */
     void commitAddressBook();
 
+    /**
+     * Changes the address book with {@code body} as a single change. {@code body} changes a working copy of the
+     * address book, whose changes are applied to this model once {@code body} returns: the persons that changed are
+     * re-indexed once, the filtered person list is notified once, a single event carrying the changes is raised
+     * and a single address book state is saved, if anything changed.
+     * If {@code body} throws, none of its changes are applied and the exception is rethrown.
+     * This model must not be changed other than through {@code body} until it returns.
+     */
+    <E extends Exception> void transaction(Transaction<E> body) throws E;
+
     // ================ Notes Manipulation ==============================
 
     /**
@@ -113,5 +141,11 @@ public interface Model {
      */
     void deleteSelectedNotes(String event, Set<String> moduleNames);
 
-
+    /**
+     * Changes the address book within a transaction, see {@link #transaction(Transaction)}.
+     */
+    @FunctionalInterface
+    interface Transaction<E extends Exception> {
+        void apply(MutableModel model) throws E;
+    }
 }
@@ -3,6 +3,8 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Predicate;
@@ -15,7 +17,9 @@ import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.NotesEvent;
+import seedu.address.commons.util.PersistentSortedMap;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimetableContainsModulePredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -26,6 +30,8 @@ public class ModelManager extends ComponentManager implements Model {
     private final VersionedAddressBook versionedAddressBook;
     private final FilteredList<Person> filteredPersons;
     private final NotesDownloaded notesDownloaded;
+    // The persons of the address book when the last AddressBookChangedEvent was raised
+    private PersistentSortedMap<String, Person> lastRaisedSnapshot;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -36,9 +42,10 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryLimit());
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
         notesDownloaded = new NotesDownloaded(notesData);
+        lastRaisedSnapshot = versionedAddressBook.getSnapshot();
     }
 
     public ModelManager() {
@@ -56,9 +63,12 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedAddressBook;
     }
 
-    /** Raises an event to indicate the model has changed */
+    /** Raises an event to indicate the model has changed, carrying the changes since the last such event */
     private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(versionedAddressBook));
+        PersistentSortedMap<String, Person> snapshot = versionedAddressBook.getSnapshot();
+        AddressBookDelta delta = AddressBookDelta.between(lastRaisedSnapshot, snapshot);
+        lastRaisedSnapshot = snapshot;
+        raise(new AddressBookChangedEvent(versionedAddressBook, delta));
     }
 
     @Override
@@ -88,6 +98,13 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    @Override
+    public Map<String, List<String>> pruneMergedGroups() {
+        Map<String, List<String>> removedMembers = versionedAddressBook.pruneMergedGroups();
+        indicateAddressBookChanged();
+        return removedMembers;
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -105,6 +122,12 @@ public class ModelManager extends ComponentManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(TimetableContainsModulePredicate predicate) {
+        requireNonNull(predicate);
+        filteredPersons.setPredicate(versionedAddressBook.toIndexedPredicate(predicate));
+    }
+
     //=========== Undo/Redo =================================================================================
 
     @Override
@@ -134,6 +157,25 @@ public class ModelManager extends ComponentManager implements Model {
         versionedAddressBook.commit();
     }
 
+    //=========== Transactions ==============================================================================
+
+    @Override
+    public <E extends Exception> void transaction(Transaction<E> body) throws E {
+        requireNonNull(body);
+        WorkingCopyModel workingCopy = new WorkingCopyModel(versionedAddressBook, filteredPersons.getPredicate(), this);
+        // if the body throws, the working copy is dropped and this model is left as it was
+        body.apply(workingCopy);
+
+        // applying the working copy finds its changes, so they are not diffed twice
+        if (versionedAddressBook.restore(workingCopy.getAddressBook().getSnapshot())) {
+            versionedAddressBook.commit();
+            indicateAddressBookChanged();
+        }
+        if (filteredPersons.getPredicate() != workingCopy.getFilterPredicate()) {
+            filteredPersons.setPredicate(workingCopy.getFilterPredicate());
+        }
+    }
+
     // ================ Notes Manipulation ==============================
 
     /**
@@ -0,0 +1,23 @@
+package seedu.address.model;
+
+/**
+ * A {@code Model} whose changes to the address book are held by a transaction until it ends, see
+ * {@link Model#transaction(Model.Transaction)}.
+ * Its changes raise no events and do not save address book states: the transaction applies them to the model all at
+ * once when it ends. It has no address book states to undo or redo, so undoing and redoing do nothing. Its notes are
+ * not part of the transaction: they are those of the model, and changes to them are made to the model right away.
+ */
+public interface MutableModel extends Model {
+
+    /**
+     * Returns the changes made to the address book since the transaction started.
+     */
+    AddressBookDelta getChanges();
+
+    /**
+     * Changes the address book with {@code body} within the enclosing transaction. If {@code body} throws, the
+     * changes it made are undone before the exception is rethrown, and the enclosing transaction goes on.
+     */
+    @Override
+    <E extends Exception> void transaction(Transaction<E> body) throws E;
+}
@@ -1,6 +1,8 @@
 package seedu.address.model;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentSortedMap;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,4 +16,27 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a read-only copy of this address book that is not affected by later changes to it.
+     * The copy may be read from any thread.
+     */
+    default ReadOnlyAddressBook snapshot() {
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(getPersonList()));
+        return () -> persons;
+    }
+
+    /**
+     * Returns an immutable map of the persons in this address book, keyed by full name.
+     * An {@code AddressBook} and its snapshots share their maps with its earlier versions, so that two versions can be
+     * compared with {@link PersistentSortedMap#diff} in time proportional to the number of changes between them.
+     */
+    default PersistentSortedMap<String, Person> getSnapshot() {
+        PersistentSortedMap<String, Person> persons = PersistentSortedMap.empty();
+        for (Person person : getPersonList()) {
+            persons = persons.put(person.getName().fullName, person);
+        }
+        return persons;
+    }
+
 }
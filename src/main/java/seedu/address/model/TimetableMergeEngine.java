@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.WeeklyTimetable;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Merges the timetables of any number of persons in a single pass.
+ * Busy slots are counted with bit-sliced counters over the persons' busy masks: counter {@code k} holds bit
+ * {@code k} of the busy count of every slot of the week, so adding a person costs a few word operations
+ * regardless of how many slots are busy.
+ */
+public class TimetableMergeEngine {
+
+    public static final String MERGED_TAG = "merged";
+    public static final String MERGED_PHONE = "99999999";
+    public static final String MERGED_EMAIL = "notimportant@no";
+    public static final String MEMBER_SEPARATOR = ", ";
+
+    private TimetableMergeEngine() {}
+
+    /**
+     * Returns the number of busy persons in each slot of the week, indexed as in {@link WeeklyTimetable}.
+     */
+    public static int[] countBusy(List<WeeklyTimetable> timetables) {
+        requireNonNull(timetables);
+        long[] busyMasks = new long[timetables.size()];
+        for (int i = 0; i < busyMasks.length; i++) {
+            busyMasks[i] = timetables.get(i).getBusyMask();
+        }
+        return countBusy(busyMasks);
+    }
+
+    /**
+     * Returns the number of masks with each bit set, for the lowest {@link WeeklyTimetable#NUM_SLOTS} bits.
+     */
+    public static int[] countBusy(long[] busyMasks) {
+        requireNonNull(busyMasks);
+        int width = 32 - Integer.numberOfLeadingZeros(busyMasks.length);
+        long[] counters = new long[Math.max(width, 1)];
+        for (long mask : busyMasks) {
+            long carry = mask;
+            for (int k = 0; carry != 0; k++) {
+                long overflow = counters[k] & carry;
+                counters[k] ^= carry;
+                carry = overflow;
+            }
+        }
+
+        int[] counts = new int[WeeklyTimetable.NUM_SLOTS];
+        for (int k = 0; k < counters.length; k++) {
+            long bits = counters[k];
+            while (bits != 0) {
+                int slot = Long.numberOfTrailingZeros(bits);
+                if (slot >= WeeklyTimetable.NUM_SLOTS) {
+                    break;
+                }
+                counts[slot] += 1 << k;
+                bits &= bits - 1;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns a mask of the slots of the week in which every one of {@code timetables} is free.
+     */
+    public static long commonFreeMask(List<WeeklyTimetable> timetables) {
+        requireNonNull(timetables);
+        long busy = 0L;
+        for (WeeklyTimetable timetable : timetables) {
+            busy |= timetable.getBusyMask();
+        }
+        return ~busy & WeeklyTimetable.ALL_SLOTS_MASK;
+    }
+
+    /**
+     * Returns a group timetable whose activity in each slot is the number of busy persons in that slot.
+     */
+    public static WeeklyTimetable toGroupTimetable(int[] busyCounts) {
+        requireNonNull(busyCounts);
+        String[] activities = new String[WeeklyTimetable.NUM_SLOTS];
+        for (int i = 0; i < activities.length; i++) {
+            activities[i] = Integer.toString(busyCounts[i]);
+        }
+        return WeeklyTimetable.fromActivities(activities);
+    }
+
+    /**
+     * Merges the timetables of {@code members} into a merged group contact called {@code groupName}.
+     * The members' names are kept in the group's address, in the given order.
+     */
+    public static Person mergeGroup(Name groupName, List<Person> members) {
+        requireNonNull(groupName);
+        requireNonNull(members);
+        long[] busyMasks = new long[members.size()];
+        StringBuilder memberNames = new StringBuilder();
+        for (int i = 0; i < busyMasks.length; i++) {
+            Person member = members.get(i);
+            busyMasks[i] = member.getTimetable().getBusyMask();
+            if (i > 0) {
+                memberNames.append(MEMBER_SEPARATOR);
+            }
+            memberNames.append(member.getName().fullName);
+        }
+
+        Set<Tag> mergedTags = Collections.singleton(new Tag(MERGED_TAG));
+        return new Person(groupName, new Phone(MERGED_PHONE), new Email(MERGED_EMAIL),
+                new Address(memberNames.toString()), mergedTags, new TreeMap<>(),
+                toGroupTimetable(countBusy(busyMasks)));
+    }
+}
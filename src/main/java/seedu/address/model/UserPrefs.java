@@ -5,15 +5,35 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.CommandHistory;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs {
 
+    /**
+     * The formats in which the address book can be stored.
+     */
+    public enum AddressBookFormat {
+        /** The whole address book is rewritten as xml on every save. */
+        XML,
+        /** Changes are appended to a journal that is merged into an xml snapshot from time to time. */
+        JOURNAL,
+        /** The whole address book is rewritten in a compact binary format on every save. */
+        BINARY
+    }
+
     private GuiSettings guiSettings;
     private Path addressBookFilePath = Paths.get("data" , "addressbook.xml");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.XML;
     private Path notesFolderPath = Paths.get("notes");
+    private int undoHistoryLimit = VersionedAddressBook.DEFAULT_HISTORY_LIMIT;
+    private int loadParallelism = 0;
+    private boolean lazyPersonDetails = false;
+    private int notesDeleteParallelism = 0;
+    private int commandHistoryCapacity = CommandHistory.DEFAULT_CAPACITY;
+    private Path commandHistoryFilePath = null;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -39,6 +59,14 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
     public Path getNotesFolderPath() {
         return notesFolderPath;
     }
@@ -47,6 +75,72 @@ public class UserPrefs {
         this.notesFolderPath = notesFolderPath;
     }
 
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    /**
+     * Returns the number of threads that convert the persons of the address book when it is loaded, or 0 to use
+     * every available processor.
+     */
+    public int getLoadParallelism() {
+        return loadParallelism;
+    }
+
+    public void setLoadParallelism(int loadParallelism) {
+        this.loadParallelism = loadParallelism;
+    }
+
+    /**
+     * Returns true if the enrolled modules and timetables of persons read from a binary address book file are to be
+     * decoded only when first used.
+     */
+    public boolean isLazyPersonDetails() {
+        return lazyPersonDetails;
+    }
+
+    public void setLazyPersonDetails(boolean lazyPersonDetails) {
+        this.lazyPersonDetails = lazyPersonDetails;
+    }
+
+    /**
+     * Returns the number of threads that delete downloaded notes, each deleting a different module folder, or 0 to
+     * use as many threads as there are processors.
+     */
+    public int getNotesDeleteParallelism() {
+        return notesDeleteParallelism;
+    }
+
+    public void setNotesDeleteParallelism(int notesDeleteParallelism) {
+        this.notesDeleteParallelism = notesDeleteParallelism;
+    }
+
+    /**
+     * Returns the number of most recent commands kept in the command history.
+     */
+    public int getCommandHistoryCapacity() {
+        return commandHistoryCapacity;
+    }
+
+    public void setCommandHistoryCapacity(int commandHistoryCapacity) {
+        this.commandHistoryCapacity = commandHistoryCapacity;
+    }
+
+    /**
+     * Returns the file the command history is kept in across restarts, or null if it is not kept.
+     */
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryFilePath;
+    }
+
+    public void setCommandHistoryFilePath(Path commandHistoryFilePath) {
+        this.commandHistoryFilePath = commandHistoryFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -59,12 +153,20 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(addressBookFilePath, o.addressBookFilePath);
+                && Objects.equals(addressBookFilePath, o.addressBookFilePath)
+                && addressBookFormat == o.addressBookFormat
+                && undoHistoryLimit == o.undoHistoryLimit
+                && loadParallelism == o.loadParallelism
+                && lazyPersonDetails == o.lazyPersonDetails
+                && notesDeleteParallelism == o.notesDeleteParallelism
+                && commandHistoryCapacity == o.commandHistoryCapacity
+                && Objects.equals(commandHistoryFilePath, o.commandHistoryFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, undoHistoryLimit, loadParallelism,
+                lazyPersonDetails, notesDeleteParallelism, commandHistoryCapacity, commandHistoryFilePath);
     }
 
     @Override
@@ -72,6 +174,13 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nLoad parallelism : " + loadParallelism);
+        sb.append("\nLazy person details : " + lazyPersonDetails);
+        sb.append("\nNotes delete parallelism : " + notesDeleteParallelism);
+        sb.append("\nCommand history capacity : " + commandHistoryCapacity);
+        sb.append("\nCommand history file location : " + commandHistoryFilePath);
         return sb.toString();
     }
 
@@ -3,30 +3,55 @@ package seedu.address.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.commons.util.PersistentSortedMap;
+import seedu.address.model.person.Person;
+
 /**
  * {@code AddressBook} that keeps track of its own history.
+ * Each saved state is an immutable snapshot of the persons that shares every unchanged person with the states
+ * before and after it, so saving a state does not copy the address book.
+ * At most {@code historyLimit} states before the current one are kept; older states are dropped.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+
+    private final List<PersistentSortedMap<String, Person>> addressBookStateList;
+    private final int historyLimit;
     private int currentStatePointer;
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, DEFAULT_HISTORY_LIMIT);
+    }
+
+    /**
+     * Creates a {@code VersionedAddressBook} starting at {@code initialState} that can undo at most
+     * {@code historyLimit} commits.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyLimit) {
         super(initialState);
+        if (historyLimit < 0) {
+            throw new IllegalArgumentException("History limit should not be negative");
+        }
+        this.historyLimit = historyLimit;
 
         addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
+        addressBookStateList.add(getSnapshot());
         currentStatePointer = 0;
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves a snapshot of the current {@code AddressBook} state at the end of the state list.
+     * Undone states are removed from the state list, and the oldest state is dropped if the list is full.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
+        addressBookStateList.add(getSnapshot());
         currentStatePointer++;
+        if (currentStatePointer > historyLimit) {
+            addressBookStateList.remove(0);
+            currentStatePointer--;
+        }
     }
 
     private void removeStatesAfterCurrentPointer() {
@@ -41,7 +66,7 @@ public class VersionedAddressBook extends AddressBook {
             throw new NoUndoableStateException();
         }
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        restore(addressBookStateList.get(currentStatePointer));
     }
 
     /**
@@ -52,7 +77,7 @@ public class VersionedAddressBook extends AddressBook {
             throw new NoRedoableStateException();
         }
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        restore(addressBookStateList.get(currentStatePointer));
     }
 
     /**
@@ -0,0 +1,178 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.util.PersistentSortedMap;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimetableContainsModulePredicate;
+
+/**
+ * The {@code MutableModel} of a transaction, over a working copy of the address book of the model the transaction
+ * changes. The working copy shares the persons of that address book without copying them, and its filter index is
+ * only built if it is queried. The notes are not part of the transaction, and are read and changed on that model.
+ */
+class WorkingCopyModel implements MutableModel {
+
+    private final AddressBook workingCopy;
+    private final PersistentSortedMap<String, Person> initialSnapshot;
+    private final FilteredList<Person> filteredPersons;
+    private final Model model;
+
+    /**
+     * Creates a working copy of {@code addressBook}, the address book of {@code model}, whose filtered person list is
+     * filtered by {@code predicate} to begin with.
+     */
+    WorkingCopyModel(AddressBook addressBook, Predicate<? super Person> predicate, Model model) {
+        requireAllNonNull(addressBook, model);
+        initialSnapshot = addressBook.getSnapshot();
+        workingCopy = new AddressBook();
+        workingCopy.restore(initialSnapshot);
+        filteredPersons = new FilteredList<>(workingCopy.getPersonList(), predicate);
+        this.model = model;
+    }
+
+    /**
+     * Returns the predicate that the filtered person list is filtered by, or null if it is not filtered.
+     */
+    Predicate<? super Person> getFilterPredicate() {
+        return filteredPersons.getPredicate();
+    }
+
+    @Override
+    public AddressBookDelta getChanges() {
+        return AddressBookDelta.between(initialSnapshot, workingCopy.getSnapshot());
+    }
+
+    @Override
+    public <E extends Exception> void transaction(Transaction<E> body) throws E {
+        requireNonNull(body);
+        PersistentSortedMap<String, Person> savepoint = workingCopy.getSnapshot();
+        try {
+            body.apply(this);
+        } catch (Exception | Error e) {
+            workingCopy.restore(savepoint);
+            throw e;
+        }
+    }
+
+    @Override
+    public void resetAddressBookData(ReadOnlyAddressBook newData) {
+        workingCopy.resetData(newData);
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return workingCopy;
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return workingCopy.hasPerson(person);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        workingCopy.removePerson(target);
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        workingCopy.addPerson(person);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void updatePerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+
+        workingCopy.updatePerson(target, editedPerson);
+    }
+
+    @Override
+    public Map<String, List<String>> pruneMergedGroups() {
+        return workingCopy.pruneMergedGroups();
+    }
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return FXCollections.unmodifiableObservableList(filteredPersons);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        filteredPersons.setPredicate(predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonList(TimetableContainsModulePredicate predicate) {
+        requireNonNull(predicate);
+        filteredPersons.setPredicate(workingCopy.toIndexedPredicate(predicate));
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return false;
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return false;
+    }
+
+    /**
+     * Does nothing, as a transaction has no address book states to undo.
+     */
+    @Override
+    public void undoAddressBook() {
+    }
+
+    /**
+     * Does nothing, as a transaction has no address book states to redo.
+     */
+    @Override
+    public void redoAddressBook() {
+    }
+
+    /**
+     * Does nothing, as the transaction saves a single address book state once it ends.
+     */
+    @Override
+    public void commitAddressBook() {
+    }
+
+    @Override
+    public void resetNotesData(ReadOnlyNotesDownloaded newData) {
+        model.resetNotesData(newData);
+    }
+
+    @Override
+    public ReadOnlyNotesDownloaded getNotesList() {
+        return model.getNotesList();
+    }
+
+    @Override
+    public void clearNotesData(String event) {
+        model.clearNotesData(event);
+    }
+
+    @Override
+    public void addNotes(String event, String moduleName) {
+        model.addNotes(event, moduleName);
+    }
+
+    @Override
+    public void deleteSelectedNotes(String event, Set<String> moduleNames) {
+        model.deleteSelectedNotes(event, moduleNames);
+    }
+}
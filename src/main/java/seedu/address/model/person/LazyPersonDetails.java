@@ -0,0 +1,57 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.SoftReference;
+
+/**
+ * The details of a person kept in their compact encoded form, and decoded on first access.
+ * The decoded details are only softly reachable, so the garbage collector may drop them again when memory runs low,
+ * in which case they are decoded again on the next access.
+ * Guarantees: the decoded details are the same on every access.
+ */
+public final class LazyPersonDetails {
+
+    /**
+     * Decodes the details of a person from their encoded form.
+     * The encoded form must have been checked when it was read, so decoding cannot fail.
+     */
+    @FunctionalInterface
+    public interface Decoder {
+        PersonDetails decode(byte[] encoded);
+    }
+
+    private final byte[] encoded;
+    private final Decoder decoder;
+    private volatile SoftReference<PersonDetails> decoded;
+
+    /**
+     * Creates details that are decoded from {@code encoded} by {@code decoder} when first accessed.
+     * {@code encoded} must not be modified afterwards.
+     */
+    public LazyPersonDetails(byte[] encoded, Decoder decoder) {
+        this.encoded = requireNonNull(encoded);
+        this.decoder = requireNonNull(decoder);
+    }
+
+    /**
+     * Returns the decoded details, decoding them if they have not been decoded or have been dropped.
+     */
+    public PersonDetails get() {
+        SoftReference<PersonDetails> reference = decoded;
+        PersonDetails details = reference == null ? null : reference.get();
+        if (details == null) {
+            details = decoder.decode(encoded);
+            decoded = new SoftReference<>(details);
+        }
+        return details;
+    }
+
+    /**
+     * Returns true if the details are currently decoded.
+     */
+    public boolean isDecoded() {
+        SoftReference<PersonDetails> reference = decoded;
+        return reference != null && reference.get() != null;
+    }
+}
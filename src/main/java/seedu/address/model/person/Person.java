@@ -2,9 +2,13 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +25,21 @@ import seedu.address.model.tag.Tag;
  */
 public class Person implements Serializable {
 
+    /*
+     * Persons are exported as serialized strings (see ExportCommand), so the serialized form is kept as the
+     * original field layout, with the timetable written out as a map of day names to lists of time slots.
+     */
+    private static final long serialVersionUID = -3843974099255387103L;
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("name", Name.class),
+        new ObjectStreamField("phone", Phone.class),
+        new ObjectStreamField("email", Email.class),
+        new ObjectStreamField("address", Address.class),
+        new ObjectStreamField("tags", Set.class),
+        new ObjectStreamField("enrolledModules", Map.class),
+        new ObjectStreamField("timeslots", Map.class)
+    };
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -28,33 +47,58 @@ public class Person implements Serializable {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Map<String, EnrolledModule> enrolledModules = new TreeMap<>();
-    private final Map<String, List<TimeSlots>> timeslots;
+    private final Set<Tag> tags;
+
+    // The enrolled modules and timetable, either decoded or to be decoded on first access; exactly one is set
+    private final PersonDetails details;
+    private final LazyPersonDetails lazyDetails;
+
+    // Every field is immutable, so the hash code is computed once, when first needed for lazy details
+    private transient int hash;
+
+    // Set only while a deserialized person is being resolved
+    private transient Person deserialized;
 
     /**
      * Name, Phone, Email, Address and Tags are to be present and not null.
+     * A null {@code timeslots} map gives the person the sample timetable.
      */
     public Person(Name name, Phone phone, Email email, Address address,
                   Set<Tag> tags, Map<String, EnrolledModule> enrolledModules, Map<String, List<TimeSlots>> timeslots) {
-        requireAllNonNull(name, phone, email, address, tags);
+        this(name, phone, email, address, tags, enrolledModules,
+                WeeklyTimetable.fromMap(timeslots != null ? timeslots : TimeSlots.sampleTimeSlots()));
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Person(Name name, Phone phone, Email email, Address address,
+                  Set<Tag> tags, Map<String, EnrolledModule> enrolledModules, WeeklyTimetable timetable) {
+        requireAllNonNull(name, phone, email, address, tags, enrolledModules, timetable);
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
-        EnrolledModule tempModule;
-        for (String tempModuleName : enrolledModules.keySet()) {
-            tempModule = enrolledModules.get(tempModuleName);
-            this.enrolledModules.put(tempModuleName, tempModule);
-        }
-
-        if (timeslots != null) {
-            this.timeslots = new HashMap<>(timeslots);
-        } else {
-            this.timeslots = TimeSlots.sampleTimeSlots();
-        }
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+        this.details = new PersonDetails(enrolledModules, timetable);
+        this.lazyDetails = null;
+        this.hash = computeHash();
+    }
 
+    /**
+     * Every field must be present and not null.
+     * The enrolled modules and timetable are only decoded from {@code lazyDetails} when first accessed.
+     */
+    public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags,
+                  LazyPersonDetails lazyDetails) {
+        requireAllNonNull(name, phone, email, address, tags, lazyDetails);
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+        this.details = null;
+        this.lazyDetails = lazyDetails;
     }
 
     public Name getName() {
@@ -78,7 +122,7 @@ public class Person implements Serializable {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -86,7 +130,7 @@ public class Person implements Serializable {
      * if modification is attempted.
      */
     public Map<String, EnrolledModule> getEnrolledModules() {
-        return Collections.unmodifiableMap(enrolledModules);
+        return getDetails().getEnrolledModules();
     }
 
     /**
@@ -94,7 +138,18 @@ public class Person implements Serializable {
      * if modification is attempted.
      */
     public Map<String, List<TimeSlots>> getTimeSlots() {
-        return Collections.unmodifiableMap(timeslots);
+        return getTimetable().asMap();
+    }
+
+    public WeeklyTimetable getTimetable() {
+        return getDetails().getTimetable();
+    }
+
+    /**
+     * Returns the enrolled modules and timetable, decoding them if they are lazy and not decoded yet.
+     */
+    private PersonDetails getDetails() {
+        return lazyDetails == null ? details : lazyDetails.get();
     }
 
     /**
@@ -152,8 +207,17 @@ public class Person implements Serializable {
 
     @Override
     public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = computeHash();
+            hash = h;
+        }
+        return h;
+    }
+
+    private int computeHash() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, enrolledModules, timeslots);
+        return Objects.hash(name, phone, email, address, tags, getEnrolledModules(), getTimetable());
     }
 
     @Override
@@ -176,4 +240,41 @@ public class Person implements Serializable {
         return builder.toString();
     }
 
+    /**
+     * Writes this person in the original serialized form.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("name", name);
+        fields.put("phone", phone);
+        fields.put("email", email);
+        fields.put("address", address);
+        fields.put("tags", new HashSet<>(tags));
+        fields.put("enrolledModules", new TreeMap<>(getEnrolledModules()));
+        fields.put("timeslots", getTimetable().toLegacyMap());
+        out.writeFields();
+    }
+
+    /**
+     * Reads a person in the original serialized form. The fully constructed person is returned by
+     * {@link #readResolve()}.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        try {
+            deserialized = new Person((Name) fields.get("name", null), (Phone) fields.get("phone", null),
+                    (Email) fields.get("email", null), (Address) fields.get("address", null),
+                    (Set<Tag>) fields.get("tags", null),
+                    (Map<String, EnrolledModule>) fields.get("enrolledModules", null),
+                    (Map<String, List<TimeSlots>>) fields.get("timeslots", null));
+        } catch (ClassCastException | IllegalArgumentException | NullPointerException e) {
+            throw new InvalidObjectException(e.getMessage());
+        }
+    }
+
+    private Object readResolve() {
+        return deserialized;
+    }
+
 }
@@ -0,0 +1,37 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.enrolledmodule.EnrolledModule;
+
+/**
+ * The enrolled modules and timetable of a person, which are not shown in the person list and so may be decoded
+ * from storage only when first used. See {@link LazyPersonDetails}.
+ * Guarantees: immutable.
+ */
+public final class PersonDetails {
+
+    private final Map<String, EnrolledModule> enrolledModules;
+    private final WeeklyTimetable timetable;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PersonDetails(Map<String, EnrolledModule> enrolledModules, WeeklyTimetable timetable) {
+        requireAllNonNull(enrolledModules, timetable);
+        this.enrolledModules = Collections.unmodifiableMap(new TreeMap<>(enrolledModules));
+        this.timetable = timetable;
+    }
+
+    public Map<String, EnrolledModule> getEnrolledModules() {
+        return enrolledModules;
+    }
+
+    public WeeklyTimetable getTimetable() {
+        return timetable;
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted indexes of the persons in a {@code UniquePersonList}, used to filter persons by module and free time slot
+ * without testing every person.
+ * Every person is given a small integer id. Each module code, and each slot of the week, has a posting set of the
+ * ids of the persons who take that module, or who are free in that slot. A query intersects the posting sets of its
+ * keywords.
+ */
+class PersonFilterIndex {
+
+    private static final IsMergedPredicate IS_MERGED = new IsMergedPredicate();
+
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private final List<Person> personsById = new ArrayList<>();
+    private final Deque<Integer> unusedIds = new ArrayDeque<>();
+    private final BitSet indexedIds = new BitSet();
+    private final BitSet mergedIds = new BitSet();
+    private final Map<String, BitSet> idsByModule = new HashMap<>();
+    private final BitSet[] freeIdsBySlot = new BitSet[WeeklyTimetable.NUM_SLOTS];
+
+    PersonFilterIndex() {
+        for (int i = 0; i < freeIdsBySlot.length; i++) {
+            freeIdsBySlot[i] = new BitSet();
+        }
+    }
+
+    /**
+     * Forgets all persons.
+     */
+    void clear() {
+        idsByName.clear();
+        personsById.clear();
+        unusedIds.clear();
+        indexedIds.clear();
+        mergedIds.clear();
+        idsByModule.clear();
+        for (BitSet freeIds : freeIdsBySlot) {
+            freeIds.clear();
+        }
+    }
+
+    /**
+     * Indexes {@code person}, replacing any indexed person with the same name.
+     */
+    void add(Person person) {
+        remove(person);
+        int id = unusedIds.isEmpty() ? personsById.size() : unusedIds.pop();
+        if (id == personsById.size()) {
+            personsById.add(person);
+        } else {
+            personsById.set(id, person);
+        }
+        idsByName.put(nameOf(person), id);
+        indexedIds.set(id);
+
+        if (IS_MERGED.test(person)) {
+            mergedIds.set(id);
+        }
+        for (String module : modulesOf(person)) {
+            idsByModule.computeIfAbsent(module, unused -> new BitSet()).set(id);
+        }
+        long freeMask = person.getTimetable().getFreeMask();
+        for (long bits = freeMask; bits != 0; bits &= bits - 1) {
+            freeIdsBySlot[Long.numberOfTrailingZeros(bits)].set(id);
+        }
+    }
+
+    /**
+     * Removes the indexed person with the same name as {@code person}, if any.
+     */
+    void remove(Person person) {
+        Integer id = idsByName.remove(nameOf(person));
+        if (id == null) {
+            return;
+        }
+        Person indexed = personsById.set(id, null);
+        indexedIds.clear(id);
+        mergedIds.clear(id);
+        for (String module : modulesOf(indexed)) {
+            BitSet ids = idsByModule.get(module);
+            ids.clear(id);
+            if (ids.isEmpty()) {
+                idsByModule.remove(module);
+            }
+        }
+        for (BitSet freeIds : freeIdsBySlot) {
+            freeIds.clear(id);
+        }
+        unusedIds.push(id);
+    }
+
+    /**
+     * Returns the merged groups, and the persons who take all of {@code modules} and are free in all the slots of
+     * {@code freeSlotMask}, in no particular order.
+     */
+    List<Person> find(Collection<String> modules, long freeSlotMask) {
+        BitSet matches = (BitSet) indexedIds.clone();
+        for (String module : modules) {
+            BitSet ids = idsByModule.get(normalize(module));
+            if (ids == null) {
+                matches.clear();
+                break;
+            }
+            matches.and(ids);
+        }
+        for (long bits = freeSlotMask & WeeklyTimetable.ALL_SLOTS_MASK; bits != 0; bits &= bits - 1) {
+            matches.and(freeIdsBySlot[Long.numberOfTrailingZeros(bits)]);
+        }
+        matches.or(mergedIds);
+
+        List<Person> result = new ArrayList<>(matches.cardinality());
+        for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+            result.add(personsById.get(id));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the normalized codes of the modules that {@code person} takes, from both the enrolled modules and
+     * the timetable activities.
+     */
+    private static Set<String> modulesOf(Person person) {
+        Set<String> modules = new HashSet<>();
+        for (String module : person.getEnrolledModules().keySet()) {
+            modules.add(normalize(module));
+        }
+        for (String activity : person.getTimetable().getActivities()) {
+            modules.add(normalize(activity));
+        }
+        return modules;
+    }
+
+    private static String normalize(String module) {
+        return module.toLowerCase(Locale.ROOT);
+    }
+
+    private static String nameOf(Person person) {
+        return person.getName().fullName;
+    }
+}
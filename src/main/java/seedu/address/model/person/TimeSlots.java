@@ -2,18 +2,28 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Represents a Tag in the address book.
- * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Represents the activity of one time slot of a timetable.
+ * Instances are interned flyweights: {@link #of(String)} returns the same instance for the same activity, so
+ * identical activities are shared across all timetables and equality is a reference comparison.
+ * Every instance also has a small integer code, which {@link WeeklyTimetable} stores in place of the instance.
+ * Guarantees: immutable; one instance per activity.
  */
-public class TimeSlots implements Serializable {
+public final class TimeSlots implements Serializable {
 
+    public static final TimeSlots FREE = of(WeeklyTimetable.FREE);
+    public static final TimeSlots BUSY = of("busy");
+
+    private static final long serialVersionUID = 6936149731263052589L;
 
     private static final String[] SET_VALUES = {"8am    ", "9am    ", "10am   ", "11am    ", "12pm   ",
         "1pm    ", "2pm     ", "3pm     ", "4pm    ", "5pm     ", "6pm    ", "7pm"};
@@ -28,16 +38,56 @@ public class TimeSlots implements Serializable {
     private static final String[] sampleFri = {"free", "free", "CS2107", "free", "free",
         "free", "CS2101", "free", "free", "free", "free", "free"};
 
-    private String timeslot;
+    private final String timeslot;
+    private final transient int code;
+
+    private TimeSlots(String timeslot, int code) {
+        this.timeslot = timeslot;
+        this.code = code;
+    }
 
     /**
-     * Constructs a {@code Tag}.
+     * Returns the shared {@code TimeSlots} of {@code timeslot}, creating it if this activity was never seen before.
      *
      * @param timeslot A valid timeslot.
      */
-    public TimeSlots(String timeslot) {
+    public static TimeSlots of(String timeslot) {
         requireNonNull(timeslot);
-        this.timeslot = timeslot;
+        TimeSlots interned = Pool.byActivity.get(timeslot);
+        return interned != null ? interned : intern(timeslot);
+    }
+
+    /**
+     * Returns the {@code TimeSlots} with the given {@code code}.
+     */
+    static TimeSlots ofCode(int code) {
+        return Pool.byCode[code];
+    }
+
+    /**
+     * Creates and registers the {@code TimeSlots} of {@code timeslot} unless another thread already has.
+     */
+    private static synchronized TimeSlots intern(String timeslot) {
+        TimeSlots interned = Pool.byActivity.get(timeslot);
+        if (interned != null) {
+            return interned;
+        }
+        TimeSlots[] codes = Pool.byCode;
+        if (Pool.size == codes.length) {
+            codes = Arrays.copyOf(codes, Pool.size * 2);
+        }
+        interned = new TimeSlots(timeslot, Pool.size);
+        codes[Pool.size++] = interned;
+        Pool.byCode = codes;
+        Pool.byActivity.put(timeslot, interned);
+        return interned;
+    }
+
+    /**
+     * Returns the code of this activity, which is the same for every use of the activity.
+     */
+    int getCode() {
+        return code;
     }
 
     /**
@@ -80,7 +130,7 @@ public class TimeSlots implements Serializable {
     public static List<TimeSlots> getFreeTimeSlots() {
         List<TimeSlots> freeTimeSlots = new ArrayList<>();
         for (String it : free) {
-            freeTimeSlots.add(new TimeSlots(it));
+            freeTimeSlots.add(of(it));
         }
         return freeTimeSlots;
     }
@@ -91,7 +141,7 @@ public class TimeSlots implements Serializable {
     public static List<TimeSlots> getSampleTue() {
         List<TimeSlots> tueTimeSlots = new ArrayList<>();
         for (String it : sampleTue) {
-            tueTimeSlots.add(new TimeSlots(it));
+            tueTimeSlots.add(of(it));
         }
         return tueTimeSlots;
     }
@@ -102,7 +152,7 @@ public class TimeSlots implements Serializable {
     public static List<TimeSlots> getSampleWed() {
         List<TimeSlots> wedTimeSlots = new ArrayList<>();
         for (String it : sampleWed) {
-            wedTimeSlots.add(new TimeSlots(it));
+            wedTimeSlots.add(of(it));
         }
         return wedTimeSlots;
     }
@@ -113,7 +163,7 @@ public class TimeSlots implements Serializable {
     public static List<TimeSlots> getSampleThu() {
         List<TimeSlots> thuTimeSlots = new ArrayList<>();
         for (String it : sampleThu) {
-            thuTimeSlots.add(new TimeSlots(it));
+            thuTimeSlots.add(of(it));
         }
         return thuTimeSlots;
     }
@@ -124,14 +174,17 @@ public class TimeSlots implements Serializable {
     public static List<TimeSlots> getSampleFri() {
         List<TimeSlots> friTimeSlots = new ArrayList<>();
         for (String it : sampleFri) {
-            friTimeSlots.add(new TimeSlots(it));
+            friTimeSlots.add(of(it));
         }
         return friTimeSlots;
     }
 
     /**
-     * Returns true if a given string is a valid tag name.
+     * Replaces a deserialized activity with the shared instance of the same activity.
      */
+    private Object readResolve() throws ObjectStreamException {
+        return of(timeslot);
+    }
 
     @Override
     public int hashCode() {
@@ -145,4 +198,14 @@ public class TimeSlots implements Serializable {
         return timeslot;
     }
 
+    /**
+     * The interned instances, by activity and by code. Instances are only added while holding the lock of
+     * {@code TimeSlots}, and {@code byCode} is replaced rather than modified once published.
+     */
+    private static class Pool {
+        private static final Map<String, TimeSlots> byActivity = new ConcurrentHashMap<>();
+        private static volatile TimeSlots[] byCode = new TimeSlots[16];
+        private static int size = 0;
+    }
+
 }
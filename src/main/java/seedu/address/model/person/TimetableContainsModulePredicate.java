@@ -1,88 +1,105 @@
 package seedu.address.model.person;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Predicate;
 
-import seedu.address.model.enrolledmodule.EnrolledModule;
-import seedu.address.model.tag.Tag;
-
-
 //@@E0201942
 
 /**
- * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
+ * Tests that a {@code Person} takes all of the given modules and is free in all of the given time slots.
+ * Keywords are either a module code, matched against the person's enrolled modules and timetable activities, or a
+ * day followed by the index of a time slot of that day. Keyword matching is case insensitive.
+ * Merged groups always pass the test.
  */
 public class TimetableContainsModulePredicate implements Predicate<Person> {
+    private static final IsMergedPredicate IS_MERGED = new IsMergedPredicate();
+
     private final List<String> keywords;
+    private final List<String> moduleKeywords;
+    private final long freeSlotMask;
 
     public TimetableContainsModulePredicate(List<String> keywords) {
-        this.keywords = keywords;
+        this.keywords = new ArrayList<>(keywords);
+        this.moduleKeywords = Collections.unmodifiableList(moduleKeywordsOf(this.keywords));
+        this.freeSlotMask = freeSlotMaskOf(this.keywords);
     }
 
-    @Override
-    public boolean test(Person person) {
-        List<Boolean> keywordsCheck = new ArrayList<>();
-        for (int j = 0; j < keywords.size(); j++) {
-            keywordsCheck.add(false);
-        }
-        Map<String, EnrolledModule> enrolledModules = new HashMap<>(person.getEnrolledModules());
+    /**
+     * Returns the keywords that are module codes, in the given order.
+     */
+    public List<String> getModuleKeywords() {
+        return moduleKeywords;
+    }
 
-        for (Tag tags : person.getTags()) {
-            if (tags.toString().equalsIgnoreCase("[merged]")) {
-                return true;
+    /**
+     * Returns a mask of the slots of the week that are given as keywords, indexed as in {@link WeeklyTimetable}.
+     */
+    public long getFreeSlotMask() {
+        return freeSlotMask;
+    }
+
+    /**
+     * Returns the keywords in {@code keywords} that are module codes, in the given order.
+     */
+    private static List<String> moduleKeywordsOf(List<String> keywords) {
+        List<String> modules = new ArrayList<>();
+        for (int i = 0; i < keywords.size(); i++) {
+            if (WeeklyTimetable.dayIndex(keywords.get(i)) >= 0) {
+                i++; // skips the time slot of the day
+            } else {
+                modules.add(keywords.get(i));
             }
         }
-        String[] days = {"mon", "tue", "wed", "thu", "fri"};
-        Map<String, List<TimeSlots>> timetable = person.getTimeSlots();
-        boolean timeCheck = true;
-        int modCheck = 0;
-        int count = keywords.size();
+        return modules;
+    }
+
+    /**
+     * Returns a mask of the slots of the week that are given as keywords in {@code keywords}.
+     */
+    private static long freeSlotMaskOf(List<String> keywords) {
+        long freeSlotMask = 0L;
         for (int i = 0; i < keywords.size(); i++) {
-            for (String day : days) {
-                if (keywords.get(i).equalsIgnoreCase(day)) {
-                    List<TimeSlots> daySlots = timetable.get(day);
-                    int timeIndex = Integer.parseInt(keywords.get(i + 1));
-                    TimeSlots checkSlot = daySlots.get(timeIndex);
-                    count = count - 2;
-                    if (!checkSlot.toString().equalsIgnoreCase("free")) {
-                        timeCheck = false;
-                    }
-                }
+            int day = WeeklyTimetable.dayIndex(keywords.get(i));
+            if (day >= 0) {
+                int timeIndex = Integer.parseInt(keywords.get(++i));
+                freeSlotMask |= 1L << WeeklyTimetable.slotIndex(day, timeIndex);
             }
         }
-        for (int i = 0; i < keywords.size(); i++) {
-            String check = keywords.get(i);
-            for (String day : days) {
-                List<TimeSlots> daySlots = timetable.get(day);
-                for (TimeSlots module : daySlots) {
-                    if (check.equalsIgnoreCase(module.toString()) && !keywordsCheck.get(i).equals(true)) {
-                        modCheck++;
-                        keywordsCheck.set(i, true);
+        return freeSlotMask;
+    }
 
-                    }
-                }
-            }
+    @Override
+    public boolean test(Person person) {
+        if (IS_MERGED.test(person)) {
+            return true;
         }
-        for (int i = 0; i < keywords.size(); i++) {
-            String check = keywords.get(i);
-            Iterator<Map.Entry<String, EnrolledModule>> it = enrolledModules.entrySet().iterator();
-            while (it.hasNext()) {
-                Map.Entry<String, EnrolledModule> pair = it.next();
-                String moduleToCheck = pair.getKey();
-                if (check.equalsIgnoreCase(moduleToCheck) && !keywordsCheck.get(i).equals(true)) {
-                    modCheck++;
-                    keywordsCheck.set(i, true);
-                }
+        if ((person.getTimetable().getBusyMask() & freeSlotMask) != 0) {
+            return false;
+        }
+        for (String module : moduleKeywords) {
+            if (!takesModule(person, module)) {
+                return false;
             }
         }
-
-        return (modCheck == count && timeCheck);
+        return true;
     }
 
+    /**
+     * Returns true if {@code person} is enrolled in {@code module} or has it in the timetable, ignoring case.
+     */
+    private static boolean takesModule(Person person, String module) {
+        if (person.getTimetable().containsActivity(module)) {
+            return true;
+        }
+        for (String enrolledModule : person.getEnrolledModules().keySet()) {
+            if (enrolledModule.equalsIgnoreCase(module)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -94,4 +111,3 @@ public class TimetableContainsModulePredicate implements Predicate<Person> {
     }
 
 }
-
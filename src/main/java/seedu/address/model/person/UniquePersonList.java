@@ -3,11 +3,20 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentSortedMap;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
@@ -27,6 +36,12 @@ public class UniquePersonList implements Iterable<Person> {
 
     private final UniquePersonListHelper uniquePersonListHelper = new UniquePersonListHelper();
 
+    private final PersonFilterIndex filterIndex = new PersonFilterIndex();
+
+    // Bulk changes only mark the filter index stale, and it is rebuilt when next queried, so that loading an address
+    // book does not decode the timetable of every person
+    private boolean isFilterIndexStale = false;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
@@ -34,14 +49,29 @@ public class UniquePersonList implements Iterable<Person> {
         return uniquePersonListHelper.contains(toCheck);
     }
 
+    /**
+     * Returns the person in the list with the given full name, if any.
+     */
+    public Optional<Person> findByName(String fullName) {
+        requireNonNull(fullName);
+        return Optional.ofNullable(uniquePersonListHelper.get(fullName));
+    }
+
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
+        requireNonNull(toAdd);
+        boolean isOverwrite = uniquePersonListHelper.indexOf(nameOf(toAdd)) >= 0;
         uniquePersonListHelper.add(toAdd);
-        updateInternalList();
-
+        indexAdd(toAdd);
+        int index = uniquePersonListHelper.indexOf(nameOf(toAdd));
+        if (isOverwrite) {
+            internalList.set(index, toAdd);
+        } else {
+            internalList.add(index, toAdd);
+        }
     }
 
     /**
@@ -50,8 +80,24 @@ public class UniquePersonList implements Iterable<Person> {
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
      */
     public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        int oldIndex = uniquePersonListHelper.indexOf(nameOf(target));
+        boolean isOverwrite = !nameOf(target).equals(nameOf(editedPerson))
+                && uniquePersonListHelper.indexOf(nameOf(editedPerson)) >= 0;
         uniquePersonListHelper.edit(target, editedPerson);
-        updateInternalList();
+        indexRemove(target);
+        indexAdd(editedPerson);
+        int newIndex = uniquePersonListHelper.indexOf(nameOf(editedPerson));
+        if (isOverwrite) {
+            // editedPerson takes the place of the other person with its name
+            internalList.remove(oldIndex);
+            internalList.set(newIndex, editedPerson);
+        } else if (oldIndex == newIndex) {
+            internalList.set(newIndex, editedPerson);
+        } else {
+            internalList.remove(oldIndex);
+            internalList.add(newIndex, editedPerson);
+        }
     }
 
     /**
@@ -59,18 +105,17 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must exist in the list.
      */
     public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        int index = uniquePersonListHelper.indexOf(nameOf(toRemove));
         uniquePersonListHelper.remove(toRemove);
-        updateInternalList();
+        indexRemove(toRemove);
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
 
-        uniquePersonListHelper.removeAll();
-        for (Person tempPerson : replacement) {
-            uniquePersonListHelper.add(tempPerson);
-        }
-        updateInternalList();
+        restore(replacement.getSnapshot());
     }
 
     /**
@@ -87,9 +132,69 @@ public class UniquePersonList implements Iterable<Person> {
         for (Person tempPerson : persons) {
             uniquePersonListHelper.add(tempPerson);
         }
+        markFilterIndexStale();
         updateInternalList();
     }
 
+    /**
+     * Returns a predicate that accepts the same persons as {@code predicate}, answered from the indexes of this list.
+     * The persons of this list are looked up once, when this method is called. Persons added or changed later are
+     * tested with {@code predicate} itself.
+     */
+    public Predicate<Person> toIndexedPredicate(TimetableContainsModulePredicate predicate) {
+        requireNonNull(predicate);
+        PersistentSortedMap<String, Person> indexed = getSnapshot();
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(getFilterIndex().find(predicate.getModuleKeywords(), predicate.getFreeSlotMask()));
+        return person -> matches.contains(person)
+                || (indexed.get(nameOf(person)) != person && predicate.test(person));
+    }
+
+    /**
+     * Returns an immutable snapshot of the persons in this list, keyed by full name.
+     * Taking a snapshot does not copy the persons, and later changes to this list do not affect the snapshot.
+     */
+    public PersistentSortedMap<String, Person> getSnapshot() {
+        return uniquePersonListHelper.getSnapshot();
+    }
+
+    /**
+     * Replaces the contents of this list with the persons in {@code snapshot}, which must have been taken with
+     * {@link #getSnapshot()}.
+     */
+    public void restore(PersistentSortedMap<String, Person> snapshot) {
+        requireNonNull(snapshot);
+        List<Runnable> changes = new ArrayList<>();
+        List<Runnable> indexChanges = new ArrayList<>();
+        getSnapshot().diff(snapshot, (name, oldPerson, newPerson) -> {
+            // changes arrive in name order, so the persons before this one already match the snapshot
+            int index = snapshot.indexOf(name);
+            int position = index >= 0 ? index : -index - 1;
+            if (oldPerson != null) {
+                indexChanges.add(() -> indexRemove(oldPerson));
+            }
+            if (newPerson != null) {
+                indexChanges.add(() -> indexAdd(newPerson));
+            }
+            if (oldPerson == null) {
+                changes.add(() -> internalList.add(position, newPerson));
+            } else if (newPerson == null) {
+                changes.add(() -> internalList.remove(position));
+            } else {
+                changes.add(() -> internalList.set(position, newPerson));
+            }
+        });
+
+        uniquePersonListHelper.restore(snapshot);
+        if (changes.size() > internalList.size() / 2) {
+            markFilterIndexStale();
+            updateInternalList();
+        } else {
+            indexChanges.forEach(Runnable::run);
+            changes.forEach(Runnable::run);
+        }
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -118,23 +223,66 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
+        // persons with the same identity always share a name, so each person is only checked against its namesakes
+        Map<String, List<Person>> personsByName = new HashMap<>();
+        for (Person person : persons) {
+            List<Person> namesakes = personsByName.computeIfAbsent(nameOf(person), unused -> new ArrayList<>(1));
+            for (Person namesake : namesakes) {
+                if (namesake.isSamePerson(person)) {
                     return false;
                 }
             }
+            namesakes.add(person);
         }
         return true;
     }
 
     /**
-     * Updates the internal list, allowing it to have sorted contacts
+     * Adds {@code person} to the filter index, unless the index is to be rebuilt anyway.
      */
-    private void updateInternalList() {
-        internalList.clear();
-        for (String name : uniquePersonListHelper.acquireAllNames()) {
-            internalList.add(uniquePersonListHelper.get(name));
+    private void indexAdd(Person person) {
+        if (!isFilterIndexStale) {
+            filterIndex.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the filter index, unless the index is to be rebuilt anyway.
+     */
+    private void indexRemove(Person person) {
+        if (!isFilterIndexStale) {
+            filterIndex.remove(person);
         }
     }
+
+    private void markFilterIndexStale() {
+        filterIndex.clear();
+        isFilterIndexStale = true;
+    }
+
+    /**
+     * Returns the filter index, rebuilding it first if it is stale.
+     */
+    private PersonFilterIndex getFilterIndex() {
+        if (isFilterIndexStale) {
+            uniquePersonListHelper.acquireAllPersons().forEach(filterIndex::add);
+            isFilterIndexStale = false;
+        }
+        return filterIndex;
+    }
+
+    /**
+     * Returns the name that the given person is sorted by.
+     */
+    private static String nameOf(Person person) {
+        return person.getName().toString();
+    }
+
+    /**
+     * Replaces the whole internal list with the sorted contacts. Used for bulk changes, as every single-person
+     * change updates the internal list in place.
+     */
+    private void updateInternalList() {
+        internalList.setAll(uniquePersonListHelper.acquireAllPersons());
+    }
 }
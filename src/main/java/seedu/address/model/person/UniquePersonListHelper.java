@@ -3,28 +3,46 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
+import java.util.List;
 
+import seedu.address.commons.util.PersistentSortedMap;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 
 /**
- * A supporting data structure (Treemap) that helps keep the contacts in the contact list sorted, increasing
- * usability.
+ * A supporting data structure (persistent sorted map) that helps keep the contacts in the contact list sorted,
+ * increasing usability.
  * The names are sorted in an alphabetical order, with uppercase letters always being in front of lowercase letters.
  * Therefore, a possible order of the list is "Alice, Bob, amy, andrew".
+ * Every version of the map is immutable, so a snapshot of the contacts can be taken in constant time and shares
+ * its unchanged contacts with later versions.
  */
 
 
 public class UniquePersonListHelper {
 
-    private final Map<String, Person> internalListHelper = new TreeMap<>();
+    private PersistentSortedMap<String, Person> internalListHelper = PersistentSortedMap.empty();
 
-    public Set<String> acquireAllNames() {
-        return internalListHelper.keySet();
+    /**
+     * Returns all contacts, sorted by name.
+     */
+    public List<Person> acquireAllPersons() {
+        return internalListHelper.values();
+    }
+
+    /**
+     * Returns the current contacts as an immutable map of names to contacts.
+     */
+    public PersistentSortedMap<String, Person> getSnapshot() {
+        return internalListHelper;
+    }
+
+    /**
+     * Replaces all contacts with those in {@code snapshot}.
+     */
+    public void restore(PersistentSortedMap<String, Person> snapshot) {
+        internalListHelper = requireNonNull(snapshot);
     }
 
     /**
@@ -51,7 +69,7 @@ public class UniquePersonListHelper {
             throw new DuplicatePersonException();
         }
         String toAddName = nameFinder(toAdd);
-        internalListHelper.put(toAddName, toAdd);
+        internalListHelper = internalListHelper.put(toAddName, toAdd);
     }
 
     /**
@@ -69,8 +87,15 @@ public class UniquePersonListHelper {
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
-        internalListHelper.remove(targetName);
-        internalListHelper.put(editedPersonName, editedPerson);
+        internalListHelper = internalListHelper.remove(targetName).put(editedPersonName, editedPerson);
+    }
+
+    /**
+     * Returns the position of the contact with the given name in the sorted contacts, or a negative number if there
+     * is no such contact, as in {@link PersistentSortedMap#indexOf(Comparable)}.
+     */
+    public int indexOf(String name) {
+        return internalListHelper.indexOf(name);
     }
 
     /**
@@ -90,14 +115,14 @@ public class UniquePersonListHelper {
         if (internalListHelper.get(toRemoveName) == null) {
             throw new PersonNotFoundException();
         }
-        internalListHelper.remove(toRemoveName);
+        internalListHelper = internalListHelper.remove(toRemoveName);
     }
 
     /**
      * Removes all contacts currently in the address book.
      */
     public void removeAll() {
-        internalListHelper.clear();
+        internalListHelper = PersistentSortedMap.empty();
     }
 
     /**
@@ -0,0 +1,367 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents a Person's weekly timetable of 5 days with 12 one-hour slots each (8am to 7pm).
+ * The free/busy state of the week is kept in a single {@code long} bitmask, with bit {@code day * 12 + slot}
+ * set when that slot is busy. Activities are stored as the integer codes of their shared {@link TimeSlots}.
+ * Guarantees: immutable.
+ */
+public final class WeeklyTimetable {
+
+    public static final String MESSAGE_DAY_CONSTRAINTS = "Day should be one of mon, tue, wed, thu or fri";
+
+    public static final String FREE = "free";
+    public static final int SLOTS_PER_DAY = 12;
+    public static final int NUM_DAYS = 5;
+    public static final int NUM_SLOTS = NUM_DAYS * SLOTS_PER_DAY;
+    public static final long ALL_SLOTS_MASK = (1L << NUM_SLOTS) - 1;
+
+    private static final String[] DAYS = {"mon", "tue", "wed", "thu", "fri"};
+    private static final int FREE_CODE = TimeSlots.FREE.getCode();
+
+    private static final WeeklyTimetable EMPTY = new WeeklyTimetable(0L, new int[NUM_SLOTS]);
+
+    private final long busyMask;
+    private final int[] codes;
+    private final int hash;
+    private Map<String, List<TimeSlots>> view;
+
+    private WeeklyTimetable(long busyMask, int[] codes) {
+        this.busyMask = busyMask;
+        this.codes = codes;
+        this.hash = Arrays.hashCode(codes);
+    }
+
+    /**
+     * Returns a timetable where every slot is free.
+     */
+    public static WeeklyTimetable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a timetable from a map of day names to lists of time slots.
+     * If {@code timeslots} is a view returned by {@link #asMap()}, the backing timetable is returned directly.
+     * Missing days and missing trailing slots are treated as free. Unknown days and slots after the 12th slot
+     * of a day are ignored, as they are never shown or used by the app.
+     */
+    public static WeeklyTimetable fromMap(Map<String, List<TimeSlots>> timeslots) {
+        requireNonNull(timeslots);
+        if (timeslots instanceof TimetableView) {
+            return ((TimetableView) timeslots).getTimetable();
+        }
+
+        int[] codes = new int[NUM_SLOTS];
+        for (Map.Entry<String, List<TimeSlots>> entry : timeslots.entrySet()) {
+            int day = dayIndex(entry.getKey());
+            List<TimeSlots> daySlots = entry.getValue();
+            if (day < 0 || daySlots == null) {
+                continue;
+            }
+            for (int i = 0; i < Math.min(daySlots.size(), SLOTS_PER_DAY); i++) {
+                codes[day * SLOTS_PER_DAY + i] = daySlots.get(i).getCode();
+            }
+        }
+        return fromCodes(codes);
+    }
+
+    /**
+     * Creates a timetable from the activities of every slot of the week, in slot index order.
+     */
+    public static WeeklyTimetable fromActivities(String[] activities) {
+        requireNonNull(activities);
+        if (activities.length != NUM_SLOTS) {
+            throw new IllegalArgumentException("Expected " + NUM_SLOTS + " activities");
+        }
+        int[] codes = new int[NUM_SLOTS];
+        for (int i = 0; i < NUM_SLOTS; i++) {
+            codes[i] = intern(activities[i]);
+        }
+        return fromCodes(codes);
+    }
+
+    /**
+     * Returns the index of {@code day} in the week, or -1 if it is not a valid day name.
+     */
+    public static int dayIndex(String day) {
+        for (int i = 0; i < NUM_DAYS; i++) {
+            if (DAYS[i].equalsIgnoreCase(day)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the name of the day at {@code dayIndex}.
+     */
+    public static String dayName(int dayIndex) {
+        return DAYS[dayIndex];
+    }
+
+    /**
+     * Returns the position of the given slot within the week, which is also its bit in the busy mask.
+     */
+    public static int slotIndex(int dayIndex, int slot) {
+        return dayIndex * SLOTS_PER_DAY + slot;
+    }
+
+    /**
+     * Returns true if {@code activity} marks a slot as free.
+     */
+    public static boolean isFreeActivity(String activity) {
+        return FREE.equalsIgnoreCase(activity);
+    }
+
+    public long getBusyMask() {
+        return busyMask;
+    }
+
+    public long getFreeMask() {
+        return ~busyMask & ALL_SLOTS_MASK;
+    }
+
+    /**
+     * Returns true if the slot at {@code slotIndex} of the week is free.
+     */
+    public boolean isFree(int slotIndex) {
+        return (busyMask & (1L << slotIndex)) == 0;
+    }
+
+    /**
+     * Returns true if {@code slot} of {@code day} is free.
+     */
+    public boolean isFree(String day, int slot) {
+        return isFree(slotIndex(requireDay(day), slot));
+    }
+
+    /**
+     * Returns the activity at {@code slotIndex} of the week.
+     */
+    public String getActivity(int slotIndex) {
+        return timeSlotOf(codes[slotIndex]).toString();
+    }
+
+    /**
+     * Returns the activity at {@code slot} of {@code day}.
+     */
+    public String getActivity(String day, int slot) {
+        return getActivity(slotIndex(requireDay(day), slot));
+    }
+
+    /**
+     * Returns true if any slot of the week holds {@code activity}, ignoring case.
+     */
+    public boolean containsActivity(String activity) {
+        for (int i = 0; i < NUM_SLOTS; i++) {
+            if (getActivity(i).equalsIgnoreCase(activity)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distinct activities of the week, including {@code "free"} if any slot is free.
+     */
+    public Set<String> getActivities() {
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i < NUM_SLOTS; i++) {
+            result.add(getActivity(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of this timetable with {@code slot} of {@code day} set to {@code activity}.
+     */
+    public WeeklyTimetable withActivity(String day, int slot, String activity) {
+        requireNonNull(activity);
+        int index = slotIndex(requireDay(day), slot);
+        int code = intern(activity);
+        if (codes[index] == code) {
+            return this;
+        }
+        int[] newCodes = codes.clone();
+        newCodes[index] = code;
+        return fromCodes(newCodes);
+    }
+
+    /**
+     * Returns a copy of this timetable with the activity of every busy slot replaced by {@code activity}.
+     */
+    public WeeklyTimetable withBusyActivity(String activity) {
+        requireNonNull(activity);
+        int code = intern(activity);
+        int[] newCodes = codes.clone();
+        for (int i = 0; i < NUM_SLOTS; i++) {
+            if (!isFree(i)) {
+                newCodes[i] = code;
+            }
+        }
+        return fromCodes(newCodes);
+    }
+
+    /**
+     * Returns an immutable view of this timetable as a map of day names to lists of time slots, which throws
+     * {@code UnsupportedOperationException} if modification is attempted.
+     */
+    public Map<String, List<TimeSlots>> asMap() {
+        Map<String, List<TimeSlots>> result = view;
+        if (result == null) {
+            result = new TimetableView(this);
+            view = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a mutable copy of this timetable in the legacy map form.
+     */
+    public HashMap<String, ArrayList<TimeSlots>> toLegacyMap() {
+        HashMap<String, ArrayList<TimeSlots>> legacy = new HashMap<>();
+        for (int day = 0; day < NUM_DAYS; day++) {
+            ArrayList<TimeSlots> daySlots = new ArrayList<>(SLOTS_PER_DAY);
+            for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                daySlots.add(timeSlotOf(codes[slotIndex(day, slot)]));
+            }
+            legacy.put(DAYS[day], daySlots);
+        }
+        return legacy;
+    }
+
+    /**
+     * Creates a timetable from activity codes, computing its busy mask.
+     */
+    private static WeeklyTimetable fromCodes(int[] codes) {
+        long busyMask = 0L;
+        for (int i = 0; i < NUM_SLOTS; i++) {
+            if (codes[i] != FREE_CODE && !isFreeActivity(timeSlotOf(codes[i]).toString())) {
+                busyMask |= 1L << i;
+            }
+        }
+        if (busyMask == 0L && Arrays.equals(codes, EMPTY.codes)) {
+            return EMPTY;
+        }
+        return new WeeklyTimetable(busyMask, codes);
+    }
+
+    /**
+     * Returns the index of {@code day} in the week.
+     *
+     * @throws IllegalArgumentException if {@code day} is not a valid day name.
+     */
+    private static int requireDay(String day) {
+        int index = dayIndex(day);
+        if (index < 0) {
+            throw new IllegalArgumentException(MESSAGE_DAY_CONSTRAINTS);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the code of the shared {@code TimeSlots} of {@code activity}.
+     */
+    private static int intern(String activity) {
+        return TimeSlots.of(activity).getCode();
+    }
+
+    private static TimeSlots timeSlotOf(int code) {
+        return TimeSlots.ofCode(code);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WeeklyTimetable // instanceof handles nulls
+                && busyMask == ((WeeklyTimetable) other).busyMask
+                && hash == ((WeeklyTimetable) other).hash
+                && Arrays.equals(codes, ((WeeklyTimetable) other).codes));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    /**
+     * An unmodifiable map view of a {@code WeeklyTimetable}, keyed by day name in week order.
+     */
+    private static class TimetableView extends AbstractMap<String, List<TimeSlots>> {
+
+        private final WeeklyTimetable timetable;
+        private final Map<String, List<TimeSlots>> days = new LinkedHashMap<>();
+
+        TimetableView(WeeklyTimetable timetable) {
+            this.timetable = timetable;
+            for (int day = 0; day < NUM_DAYS; day++) {
+                days.put(DAYS[day], Collections.unmodifiableList(new DayView(timetable, day)));
+            }
+        }
+
+        WeeklyTimetable getTimetable() {
+            return timetable;
+        }
+
+        @Override
+        public List<TimeSlots> get(Object key) {
+            return days.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return days.containsKey(key);
+        }
+
+        @Override
+        public Set<Entry<String, List<TimeSlots>>> entrySet() {
+            return Collections.unmodifiableMap(days).entrySet();
+        }
+    }
+
+    /**
+     * A read-only list view of the slots of one day of a {@code WeeklyTimetable}.
+     */
+    private static class DayView extends AbstractList<TimeSlots> {
+
+        private final WeeklyTimetable timetable;
+        private final int offset;
+
+        DayView(WeeklyTimetable timetable, int day) {
+            this.timetable = timetable;
+            this.offset = day * SLOTS_PER_DAY;
+        }
+
+        @Override
+        public TimeSlots get(int index) {
+            if (index < 0 || index >= SLOTS_PER_DAY) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+            return timeSlotOf(timetable.codes[offset + index]);
+        }
+
+        @Override
+        public int size() {
+            return SLOTS_PER_DAY;
+        }
+    }
+}
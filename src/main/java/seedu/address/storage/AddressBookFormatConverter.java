@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the xml and binary formats.
+ */
+public class AddressBookFormatConverter {
+
+    private AddressBookFormatConverter() {}
+
+    /**
+     * Writes the address book in the xml file at {@code xmlFilePath} to {@code binaryFilePath} in the binary format.
+     * Throws {@code NoSuchFileException} if there is no file at {@code xmlFilePath}.
+     *
+     * @throws DataConversionException if the xml file is not in the correct format.
+     */
+    public static void xmlToBinary(Path xmlFilePath, Path binaryFilePath) throws DataConversionException,
+                                                                                IOException {
+        requireNonNull(binaryFilePath);
+        ReadOnlyAddressBook addressBook = read(new XmlAddressBookStorage(xmlFilePath), xmlFilePath);
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Writes the address book in the binary file at {@code binaryFilePath} to {@code xmlFilePath} in the xml format.
+     * Throws {@code NoSuchFileException} if there is no file at {@code binaryFilePath}.
+     *
+     * @throws DataConversionException if the binary file is not in the correct format.
+     */
+    public static void binaryToXml(Path binaryFilePath, Path xmlFilePath) throws DataConversionException,
+                                                                                IOException {
+        requireNonNull(xmlFilePath);
+        ReadOnlyAddressBook addressBook = read(new BinaryAddressBookStorage(binaryFilePath), binaryFilePath);
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Reads the address book at {@code filePath} with {@code storage}, which must exist.
+     */
+    private static ReadOnlyAddressBook read(AddressBookStorage storage, Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(filePath);
+        if (!addressBook.isPresent()) {
+            throw new NoSuchFileException(filePath.toString());
+        }
+        return addressBook.get();
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books on a background thread.
+ * Only the latest address book submitted is kept waiting to be saved, so a burst of changes made while a save is in
+ * progress results in a single further save.
+ */
+public class AsyncAddressBookSaver {
+
+    /**
+     * Saves an address book, failing with an {@code IOException}.
+     */
+    @FunctionalInterface
+    public interface SaveAction {
+        void save(ReadOnlyAddressBook addressBook) throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final SaveAction saveAction;
+    private final Consumer<IOException> failureHandler;
+    private final AtomicReference<ReadOnlyAddressBook> pending = new AtomicReference<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a saver that saves with {@code saveAction} and passes save failures to {@code failureHandler}, on its
+     * background thread.
+     */
+    public AsyncAddressBookSaver(SaveAction saveAction, Consumer<IOException> failureHandler) {
+        requireNonNull(saveAction);
+        requireNonNull(failureHandler);
+        this.saveAction = saveAction;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, replacing any address book that is still waiting to be saved.
+     * {@code addressBook} must not change afterwards, see {@link ReadOnlyAddressBook#snapshot()}.
+     */
+    public void submit(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (pending.getAndSet(addressBook) == null) {
+            executor.execute(this::saveLatest);
+        }
+    }
+
+    /**
+     * Blocks until every address book submitted so far has been saved, or replaced by a later one and saved.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail.", e);
+        }
+    }
+
+    /**
+     * Saves the address book waiting to be saved, if it has not been saved by an earlier run.
+     */
+    private void saveLatest() {
+        ReadOnlyAddressBook addressBook = pending.getAndSet(null);
+        if (addressBook == null) {
+            return;
+        }
+        try {
+            saveAction.save(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + e.getMessage());
+            failureHandler.accept(e);
+        }
+    }
+}
@@ -0,0 +1,386 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AtomicFileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.enrolledmodule.EnrolledModule;
+import seedu.address.model.person.LazyPersonDetails;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetails;
+import seedu.address.model.person.WeeklyTimetable;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * The file holds, in order:
+ * <ul>
+ *     <li>a header of a magic number and the format version,</li>
+ *     <li>a table of the tags, enrolled modules and timetable activities of every person, each stored once,</li>
+ *     <li>the persons, each with its name, phone, email and address, the table indices of its tags and enrolled
+ *     modules, a mask of the slots of its timetable that are not free, and the table index of the activity in each
+ *     of those slots.</li>
+ * </ul>
+ * Strings are stored as UTF-8 bytes after their length, and lengths, counts and table indices as variable-length
+ * integers. The file is memory-mapped when read.
+ * A file in the xml format is read as such, so that changing the format of an existing address book only needs a
+ * save.
+ * The storage can leave the enrolled modules and timetable of each person in their encoded form when reading, to
+ * be decoded only when first used. They are still checked when read, so that decoding them later cannot fail.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final int MAGIC = 0x41424231; // "ABB1"
+
+    private Path filePath;
+    private final boolean isLazy;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage that, if {@code isLazy} is true, reads persons whose enrolled modules and timetable are
+     * decoded when first accessed.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isLazy) {
+        this.filePath = filePath;
+        this.isLazy = isLazy;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        Optional<Path> intactFilePath = AtomicFileUtil.findIntactVersion(filePath, AtomicFileUtil.DEFAULT_BACKUP_COUNT);
+        if (!intactFilePath.isPresent()) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+        if (!isBinaryFile(intactFilePath.get())) {
+            logger.info("Reading AddressBook file " + intactFilePath.get() + " as xml");
+            return new XmlAddressBookStorage(intactFilePath.get()).readAddressBook(intactFilePath.get());
+        }
+
+        try (FileChannel channel = FileChannel.open(intactFilePath.get(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(decode(buffer, isLazy));
+        } catch (BufferUnderflowException | IllegalValueException | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AtomicFileUtil.save(filePath, AtomicFileUtil.CommentStyle.LINE, AtomicFileUtil.DEFAULT_BACKUP_COUNT,
+            out -> encode(addressBook.getPersonList(), new DataOutputStream(out)));
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the magic number of the binary format.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // reads until the header is full or the file ends
+            }
+            return !header.hasRemaining() && header.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Writes {@code persons} to {@code out} in the binary format.
+     */
+    private static void encode(List<Person> persons, DataOutputStream out) throws IOException {
+        Map<String, Integer> table = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                table.putIfAbsent(tag.getTagName(), table.size());
+            }
+            for (String module : person.getEnrolledModules().keySet()) {
+                table.putIfAbsent(module, table.size());
+            }
+            WeeklyTimetable timetable = person.getTimetable();
+            for (long bits = BinaryPersonCodec.activityMaskOf(timetable); bits != 0; bits &= bits - 1) {
+                table.putIfAbsent(timetable.getActivity(Long.numberOfTrailingZeros(bits)), table.size());
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        writeVarInt(out, table.size());
+        for (String entry : table.keySet()) {
+            writeString(out, entry);
+        }
+
+        writeVarInt(out, persons.size());
+        for (Person person : persons) {
+            writeString(out, person.getName().fullName);
+            writeString(out, person.getPhone().value);
+            writeString(out, person.getEmail().value);
+            writeString(out, person.getAddress().value);
+            writeVarInt(out, person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeVarInt(out, table.get(tag.getTagName()));
+            }
+            writeVarInt(out, person.getEnrolledModules().size());
+            for (String module : person.getEnrolledModules().keySet()) {
+                writeVarInt(out, table.get(module));
+            }
+            WeeklyTimetable timetable = person.getTimetable();
+            long activityMask = BinaryPersonCodec.activityMaskOf(timetable);
+            out.writeLong(activityMask);
+            for (long bits = activityMask; bits != 0; bits &= bits - 1) {
+                writeVarInt(out, table.get(timetable.getActivity(Long.numberOfTrailingZeros(bits))));
+            }
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code buffer}.
+     * If {@code isLazy} is true, the enrolled modules and timetable of each person are checked, and copied out of
+     * {@code buffer} in their encoded form to be decoded when first accessed.
+     *
+     * @throws IllegalValueException if the data is not in the binary format or violates the data constraints of the
+     *     model.
+     */
+    private static AddressBook decode(ByteBuffer buffer, boolean isLazy) throws IllegalValueException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalValueException("Not an address book file");
+        }
+        int version = buffer.getShort();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException("Unsupported address book format version " + version);
+        }
+        byte[] scratch = new byte[256];
+        String[] table = new String[readCount(buffer)];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = readString(buffer, scratch);
+        }
+        boolean[] isCheckedModule = new boolean[table.length];
+        LazyPersonDetails.Decoder decoder = encoded -> decodeDetails(encoded, table);
+
+        int personCount = readVarInt(buffer);
+        List<Person> persons = new ArrayList<>(Math.min(personCount, buffer.remaining()));
+        String[] activities = new String[WeeklyTimetable.NUM_SLOTS];
+        for (int i = 0; i < personCount; i++) {
+            String name = readString(buffer, scratch);
+            String phone = readString(buffer, scratch);
+            String email = readString(buffer, scratch);
+            String address = readString(buffer, scratch);
+            String[] tags = readTableEntries(buffer, table);
+            if (isLazy) {
+                int detailsStart = buffer.position();
+                checkDetails(buffer, table, isCheckedModule);
+                byte[] encoded = new byte[buffer.position() - detailsStart];
+                ByteBuffer details = buffer.duplicate();
+                details.position(detailsStart);
+                details.get(encoded);
+                persons.add(BinaryPersonCodec.toPerson(name, phone, email, address, tags,
+                        new LazyPersonDetails(encoded, decoder)));
+                continue;
+            }
+            String[] enrolledModules = readTableEntries(buffer, table);
+            readActivities(buffer, table, activities);
+            persons.add(BinaryPersonCodec.toPerson(name, phone, email, address, tags, enrolledModules, activities));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Reads the activity mask of a timetable followed by the table indices of its activities, and fills in
+     * {@code activities} with the activity of every slot of the week.
+     */
+    private static void readActivities(ByteBuffer buffer, String[] table, String[] activities)
+            throws IllegalValueException {
+        long activityMask = buffer.getLong();
+        BinaryPersonCodec.checkActivityMask(activityMask);
+        for (int slot = 0; slot < activities.length; slot++) {
+            activities[slot] = (activityMask & (1L << slot)) != 0
+                    ? readTableEntry(buffer, table)
+                    : WeeklyTimetable.FREE;
+        }
+    }
+
+    /**
+     * Reads past the enrolled modules and timetable of a person, checking them as they would be checked when
+     * decoded. {@code isCheckedModule} marks the table entries already found to be valid module names.
+     */
+    private static void checkDetails(ByteBuffer buffer, String[] table, boolean[] isCheckedModule)
+            throws IllegalValueException {
+        int moduleCount = readVarInt(buffer);
+        for (int i = 0; i < moduleCount; i++) {
+            int index = readTableIndex(buffer, table);
+            if (!isCheckedModule[index]) {
+                BinaryPersonCodec.checkEnrolledModuleName(table[index]);
+                isCheckedModule[index] = true;
+            }
+        }
+        long activityMask = buffer.getLong();
+        BinaryPersonCodec.checkActivityMask(activityMask);
+        for (int i = Long.bitCount(activityMask); i > 0; i--) {
+            readTableIndex(buffer, table);
+        }
+    }
+
+    /**
+     * Decodes the enrolled modules and timetable of a person, which were checked by
+     * {@link #checkDetails(ByteBuffer, String[], boolean[])} when read.
+     */
+    private static PersonDetails decodeDetails(byte[] encoded, String[] table) {
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        try {
+            Map<String, EnrolledModule> enrolledModules =
+                    BinaryPersonCodec.toEnrolledModules(readTableEntries(buffer, table));
+            String[] activities = new String[WeeklyTimetable.NUM_SLOTS];
+            readActivities(buffer, table, activities);
+            return new PersonDetails(enrolledModules, WeeklyTimetable.fromActivities(activities));
+        } catch (IllegalValueException | BufferUnderflowException e) {
+            throw new IllegalStateException("Person details were checked when read", e);
+        }
+    }
+
+    /**
+     * Reads a count followed by that many table indices, and returns the table entries at those indices.
+     */
+    private static String[] readTableEntries(ByteBuffer buffer, String[] table) throws IllegalValueException {
+        String[] entries = new String[readCount(buffer)];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = readTableEntry(buffer, table);
+        }
+        return entries;
+    }
+
+    /**
+     * Reads a table index and returns the table entry at that index.
+     */
+    private static String readTableEntry(ByteBuffer buffer, String[] table) throws IllegalValueException {
+        return table[readTableIndex(buffer, table)];
+    }
+
+    /**
+     * Reads a table index, checking that the table has an entry at that index.
+     */
+    private static int readTableIndex(ByteBuffer buffer, String[] table) throws IllegalValueException {
+        int index = readVarInt(buffer);
+        if (index >= table.length) {
+            throw new IllegalValueException("Unknown string table entry " + index);
+        }
+        return index;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string, using {@code scratch} to hold its bytes when it fits.
+     */
+    private static String readString(ByteBuffer buffer, byte[] scratch) throws IllegalValueException {
+        int length = readVarInt(buffer);
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = length <= scratch.length ? scratch : new byte[length];
+        buffer.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the non-negative {@code value} in 7-bit groups, least significant first, with the high bit of each
+     * byte set if more bytes follow.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7f) != 0) {
+            out.writeByte((remaining & 0x7f) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarInt(DataOutputStream, int)}.
+     */
+    private static int readVarInt(ByteBuffer buffer) throws IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte next = buffer.get();
+            value |= (next & 0x7f) << shift;
+            if (next >= 0 && value >= 0) {
+                return value;
+            } else if (next >= 0) {
+                break;
+            }
+        }
+        throw new IllegalValueException("Malformed length or index");
+    }
+
+    /**
+     * Reads the number of entries that follow, each of which takes at least a byte, so that a damaged count is
+     * rejected before space is allocated for the entries.
+     */
+    private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = readVarInt(buffer);
+        if (count > buffer.remaining()) {
+            throw new IllegalValueException("Malformed length or index");
+        }
+        return count;
+    }
+}
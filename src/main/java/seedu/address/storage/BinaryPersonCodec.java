@@ -0,0 +1,205 @@
+package seedu.address.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.enrolledmodule.EnrolledModule;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.LazyPersonDetails;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.WeeklyTimetable;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes persons in a compact binary form.
+ * The timetable is written as a mask of the slots whose activity is not "free", followed by the activities of
+ * those slots only.
+ */
+class BinaryPersonCodec {
+
+    private BinaryPersonCodec() {}
+
+    /**
+     * Writes {@code person} to {@code out}.
+     */
+    static void write(DataOutput out, Person person) throws IOException {
+        out.writeUTF(person.getName().fullName);
+        out.writeUTF(person.getPhone().value);
+        out.writeUTF(person.getEmail().value);
+        out.writeUTF(person.getAddress().value);
+
+        out.writeShort(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeUTF(tag.getTagName());
+        }
+        out.writeShort(person.getEnrolledModules().size());
+        for (String module : person.getEnrolledModules().keySet()) {
+            out.writeUTF(module);
+        }
+
+        WeeklyTimetable timetable = person.getTimetable();
+        long activityMask = activityMaskOf(timetable);
+        out.writeLong(activityMask);
+        for (long bits = activityMask; bits != 0; bits &= bits - 1) {
+            out.writeUTF(timetable.getActivity(Long.numberOfTrailingZeros(bits)));
+        }
+    }
+
+    /**
+     * Reads a person written by {@link #write(DataOutput, Person)} from {@code in}.
+     *
+     * @throws IllegalValueException if any of the fields read violates the data constraints of the model.
+     */
+    static Person read(DataInput in) throws IOException, IllegalValueException {
+        String name = in.readUTF();
+        String phone = in.readUTF();
+        String email = in.readUTF();
+        String address = in.readUTF();
+        String[] tags = new String[in.readUnsignedShort()];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = in.readUTF();
+        }
+        String[] enrolledModules = new String[in.readUnsignedShort()];
+        for (int i = 0; i < enrolledModules.length; i++) {
+            enrolledModules[i] = in.readUTF();
+        }
+
+        long activityMask = in.readLong();
+        checkActivityMask(activityMask);
+        String[] activities = new String[WeeklyTimetable.NUM_SLOTS];
+        for (int i = 0; i < activities.length; i++) {
+            activities[i] = (activityMask & (1L << i)) != 0 ? in.readUTF() : WeeklyTimetable.FREE;
+        }
+        return toPerson(name, phone, email, address, tags, enrolledModules, activities);
+    }
+
+    /**
+     * Throws if {@code activityMask} has slots outside of the week.
+     */
+    static void checkActivityMask(long activityMask) throws IllegalValueException {
+        if ((activityMask & ~WeeklyTimetable.ALL_SLOTS_MASK) != 0) {
+            throw new IllegalValueException("Unknown time slots in timetable");
+        }
+    }
+
+    /**
+     * Returns the person with the given fields, and the given activity in every slot of the week.
+     *
+     * @throws IllegalValueException if any of the fields violates the data constraints of the model.
+     */
+    static Person toPerson(String name, String phone, String email, String address, String[] tagNames,
+            String[] enrolledModuleNames, String[] activities) throws IllegalValueException {
+        checkFields(name, phone, email, address);
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                toTags(tagNames), toEnrolledModules(enrolledModuleNames), WeeklyTimetable.fromActivities(activities));
+    }
+
+    /**
+     * Returns the person with the given fields, whose enrolled modules and timetable are decoded from
+     * {@code details} when first accessed.
+     *
+     * @throws IllegalValueException if any of the fields violates the data constraints of the model.
+     */
+    static Person toPerson(String name, String phone, String email, String address, String[] tagNames,
+            LazyPersonDetails details) throws IllegalValueException {
+        checkFields(name, phone, email, address);
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                toTags(tagNames), details);
+    }
+
+    /**
+     * Throws if any of the given fields violates the data constraints of the model.
+     */
+    private static void checkFields(String name, String phone, String email, String address)
+            throws IllegalValueException {
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_PHONE_CONSTRAINTS);
+        }
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_EMAIL_CONSTRAINTS);
+        }
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_ADDRESS_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Returns the tags with the given names.
+     *
+     * @throws IllegalValueException if any of the names is not a valid tag name.
+     */
+    private static Set<Tag> toTags(String[] tagNames) throws IllegalValueException {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the enrolled modules with the given names, keyed by name.
+     *
+     * @throws IllegalValueException if any of the names is not a valid module name.
+     */
+    static Map<String, EnrolledModule> toEnrolledModules(String[] enrolledModuleNames) throws IllegalValueException {
+        Map<String, EnrolledModule> enrolledModules = new TreeMap<>();
+        for (String module : enrolledModuleNames) {
+            checkEnrolledModuleName(module);
+            enrolledModules.put(module, new EnrolledModule(module));
+        }
+        return enrolledModules;
+    }
+
+    /**
+     * Throws if {@code module} is not a valid module name.
+     */
+    static void checkEnrolledModuleName(String module) throws IllegalValueException {
+        if (!EnrolledModule.isValidEnRolledModuleName(module)) {
+            throw new IllegalValueException(EnrolledModule.MESSAGE_ENROLLED_MODULE_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Returns a mask of the slots of {@code timetable} whose activity is not "free".
+     */
+    static long activityMaskOf(WeeklyTimetable timetable) {
+        long activityMask = 0L;
+        for (int i = 0; i < WeeklyTimetable.NUM_SLOTS; i++) {
+            if (!WeeklyTimetable.FREE.equals(timetable.getActivity(i))) {
+                activityMask |= 1L << i;
+            }
+        }
+        return activityMask;
+    }
+
+    /**
+     * Returns true if {@code first} and {@code second} have the same data in every field.
+     * {@link Person#equals(Object)} only compares names.
+     */
+    static boolean haveSameData(Person first, Person second) {
+        return first == second
+                || (first.hashCode() == second.hashCode()
+                && first.getName().equals(second.getName())
+                && first.getPhone().equals(second.getPhone())
+                && first.getEmail().equals(second.getEmail())
+                && first.getAddress().equals(second.getAddress())
+                && first.getTags().equals(second.getTags())
+                && first.getEnrolledModules().equals(second.getEnrolledModules())
+                && first.getTimetable().equals(second.getTimetable()));
+    }
+}
@@ -0,0 +1,381 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as an xml snapshot and an append-only journal of the changes made after
+ * the snapshot was taken.
+ * Each save appends one checksummed record per added, edited or deleted person to the journal, and syncs the journal
+ * to the disk once. When the journal grows past a threshold, it is set aside and a new snapshot is written in the
+ * background. A record that was only partly written when the app stopped is ignored when the journal is read.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private static final int MAGIC = 0x41424a31; // "ABJ1"
+    private static final int HEADER_LENGTH = Integer.BYTES;
+    private static final int RECORD_HEADER_LENGTH = Integer.BYTES + Long.BYTES;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final Path compactingJournalPath;
+    private final long compactionThreshold;
+    private final XmlAddressBookStorage snapshotStorage;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The persons as saved on the disk, or null if they are not known
+    private Map<String, Person> savedPersons;
+    // The length of the valid part of the journal, or -1 if the journal has not been read
+    private long journalLength = -1;
+    private FileChannel journal;
+    private Future<?> compaction;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that compacts its journal once the journal is at least {@code compactionThreshold} bytes long.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = siblingOf(filePath, ".journal");
+        this.compactingJournalPath = siblingOf(filePath, ".journal.old");
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = new XmlAddressBookStorage(filePath);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the snapshot or a journal record is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                          IOException {
+        requireNonNull(filePath);
+
+        Path journalPath = siblingOf(filePath, ".journal");
+        Path compactingJournalPath = siblingOf(filePath, ".journal.old");
+        if (!Files.exists(filePath) && !Files.exists(journalPath) && !Files.exists(compactingJournalPath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Map<String, Person> persons = new TreeMap<>();
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (snapshot.isPresent()) {
+            for (Person person : snapshot.get().getPersonList()) {
+                persons.put(person.getName().fullName, person);
+            }
+        }
+        replay(compactingJournalPath, persons);
+        long validLength = replay(journalPath, persons);
+
+        if (filePath.equals(this.filePath)) {
+            closeJournal();
+            savedPersons = new HashMap<>(persons);
+            journalLength = validLength;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new ArrayList<>(persons.values()));
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * Only the file of this storage is journalled. Other files are saved as a plain xml snapshot.
+     * @param filePath location of the data. Cannot be null
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        Map<String, Person> persons = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            persons.put(person.getName().fullName, person);
+        }
+        if (savedPersons == null) {
+            // nothing is known about the files on the disk, so they are replaced
+            awaitCompaction();
+            closeJournal();
+            writeSnapshot(new ArrayList<>(persons.values()));
+            Files.deleteIfExists(journalPath);
+            Files.deleteIfExists(compactingJournalPath);
+            journalLength = -1;
+            savedPersons = persons;
+            return;
+        }
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        for (Person person : persons.values()) {
+            Person saved = savedPersons.get(person.getName().fullName);
+            if (saved == null || !BinaryPersonCodec.haveSameData(saved, person)) {
+                writeRecord(records, PUT, person);
+            }
+        }
+        for (Person saved : savedPersons.values()) {
+            if (!persons.containsKey(saved.getName().fullName)) {
+                writeRecord(records, DELETE, saved);
+            }
+        }
+        if (records.size() == 0) {
+            savedPersons = persons;
+            return;
+        }
+
+        try {
+            FileChannel channel = openJournal();
+            channel.write(ByteBuffer.wrap(records.toByteArray()));
+            channel.force(false);
+            journalLength = channel.position();
+        } catch (IOException e) {
+            // the journal may hold part of the records, so it is reopened at its last valid length, and the next save
+            // replaces the files as the changes that reached the disk are not known
+            savedPersons = null;
+            try {
+                closeJournal();
+            } catch (IOException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+        savedPersons = persons;
+        if (journalLength >= compactionThreshold) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Blocks until the compaction in progress, if any, has finished.
+     */
+    public void awaitCompaction() {
+        Future<?> running;
+        synchronized (this) {
+            running = compaction;
+        }
+        if (running == null) {
+            return;
+        }
+        try {
+            running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to compact " + journalPath + ": " + e.getCause());
+        }
+    }
+
+    /**
+     * Sets the journal aside and writes a snapshot of the saved persons in the background.
+     * The journal that was set aside is deleted once the snapshot is written. If an earlier compaction failed, its
+     * journal is kept and compacted together with the current one.
+     */
+    private void startCompaction() throws IOException {
+        if (compaction != null && !compaction.isDone()) {
+            return;
+        }
+        if (!Files.exists(compactingJournalPath)) {
+            closeJournal();
+            Files.move(journalPath, compactingJournalPath, StandardCopyOption.ATOMIC_MOVE);
+            journalLength = -1;
+        }
+        List<Person> persons = new ArrayList<>(savedPersons.values());
+        compaction = compactor.submit(() -> {
+            writeSnapshot(persons);
+            Files.deleteIfExists(compactingJournalPath);
+            return null;
+        });
+    }
+
+    /**
+     * Writes {@code persons} as the new snapshot, which replaces the old one only once it has been completely
+     * written.
+     */
+    private void writeSnapshot(List<Person> persons) throws IOException {
+        snapshotStorage.saveAddressBook(() -> FXCollections.observableArrayList(persons), filePath);
+    }
+
+    /**
+     * Returns the journal, opened for appending after its last valid record.
+     */
+    private FileChannel openJournal() throws IOException {
+        if (journal != null) {
+            return journal;
+        }
+        FileUtil.createParentDirsOfFile(journalPath);
+        journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        if (journalLength < HEADER_LENGTH) {
+            journal.truncate(0);
+            journal.write(ByteBuffer.allocate(HEADER_LENGTH).putInt(0, MAGIC));
+        } else {
+            // drops any record that was only partly written
+            journal.truncate(journalLength);
+            journal.position(journalLength);
+        }
+        return journal;
+    }
+
+    /**
+     * Closes the journal, if it is open, so that it can be moved or deleted.
+     */
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalPath}, if it exists, to {@code persons}.
+     * Reading stops at the first record that is incomplete or does not match its checksum.
+     *
+     * @return the length of the valid part of the journal, or -1 if there is no valid journal.
+     * @throws DataConversionException if a complete record holds invalid data.
+     */
+    private static long replay(Path journalPath, Map<String, Person> persons) throws DataConversionException,
+                                                                                    IOException {
+        if (!Files.exists(journalPath)) {
+            return -1;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+        if (buffer.remaining() < HEADER_LENGTH || buffer.getInt() != MAGIC) {
+            logger.warning("Ignoring journal " + journalPath + " with an unknown format");
+            return -1;
+        }
+
+        CRC32 checksum = new CRC32();
+        while (buffer.remaining() >= RECORD_HEADER_LENGTH) {
+            int length = buffer.getInt(buffer.position());
+            long expectedChecksum = buffer.getLong(buffer.position() + Integer.BYTES);
+            int start = buffer.position() + RECORD_HEADER_LENGTH;
+            if (length <= 0 || length > buffer.limit() - start) {
+                break;
+            }
+            checksum.reset();
+            checksum.update(buffer.array(), start, length);
+            if (checksum.getValue() != expectedChecksum) {
+                break;
+            }
+            applyRecord(new DataInputStream(new ByteArrayInputStream(buffer.array(), start, length)), persons);
+            buffer.position(start + length);
+        }
+        if (buffer.hasRemaining()) {
+            logger.warning("Ignoring " + buffer.remaining() + " bytes of incomplete records in " + journalPath);
+        }
+        return buffer.position();
+    }
+
+    /**
+     * Applies the put or delete in {@code record} to {@code persons}.
+     */
+    private static void applyRecord(DataInputStream record, Map<String, Person> persons)
+            throws DataConversionException, IOException {
+        try {
+            byte type = record.readByte();
+            if (type == PUT) {
+                Person person = BinaryPersonCodec.read(record);
+                persons.put(person.getName().fullName, person);
+            } else if (type == DELETE) {
+                persons.remove(record.readUTF());
+            } else {
+                throw new IllegalValueException("Unknown journal record type " + type);
+            }
+        } catch (EOFException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Appends a record that puts or deletes {@code person} to {@code out}.
+     */
+    private static void writeRecord(ByteArrayOutputStream out, byte type, Person person) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(bytes);
+        record.writeByte(type);
+        if (type == PUT) {
+            BinaryPersonCodec.write(record, person);
+        } else {
+            record.writeUTF(person.getName().fullName);
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.toByteArray());
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(bytes.size());
+        header.writeLong(checksum.getValue());
+        bytes.writeTo(out);
+    }
+
+    private static Path siblingOf(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+}
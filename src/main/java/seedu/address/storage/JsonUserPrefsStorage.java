@@ -1,18 +1,29 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.AtomicFileUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.UserPrefs;
 
 /**
  * A class to access UserPrefs stored in the hard disk as a json file
+ * The file is saved and checked for damage as described in {@link AtomicFileUtil}.
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -35,12 +46,33 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
      * @throws DataConversionException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataConversionException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<Path> intactFilePath;
+        try {
+            intactFilePath = AtomicFileUtil.findIntactVersion(prefsFilePath, AtomicFileUtil.DEFAULT_BACKUP_COUNT);
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+        Path prefsFile = intactFilePath.orElse(prefsFilePath);
+        if (!Files.exists(prefsFile)) {
+            logger.info("Prefs file " + prefsFile + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            String json = AtomicFileUtil.withoutChecksumLine(FileUtil.readFromFile(prefsFile));
+            return Optional.of(JsonUtil.fromJsonString(json, UserPrefs.class));
+        } catch (IOException e) {
+            logger.warning("Error reading from prefs file " + prefsFile + ": " + e);
+            throw new DataConversionException(e);
+        }
     }
 
     @Override
     public void saveUserPrefs(UserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        requireNonNull(userPrefs);
+        byte[] json = JsonUtil.toJsonString(userPrefs).getBytes(StandardCharsets.UTF_8);
+        AtomicFileUtil.save(filePath, AtomicFileUtil.CommentStyle.LINE, AtomicFileUtil.DEFAULT_BACKUP_COUNT,
+            out -> out.write(json));
     }
 
 }
@@ -0,0 +1,494 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A persistent catalog of the module folders in the notes folder and of the files in each of them, with the size,
+ * last modified time and CRC32 of every file, so that the notes folder is not walked every time the app starts.
+ * The catalog is kept in a file next to the notes folder, which holds:
+ * <ul>
+ *     <li>a header of a magic number, the format version and the last modified time of the notes folder when the
+ *     catalog was last updated,</li>
+ *     <li>a log of changes, each of which adds a module folder, adds a file to a module folder, removes a module
+ *     folder or removes every module folder.</li>
+ * </ul>
+ * Changes are appended to the file as the notes storage changes the notes folder, and the file is memory-mapped and
+ * replayed when read. It is rewritten without the changes that were undone once they outnumber the others.
+ * The catalog is rebuilt by walking the notes folder if its file is missing or damaged, or if the notes folder was
+ * changed by something else, which changes the last modified time of the notes folder. Changes made by something
+ * else within a module folder are not noticed.
+ */
+class NotesCatalog {
+
+    static final String CATALOG_FILE_SUFFIX = ".catalog";
+
+    private static final Logger logger = LogsCenter.getLogger(NotesCatalog.class);
+
+    private static final int MAGIC = 0x4e434154; // "NCAT"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_LENGTH = 16;
+    private static final int FOLDER_TIME_POSITION = 8;
+    private static final long MISSING_FOLDER_TIME = -1;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /** The file is rewritten once it holds more than this many records besides twice the live ones. */
+    private static final int REWRITE_SLACK = 1024;
+
+    private static final byte ADD_MODULE = 1;
+    private static final byte ADD_FILE = 2;
+    private static final byte REMOVE_MODULE = 3;
+    private static final byte REMOVE_ALL = 4;
+
+    private final Path notesFolder;
+    private final Path catalogFile;
+
+    // The files of every module folder, keyed by module folder name and then by path; null until first read
+    private SortedMap<String, SortedMap<String, Entry>> modules;
+
+    /**
+     * Creates a catalog of {@code notesFolder}, kept in a file next to it.
+     */
+    NotesCatalog(Path notesFolder) {
+        requireNonNull(notesFolder);
+        this.notesFolder = notesFolder;
+        this.catalogFile = notesFolder.resolveSibling(notesFolder.getFileName() + CATALOG_FILE_SUFFIX);
+    }
+
+    Path getCatalogFile() {
+        return catalogFile;
+    }
+
+    /**
+     * Returns the names of the module folders in the notes folder, in order.
+     */
+    synchronized Set<String> getModules() throws IOException {
+        return Collections.unmodifiableSet(new TreeSet<>(load().keySet()));
+    }
+
+    /**
+     * Returns the files in the module folder {@code module}, in order of their paths, or an empty list if there is no
+     * such module folder.
+     */
+    synchronized List<Entry> getFiles(String module) throws IOException {
+        requireNonNull(module);
+        return Collections.unmodifiableList(new ArrayList<>(
+                load().getOrDefault(module, Collections.emptySortedMap()).values()));
+    }
+
+    /**
+     * Catalogs the files now in the module folder {@code module}, which is removed from the catalog if it no longer
+     * exists. Files whose size and last modified time are unchanged are not read again.
+     */
+    synchronized void updateModule(String module) throws IOException {
+        requireNonNull(module);
+        load();
+        Path folder = notesFolder.resolve(module);
+        if (!Files.isDirectory(folder)) {
+            removeModules(Collections.singleton(module));
+            return;
+        }
+
+        SortedMap<String, Entry> files = scanModule(folder, modules.getOrDefault(module,
+                Collections.emptySortedMap()));
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(records);
+        if (modules.containsKey(module)) {
+            out.writeByte(REMOVE_MODULE);
+            writeString(out, module);
+        }
+        writeModule(out, module, files);
+        modules.put(module, files);
+        append(records.toByteArray());
+    }
+
+    /**
+     * Removes the module folders {@code modulesToRemove} from the catalog.
+     */
+    synchronized void removeModules(Collection<String> modulesToRemove) throws IOException {
+        requireNonNull(modulesToRemove);
+        load();
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(records);
+        for (String module : modulesToRemove) {
+            if (modules.remove(module) != null) {
+                out.writeByte(REMOVE_MODULE);
+                writeString(out, module);
+            }
+        }
+        append(records.toByteArray());
+    }
+
+    /**
+     * Removes every module folder from the catalog.
+     */
+    synchronized void removeAllModules() throws IOException {
+        load();
+        modules.clear();
+        append(new byte[] {REMOVE_ALL});
+    }
+
+    /**
+     * Returns the catalog, reading it from its file, or rebuilding it from the notes folder, if it has not been read.
+     */
+    private SortedMap<String, SortedMap<String, Entry>> load() throws IOException {
+        if (modules != null) {
+            return modules;
+        }
+        long folderTime = folderTimeOf(notesFolder);
+        modules = read(folderTime);
+        if (modules == null) {
+            logger.info("Rebuilding the notes catalog from " + notesFolder);
+            modules = scanNotesFolder();
+            writeCatalog(folderTime);
+        }
+        return modules;
+    }
+
+    /**
+     * Reads the catalog from its file, or returns null if the file is missing or damaged, or was last updated when
+     * the notes folder had a last modified time other than {@code folderTime}.
+     * The file is rewritten if most of its records were undone by later ones.
+     */
+    private SortedMap<String, SortedMap<String, Entry>> read(long folderTime) throws IOException {
+        if (!Files.isRegularFile(catalogFile)) {
+            return null;
+        }
+
+        SortedMap<String, SortedMap<String, Entry>> replayed = new TreeMap<>();
+        int recordCount;
+        try (FileChannel channel = FileChannel.open(catalogFile, StandardOpenOption.READ)) {
+            // the header is checked before the file is mapped, as a mapped file cannot be replaced on some platforms
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // reads until the header is full
+            }
+            header.flip();
+            if (header.remaining() < HEADER_LENGTH || header.getInt() != MAGIC
+                    || header.getInt() != FORMAT_VERSION) {
+                logger.warning("Notes catalog " + catalogFile + " is not in the expected format");
+                return null;
+            }
+            if (header.getLong() != folderTime) {
+                logger.info("Notes folder " + notesFolder + " was changed since the notes catalog was updated");
+                return null;
+            }
+            ByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_LENGTH,
+                    channel.size() - HEADER_LENGTH);
+            recordCount = replay(records, replayed);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            logger.warning("Notes catalog " + catalogFile + " is damaged: " + e.getMessage());
+            return null;
+        }
+
+        int liveRecordCount = replayed.size() + replayed.values().stream().mapToInt(Map::size).sum();
+        if (recordCount > 2 * liveRecordCount + REWRITE_SLACK) {
+            modules = replayed;
+            try {
+                writeCatalog(folderTime);
+            } catch (IOException e) {
+                logger.warning("Failed to rewrite notes catalog " + catalogFile + ": " + e.getMessage());
+            }
+        }
+        return replayed;
+    }
+
+    /**
+     * Applies the records in {@code records} to {@code replayed}, and returns the number of records.
+     *
+     * @throws IllegalArgumentException if a record is of an unknown type or holds an invalid string.
+     */
+    private static int replay(ByteBuffer records, SortedMap<String, SortedMap<String, Entry>> replayed) {
+        int recordCount = 0;
+        while (records.hasRemaining()) {
+            byte type = records.get();
+            switch (type) {
+
+            case ADD_MODULE:
+                replayed.computeIfAbsent(readString(records), module -> new TreeMap<>());
+                break;
+
+            case ADD_FILE:
+                String module = readString(records);
+                Entry entry = new Entry(readString(records), records.getLong(), records.getLong(),
+                        Integer.toUnsignedLong(records.getInt()));
+                replayed.computeIfAbsent(module, unused -> new TreeMap<>()).put(entry.getPath(), entry);
+                break;
+
+            case REMOVE_MODULE:
+                replayed.remove(readString(records));
+                break;
+
+            case REMOVE_ALL:
+                replayed.clear();
+                break;
+
+            default:
+                throw new IllegalArgumentException("Unknown record type " + type);
+            }
+            recordCount++;
+        }
+        return recordCount;
+    }
+
+    /**
+     * Appends {@code records} to the catalog file, and records the current last modified time of the notes folder.
+     * The whole catalog is written instead if its file no longer exists.
+     */
+    private void append(byte[] records) throws IOException {
+        long folderTime = folderTimeOf(notesFolder);
+        if (!Files.isRegularFile(catalogFile)) {
+            writeCatalog(folderTime);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(catalogFile, StandardOpenOption.WRITE)) {
+            // a crash between these writes leaves a folder time that does not match, so the catalog is rebuilt
+            writeFully(channel, ByteBuffer.wrap(records), channel.size());
+            writeFully(channel, ByteBuffer.allocate(Long.BYTES).putLong(0, folderTime), FOLDER_TIME_POSITION);
+        }
+    }
+
+    /**
+     * Replaces the catalog file with one that holds the whole catalog, recorded at the notes folder time
+     * {@code folderTime}.
+     */
+    private void writeCatalog(long folderTime) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(folderTime);
+        for (Map.Entry<String, SortedMap<String, Entry>> module : modules.entrySet()) {
+            writeModule(out, module.getKey(), module.getValue());
+        }
+
+        Path tempFile = catalogFile.resolveSibling(catalogFile.getFileName() + TEMP_FILE_SUFFIX);
+        FileUtil.createParentDirsOfFile(tempFile);
+        Files.write(tempFile, bytes.toByteArray());
+        try {
+            Files.move(tempFile, catalogFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, catalogFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the files of every module folder in the notes folder. Hidden folders are not module folders.
+     */
+    private SortedMap<String, SortedMap<String, Entry>> scanNotesFolder() throws IOException {
+        SortedMap<String, SortedMap<String, Entry>> scanned = new TreeMap<>();
+        if (!Files.isDirectory(notesFolder)) {
+            return scanned;
+        }
+        try (DirectoryStream<Path> folders = Files.newDirectoryStream(notesFolder)) {
+            for (Path folder : folders) {
+                if (Files.isDirectory(folder) && !Files.isHidden(folder)) {
+                    scanned.put(folder.getFileName().toString(), scanModule(folder, Collections.emptySortedMap()));
+                }
+            }
+        }
+        return scanned;
+    }
+
+    /**
+     * Returns the files in the module folder {@code folder}. The entries in {@code known} are reused for files whose
+     * size and last modified time are unchanged.
+     */
+    private static SortedMap<String, Entry> scanModule(Path folder, Map<String, Entry> known) throws IOException {
+        SortedMap<String, Entry> files = new TreeMap<>();
+        Files.walkFileTree(folder, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                if (!attributes.isRegularFile()) {
+                    return FileVisitResult.CONTINUE;
+                }
+                String path = toCatalogPath(folder.relativize(file));
+                long size = attributes.size();
+                long lastModified = attributes.lastModifiedTime().toMillis();
+                Entry entry = known.get(path);
+                if (entry == null || entry.getSize() != size || entry.getLastModified() != lastModified) {
+                    entry = new Entry(path, size, lastModified, checksumOf(file));
+                }
+                files.put(path, entry);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return files;
+    }
+
+    /**
+     * Writes the records that add the module folder {@code module} and its {@code files}.
+     */
+    private static void writeModule(DataOutputStream out, String module, SortedMap<String, Entry> files)
+            throws IOException {
+        out.writeByte(ADD_MODULE);
+        writeString(out, module);
+        for (Entry entry : files.values()) {
+            out.writeByte(ADD_FILE);
+            writeString(out, module);
+            writeString(out, entry.getPath());
+            out.writeLong(entry.getSize());
+            out.writeLong(entry.getLastModified());
+            out.writeInt((int) entry.getChecksum());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     *
+     * @throws IllegalArgumentException if the length of the string is invalid.
+     */
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Returns the path of a file relative to its module folder, with its names separated by "/" on every platform.
+     */
+    private static String toCatalogPath(Path relativePath) {
+        StringBuilder path = new StringBuilder();
+        for (Path name : relativePath) {
+            if (path.length() > 0) {
+                path.append('/');
+            }
+            path.append(name);
+        }
+        return path.toString();
+    }
+
+    private static long folderTimeOf(Path folder) throws IOException {
+        return Files.isDirectory(folder) ? Files.getLastModifiedTime(folder).toMillis() : MISSING_FOLDER_TIME;
+    }
+
+    /**
+     * Returns the CRC32 of the content of {@code file}.
+     */
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * A file in a module folder.
+     */
+    static final class Entry {
+        private final String path;
+        private final long size;
+        private final long lastModified;
+        private final long checksum;
+
+        Entry(String path, long size, long lastModified, long checksum) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Returns the path of the file relative to its module folder, with its names separated by "/".
+         */
+        String getPath() {
+            return path;
+        }
+
+        long getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the last modified time of the file, in milliseconds since the epoch.
+         */
+        long getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Returns the CRC32 of the content of the file.
+         */
+        long getChecksum() {
+            return checksum;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+            Entry otherEntry = (Entry) other;
+            return path.equals(otherEntry.path)
+                    && size == otherEntry.size
+                    && lastModified == otherEntry.lastModified
+                    && checksum == otherEntry.checksum;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, size, lastModified, checksum);
+        }
+
+        @Override
+        public String toString() {
+            return path + " (" + size + " bytes, crc32 " + Long.toHexString(checksum) + ")";
+        }
+    }
+}
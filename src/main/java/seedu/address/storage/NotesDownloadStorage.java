@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Set;
 
+import seedu.address.commons.util.FileOperationSummary;
+
 /**
  * Represents the storage component for the downloaded notes
  */
@@ -14,11 +16,16 @@ public interface NotesDownloadStorage {
      */
     Path getNotesFilePath();
 
-    void deleteAllNotes() throws IOException;
+    /**
+     * Returns the names of the module folders of the notes downloaded.
+     */
+    Set<String> readDownloadedNotes() throws IOException;
+
+    FileOperationSummary deleteAllNotes() throws IOException;
 
-    void deleteSelectedNotes(Set<String> moduleNames) throws IOException;
+    FileOperationSummary deleteSelectedNotes(Set<String> moduleNames) throws IOException;
 
-    void relocateNotes(String moduleName) throws IOException;
+    FileOperationSummary relocateNotes(String moduleName) throws IOException;
 
     void unzipNotes(String moduleName) throws IOException;
 
@@ -4,59 +4,107 @@ import static seedu.address.commons.util.FileUtil.cleanModuleCode;
 import static seedu.address.commons.util.FileUtil.cleanName;
 import static seedu.address.commons.util.FileUtil.createDirectoryIfMissing;
 import static seedu.address.commons.util.FileUtil.deleteAllFiles;
-import static seedu.address.commons.util.FileUtil.deleteSelectedFolders;
+import static seedu.address.commons.util.FileUtil.deleteFolders;
 import static seedu.address.commons.util.FileUtil.relocateFiles;
 import static seedu.address.commons.util.UnzipUtil.unzipFile;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
+import seedu.address.commons.util.FileOperationSummary;
+
 /**
- * A class to access AddressBook data stored as an xml file on the hard disk.
+ * A class to access the notes downloaded into the notes folder on the hard disk.
+ * The module folders in the notes folder are tracked by a {@link NotesCatalog}, which is updated as notes are
+ * downloaded and deleted.
+ * Notes are deleted on up to {@code deleteParallelism} threads, each deleting a different module folder.
  */
 public class NotesDownloadStorageHelper implements NotesDownloadStorage {
 
     private Path notesFilePath;
     private Path absoluteNotesFilePath;
+    private final NotesCatalog catalog;
+    private final int deleteParallelism;
 
     public NotesDownloadStorageHelper(Path notesFilePath) {
+        this(notesFilePath, 1);
+    }
+
+    /**
+     * Creates a storage that deletes notes on {@code deleteParallelism} threads, or on as many threads as there are
+     * processors if it is 0 or less.
+     */
+    public NotesDownloadStorageHelper(Path notesFilePath, int deleteParallelism) {
         this.notesFilePath = notesFilePath;
         this.absoluteNotesFilePath = notesFilePath.toAbsolutePath();
+        this.catalog = new NotesCatalog(absoluteNotesFilePath);
+        this.deleteParallelism = deleteParallelism <= 0 ? Runtime.getRuntime().availableProcessors()
+                : deleteParallelism;
     }
 
     public Path getNotesFilePath() {
         return notesFilePath;
     }
 
+    public Set<String> readDownloadedNotes() throws IOException {
+        return catalog.getModules();
+    }
+
     /**
      * Deletes all notes in the notes folder
      */
-    public void deleteAllNotes() throws IOException {
+    public FileOperationSummary deleteAllNotes() throws IOException {
         createDirectoryIfMissing(absoluteNotesFilePath);
 
-        deleteAllFiles(absoluteNotesFilePath);
+        FileOperationSummary summary = deleteAllFiles(absoluteNotesFilePath, deleteParallelism);
+        if (summary.hasFailures()) {
+            updateAllModules();
+        } else {
+            catalog.removeAllModules();
+        }
+        return summary;
     }
 
     /**
-     * Deletes selected notes in the notes folder
+     * Deletes the notes of the module folders whose names contain any of {@code moduleNames}
      */
-    public void deleteSelectedNotes(Set moduleNames) throws IOException {
+    public FileOperationSummary deleteSelectedNotes(Set<String> moduleNames) throws IOException {
         createDirectoryIfMissing(absoluteNotesFilePath);
 
-        deleteSelectedFolders(absoluteNotesFilePath, moduleNames);
+        List<String> selectedModules = new ArrayList<>();
+        for (String module : catalog.getModules()) {
+            if (moduleNames.stream().anyMatch(module::contains)) {
+                selectedModules.add(module);
+            }
+        }
+        List<Path> selectedFolders = new ArrayList<>();
+        for (String module : selectedModules) {
+            selectedFolders.add(absoluteNotesFilePath.resolve(module));
+        }
+        FileOperationSummary summary = deleteFolders(selectedFolders, deleteParallelism);
+        if (summary.hasFailures()) {
+            updateAllModules();
+        } else {
+            catalog.removeModules(selectedModules);
+        }
+        return summary;
     }
 
     /**
      * Relocates notes to their appropriate folders
      */
-    public void relocateNotes(String moduleName) throws IOException {
+    public FileOperationSummary relocateNotes(String moduleName) throws IOException {
         moduleName = cleanName(moduleName);
         moduleName = cleanModuleCode(moduleName);
         Path moduleDirectory = Paths.get(notesFilePath.toString(), moduleName);
         createDirectoryIfMissing(moduleDirectory);
-        relocateFiles(absoluteNotesFilePath, moduleName);
+        FileOperationSummary summary = relocateFiles(absoluteNotesFilePath, moduleName);
+        catalog.updateModule(moduleName);
+        return summary;
     }
 
     /**
@@ -66,6 +114,16 @@ public class NotesDownloadStorageHelper implements NotesDownloadStorage {
         moduleName = cleanName(moduleName);
         moduleName = cleanModuleCode(moduleName);
         unzipFile(absoluteNotesFilePath, moduleName);
+        catalog.updateModule(moduleName);
+    }
+
+    /**
+     * Catalogs every module folder afresh, after a deletion that left an unknown part of some of them in place.
+     */
+    private void updateAllModules() throws IOException {
+        for (String module : catalog.getModules()) {
+            catalog.updateModule(module);
+        }
     }
 
 }
@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code XmlAdaptedPerson}s into the model's persons on a fork-join pool, and adds them to an address book
+ * in their original order.
+ * The result, including which error is reported when several persons are invalid, is the same as converting and
+ * adding the persons one at a time.
+ */
+class ParallelPersonConverter {
+
+    /** The parallelism that uses every available processor. */
+    static final int ALL_PROCESSORS = 0;
+
+    /** The converter that uses every available processor, shared by the conversions that are not given one. */
+    static final ParallelPersonConverter SHARED = new ParallelPersonConverter(ALL_PROCESSORS);
+
+    /** Ranges of at most this many persons are converted without being split further. */
+    private static final int SPLIT_THRESHOLD = 256;
+
+    private final int parallelism;
+    private ForkJoinPool pool;
+
+    /**
+     * Creates a converter that uses {@code parallelism} threads, or every available processor if it is
+     * {@link #ALL_PROCESSORS} or less.
+     */
+    ParallelPersonConverter(int parallelism) {
+        this.parallelism = parallelism <= ALL_PROCESSORS ? Runtime.getRuntime().availableProcessors() : parallelism;
+    }
+
+    int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Converts {@code xmlPersons} and adds them to {@code addressBook} in order.
+     *
+     * @throws IllegalValueException for the first person, in order, that violates the data constraints of the model
+     *     or is a duplicate of a person before it. The persons before it are still added.
+     */
+    void convertInto(List<XmlAdaptedPerson> xmlPersons, AddressBook addressBook) throws IllegalValueException {
+        Person[] persons = new Person[xmlPersons.size()];
+        IllegalValueException[] errors = new IllegalValueException[xmlPersons.size()];
+        ConvertRange task = new ConvertRange(xmlPersons, persons, errors, 0, persons.length);
+        if (parallelism == 1 || persons.length <= SPLIT_THRESHOLD) {
+            task.convertRange();
+        } else {
+            getPool().invoke(task);
+        }
+
+        for (int i = 0; i < persons.length; i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            if (addressBook.hasPerson(persons[i])) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(persons[i]);
+        }
+    }
+
+    /**
+     * Returns the pool that persons are converted on, which is created on first use and reused by every later
+     * conversion. The common pool is used if it has the same parallelism, counting the thread that invokes it.
+     * The threads of a pool of its own are daemon threads that end once they have been idle for a while, so the pool
+     * is never shut down.
+     */
+    private synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            pool = parallelism == ForkJoinPool.getCommonPoolParallelism() + 1
+                    ? ForkJoinPool.commonPool()
+                    : new ForkJoinPool(parallelism);
+        }
+        return pool;
+    }
+
+    /**
+     * Converts the persons in a range of indices, storing each person or its error at its own index.
+     */
+    private static class ConvertRange extends RecursiveAction {
+        private static final long serialVersionUID = -2804471153604629364L;
+
+        private final List<XmlAdaptedPerson> xmlPersons;
+        private final Person[] persons;
+        private final IllegalValueException[] errors;
+        private final int from;
+        private final int to;
+
+        ConvertRange(List<XmlAdaptedPerson> xmlPersons, Person[] persons, IllegalValueException[] errors, int from,
+                int to) {
+            this.xmlPersons = xmlPersons;
+            this.persons = persons;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                convertRange();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConvertRange(xmlPersons, persons, errors, from, middle),
+                    new ConvertRange(xmlPersons, persons, errors, middle, to));
+        }
+
+        /**
+         * Converts the persons of the whole range on the current thread.
+         */
+        void convertRange() {
+            for (int i = from; i < to; i++) {
+                try {
+                    persons[i] = xmlPersons.get(i).toModelType();
+                } catch (IllegalValueException e) {
+                    errors[i] = e;
+                }
+            }
+        }
+    }
+}
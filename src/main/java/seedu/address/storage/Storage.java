@@ -9,6 +9,7 @@ import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.NotesEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileOperationSummary;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
@@ -33,23 +34,32 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, NotesDown
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Saves the current version of the Address Book to the hard disk in the background.
      *   Creates the data file if it is missing.
+     *   Changes received while an earlier save is in progress are saved together.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
 
+    /**
+     * Blocks until every change to the Address Book received so far has been saved to the hard disk.
+     */
+    void flushAddressBook();
+
     @Override
     Path getNotesFilePath();
 
     @Override
-    void deleteAllNotes() throws IOException;
+    Set<String> readDownloadedNotes() throws IOException;
+
+    @Override
+    FileOperationSummary deleteAllNotes() throws IOException;
 
     @Override
-    void deleteSelectedNotes(Set<String> moduleNames) throws IOException;
+    FileOperationSummary deleteSelectedNotes(Set<String> moduleNames) throws IOException;
 
     @Override
-    void relocateNotes(String moduleName) throws IOException;
+    FileOperationSummary relocateNotes(String moduleName) throws IOException;
 
     @Override
     void unzipNotes(String moduleName) throws IOException;
@@ -1,7 +1,10 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -14,15 +17,19 @@ import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.NotesEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileOperationSummary;
+import seedu.address.commons.util.PersistentSortedMap;
 import seedu.address.logic.commands.ClearNotesCommand;
 import seedu.address.logic.commands.DeleteSelectNotesCommand;
 import seedu.address.logic.commands.DownloadAllNotesCommand;
 import seedu.address.logic.commands.DownloadSelectNotesCommand;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * An address book with the same persons as the one last saved to the same file is not saved again.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
@@ -30,7 +37,13 @@ public class StorageManager extends ComponentManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private NotesDownloadStorage notesDownloadStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final AsyncAddressBookSaver addressBookSaver;
 
+    // The persons last saved to the address book file, and that file, guarded by this storage manager
+    private PersistentSortedMap<String, Person> lastSavedPersons;
+    private Path lastSavedFilePath;
+    private long performedSaveCount;
+    private long skippedSaveCount;
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
                           NotesDownloadStorage notesDownloadStorage) {
@@ -38,6 +51,8 @@ public class StorageManager extends ComponentManager implements Storage {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.notesDownloadStorage = notesDownloadStorage;
+        this.addressBookSaver = new AsyncAddressBookSaver(this::saveAddressBook,
+            e -> raise(new DataSavingExceptionEvent(e)));
     }
 
     // ================ UserPrefs methods ==============================
@@ -82,9 +97,51 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        PersistentSortedMap<String, Person> persons = addressBook.getSnapshot();
+        if (isLastSaved(persons, filePath)) {
+            logger.fine("Data file is already up to date: " + filePath);
+            skippedSaveCount++;
+            return;
+        }
+
         logger.fine("Attempting to write to data file: " + filePath);
+        lastSavedPersons = null;
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        lastSavedPersons = persons;
+        lastSavedFilePath = filePath;
+        performedSaveCount++;
+    }
+
+    /**
+     * Returns true if {@code persons} are the persons last saved to {@code filePath}, and that file still exists.
+     * Persons are immutable and the snapshots of an address book share the persons left unchanged, so the snapshots
+     * are compared in time proportional to the number of persons changed since the last save.
+     */
+    private boolean isLastSaved(PersistentSortedMap<String, Person> persons, Path filePath) {
+        if (lastSavedPersons == null || !filePath.equals(lastSavedFilePath) || !Files.exists(filePath)) {
+            return false;
+        }
+        if (lastSavedPersons == persons) {
+            return true;
+        }
+        List<String> changedNames = new ArrayList<>();
+        lastSavedPersons.diff(persons, (name, oldPerson, newPerson) -> changedNames.add(name));
+        return changedNames.isEmpty();
+    }
+
+    /**
+     * Returns the number of address book saves that wrote the address book file.
+     */
+    public synchronized long getPerformedSaveCount() {
+        return performedSaveCount;
+    }
+
+    /**
+     * Returns the number of address book saves that were skipped, as the file already held the same data.
+     */
+    public synchronized long getSkippedSaveCount() {
+        return skippedSaveCount;
     }
 
 
@@ -92,11 +149,12 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        addressBookSaver.submit(event.data.snapshot());
+    }
+
+    @Override
+    public void flushAddressBook() {
+        addressBookSaver.flush();
     }
 
     // ================ Notes Download methods ==============================
@@ -107,18 +165,23 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
     @Override
-    public void deleteAllNotes() throws IOException {
-        notesDownloadStorage.deleteAllNotes();
+    public Set<String> readDownloadedNotes() throws IOException {
+        return notesDownloadStorage.readDownloadedNotes();
+    }
+
+    @Override
+    public FileOperationSummary deleteAllNotes() throws IOException {
+        return notesDownloadStorage.deleteAllNotes();
     }
 
     @Override
-    public void deleteSelectedNotes(Set<String> moduleNames) throws IOException {
-        notesDownloadStorage.deleteSelectedNotes(moduleNames);
+    public FileOperationSummary deleteSelectedNotes(Set<String> moduleNames) throws IOException {
+        return notesDownloadStorage.deleteSelectedNotes(moduleNames);
     }
 
     @Override
-    public void relocateNotes(String moduleName) throws IOException {
-        notesDownloadStorage.relocateNotes(moduleName);
+    public FileOperationSummary relocateNotes(String moduleName) throws IOException {
+        return notesDownloadStorage.relocateNotes(moduleName);
     }
 
     @Override
@@ -138,11 +201,11 @@ public class StorageManager extends ComponentManager implements Storage {
             switch (commandWord) {
 
             case ClearNotesCommand.COMMAND_WORD:
-                deleteAllNotes();
+                reportNotesOperation(commandWord, deleteAllNotes());
                 return;
 
             case DeleteSelectNotesCommand.COMMAND_WORD:
-                deleteSelectedNotes(notesEvent.getModuleCodes());
+                reportNotesOperation(commandWord, deleteSelectedNotes(notesEvent.getModuleCodes()));
                 return;
 
             case DownloadAllNotesCommand.COMMAND_WORD:
@@ -150,7 +213,7 @@ public class StorageManager extends ComponentManager implements Storage {
                 return;
 
             case DownloadSelectNotesCommand.COMMAND_WORD:
-                relocateNotes(moduleCode);
+                reportNotesOperation(commandWord, relocateNotes(moduleCode));
                 return;
 
             default:
@@ -161,4 +224,17 @@ public class StorageManager extends ComponentManager implements Storage {
         }
     }
 
+    /**
+     * Logs the {@code summary} of a notes operation.
+     *
+     * @throws IOException if the operation failed on any file.
+     */
+    private void reportNotesOperation(String operation, FileOperationSummary summary) throws IOException {
+        logger.info("Notes operation " + operation + ": " + summary);
+        if (summary.hasFailures()) {
+            throw new IOException("Notes operation " + operation + " failed on " + summary.getFailures().size()
+                    + " files: " + summary.getFailures().get(0));
+        }
+    }
+
 }
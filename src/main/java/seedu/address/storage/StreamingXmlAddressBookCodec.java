@@ -0,0 +1,386 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.WeeklyTimetable;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address books in the xml format of {@link XmlSerializableAddressBook} without holding the whole
+ * document in memory. Persons are read into {@link XmlAdaptedPerson}s a batch at a time, and each batch is
+ * converted on a {@link ParallelPersonConverter} before the next one is read. Persons are written one at a time,
+ * byte for byte as JAXB writes them.
+ */
+class StreamingXmlAddressBookCodec {
+
+    private static final String ROOT = "addressbook";
+    private static final String PERSON = "persons";
+
+    /** The number of persons held in their xml form at a time, to be converted together. */
+    private static final int BATCH_SIZE = 8192;
+
+    /** The days of the timetable, in the order of a {@code HashMap} of the day names, as JAXB writes them. */
+    private static final List<String> DAYS_IN_FILE_ORDER;
+
+    static {
+        Map<String, Boolean> days = new HashMap<>();
+        for (int i = 0; i < WeeklyTimetable.NUM_DAYS; i++) {
+            days.put(WeeklyTimetable.dayName(i), true);
+        }
+        DAYS_IN_FILE_ORDER = new ArrayList<>(days.keySet());
+    }
+
+    private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+
+    static {
+        INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        INPUT_FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    private StreamingXmlAddressBookCodec() {}
+
+    /**
+     * Returns the address book in the file at {@code filePath}, converting its persons with {@code converter}.
+     *
+     * @throws IllegalValueException if the file is not in the xml format, or if any person in it violates the data
+     *     constraints of the model or is a duplicate.
+     */
+    static AddressBook read(Path filePath, ParallelPersonConverter converter) throws IllegalValueException,
+                                                                                   IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                return readAddressBook(reader, converter);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IllegalValueException("Not an address book xml file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the address book in the file at {@code filePath}, converting its persons on every available processor.
+     *
+     * @throws IllegalValueException if the file is not in the xml format, or if any person in it violates the data
+     *     constraints of the model or is a duplicate.
+     */
+    static AddressBook read(Path filePath) throws IllegalValueException, IOException {
+        return read(filePath, ParallelPersonConverter.SHARED);
+    }
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, replacing its contents.
+     */
+    static void write(Path filePath, ReadOnlyAddressBook addressBook) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath))) {
+            write(out, addressBook);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which should be buffered.
+     */
+    static void write(OutputStream out, ReadOnlyAddressBook addressBook) throws IOException {
+        new Writer(out).writeAddressBook(addressBook.getPersonList());
+    }
+
+    /**
+     * Reads the persons of the address book element into an address book, converting them in batches of
+     * {@link #BATCH_SIZE}.
+     */
+    private static AddressBook readAddressBook(XMLStreamReader reader, ParallelPersonConverter converter)
+            throws IllegalValueException, XMLStreamException {
+        reader.nextTag();
+        if (!ROOT.equals(reader.getLocalName())) {
+            throw new IllegalValueException("Unexpected root element " + reader.getLocalName());
+        }
+
+        AddressBook addressBook = new AddressBook();
+        List<XmlAdaptedPerson> batch = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (!PERSON.equals(reader.getLocalName())) {
+                skipElement(reader);
+                continue;
+            }
+            batch.add(readPerson(reader));
+            if (batch.size() == BATCH_SIZE) {
+                converter.convertInto(batch, addressBook);
+                batch.clear();
+            }
+        }
+        converter.convertInto(batch, addressBook);
+        return addressBook;
+    }
+
+    /**
+     * Reads the person element that the reader is at, leaving the reader at its end tag.
+     */
+    private static XmlAdaptedPerson readPerson(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        List<XmlAdaptedEnrolledModule> enrolled = new ArrayList<>();
+        Map<String, ListWrapper> timeslots = new HashMap<>();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "name":
+                name = reader.getElementText();
+                break;
+            case "phone":
+                phone = reader.getElementText();
+                break;
+            case "email":
+                email = reader.getElementText();
+                break;
+            case "address":
+                address = reader.getElementText();
+                break;
+            case "tagged":
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            case "enrolled":
+                enrolled.add(new XmlAdaptedEnrolledModule(reader.getElementText()));
+                break;
+            case "timeslots":
+                readTimeSlots(reader, timeslots);
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedPerson(name, phone, email, address, tagged, enrolled, timeslots);
+    }
+
+    /**
+     * Reads the entries of the timeslots element that the reader is at into {@code timeslots}.
+     */
+    private static void readTimeSlots(XMLStreamReader reader, Map<String, ListWrapper> timeslots)
+            throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (!"entry".equals(reader.getLocalName())) {
+                skipElement(reader);
+                continue;
+            }
+            String key = null;
+            ListWrapper value = null;
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                if ("key".equals(reader.getLocalName())) {
+                    key = reader.getElementText();
+                } else if ("value".equals(reader.getLocalName())) {
+                    value = readListWrapper(reader);
+                } else {
+                    skipElement(reader);
+                }
+            }
+            timeslots.put(key, value);
+        }
+    }
+
+    /**
+     * Reads the time slots of the value element that the reader is at.
+     */
+    private static ListWrapper readListWrapper(XMLStreamReader reader) throws XMLStreamException {
+        ListWrapper wrapper = new ListWrapper();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (!"list".equals(reader.getLocalName())) {
+                skipElement(reader);
+                continue;
+            }
+            ArrayList<XmlAdaptedTimeSlots> slots = new ArrayList<>();
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                if ("list".equals(reader.getLocalName())) {
+                    slots.add(new XmlAdaptedTimeSlots(reader.getElementText()));
+                } else {
+                    skipElement(reader);
+                }
+            }
+            wrapper.setList(slots);
+        }
+        return wrapper;
+    }
+
+    /**
+     * Skips the element that the reader is at, with all its content, leaving the reader at its end tag.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Writes persons as UTF-8 xml, indented and escaped as by the JAXB reference implementation.
+     */
+    private static class Writer {
+        private static final byte[] HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                .getBytes(StandardCharsets.UTF_8);
+        private static final String INDENT = "    ";
+
+        private final OutputStream out;
+
+        Writer(OutputStream out) {
+            this.out = out;
+        }
+
+        /**
+         * Writes the xml declaration and the address book element with {@code persons} in it.
+         */
+        void writeAddressBook(List<Person> persons) throws IOException {
+            out.write(HEADER);
+            if (persons.isEmpty()) {
+                writeRaw("<" + ROOT + "/>\n");
+                return;
+            }
+            writeRaw("<" + ROOT + ">\n");
+            for (Person person : persons) {
+                writePerson(person);
+            }
+            writeRaw("</" + ROOT + ">\n");
+        }
+
+        /**
+         * Writes the person element of {@code person}, with its timetable in the day order of JAXB.
+         */
+        private void writePerson(Person person) throws IOException {
+            startElement(1, PERSON);
+            writeElement(2, "name", person.getName().fullName);
+            writeElement(2, "phone", person.getPhone().value);
+            writeElement(2, "email", person.getEmail().value);
+            writeElement(2, "address", person.getAddress().value);
+            for (Tag tag : person.getTags()) {
+                writeElement(2, "tagged", tag.getTagName());
+            }
+            for (String module : person.getEnrolledModules().keySet()) {
+                writeElement(2, "enrolled", module);
+            }
+
+            WeeklyTimetable timetable = person.getTimetable();
+            startElement(2, "timeslots");
+            for (String day : DAYS_IN_FILE_ORDER) {
+                startElement(3, "entry");
+                writeElement(4, "key", day);
+                startElement(4, "value");
+                startElement(5, "list");
+                int dayIndex = WeeklyTimetable.dayIndex(day);
+                for (int slot = 0; slot < WeeklyTimetable.SLOTS_PER_DAY; slot++) {
+                    writeElement(6, "list", timetable.getActivity(WeeklyTimetable.slotIndex(dayIndex, slot)));
+                }
+                endElement(5, "list");
+                endElement(4, "value");
+                endElement(3, "entry");
+            }
+            endElement(2, "timeslots");
+            endElement(1, PERSON);
+        }
+
+        private void startElement(int depth, String name) throws IOException {
+            writeIndent(depth);
+            writeRaw("<" + name + ">\n");
+        }
+
+        private void endElement(int depth, String name) throws IOException {
+            writeIndent(depth);
+            writeRaw("</" + name + ">\n");
+        }
+
+        /**
+         * Writes an element with only {@code text} in it on a line of its own.
+         */
+        private void writeElement(int depth, String name, String text) throws IOException {
+            writeIndent(depth);
+            writeRaw("<" + name + ">");
+            writeText(text);
+            writeRaw("</" + name + ">\n");
+        }
+
+        private void writeIndent(int depth) throws IOException {
+            for (int i = 0; i < depth; i++) {
+                writeRaw(INDENT);
+            }
+        }
+
+        private void writeRaw(String ascii) throws IOException {
+            for (int i = 0; i < ascii.length(); i++) {
+                out.write(ascii.charAt(i));
+            }
+        }
+
+        /**
+         * Writes {@code text} in UTF-8, escaping '&', '<', '>' and carriage returns.
+         * A high surrogate is always combined with the character after it, as JAXB does.
+         */
+        private void writeText(String text) throws IOException {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c < 0x80) {
+                    writeEscaped(c);
+                } else if (c < 0x800) {
+                    out.write(0xc0 | (c >> 6));
+                    out.write(0x80 | (c & 0x3f));
+                } else if (Character.isHighSurrogate(c) && i + 1 < text.length()) {
+                    int codePoint = (((c & 0x3ff) << 10) | (text.charAt(++i) & 0x3ff)) + 0x10000;
+                    out.write(0xf0 | (codePoint >> 18));
+                    out.write(0x80 | ((codePoint >> 12) & 0x3f));
+                    out.write(0x80 | ((codePoint >> 6) & 0x3f));
+                    out.write(0x80 | (codePoint & 0x3f));
+                } else {
+                    out.write(0xe0 | (c >> 12));
+                    out.write(0x80 | ((c >> 6) & 0x3f));
+                    out.write(0x80 | (c & 0x3f));
+                }
+            }
+        }
+
+        /**
+         * Writes the ASCII character {@code c}, escaping it if JAXB does.
+         */
+        private void writeEscaped(char c) throws IOException {
+            switch (c) {
+            case '&':
+                writeRaw("&amp;");
+                break;
+            case '<':
+                writeRaw("&lt;");
+                break;
+            case '>':
+                writeRaw("&gt;");
+                break;
+            case '\r':
+                writeRaw("&#13;");
+                break;
+            default:
+                out.write(c);
+            }
+        }
+    }
+}
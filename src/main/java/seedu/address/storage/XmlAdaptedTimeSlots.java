@@ -42,7 +42,7 @@ public class XmlAdaptedTimeSlots {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person
      */
     public TimeSlots toModelType() {
-        return new TimeSlots(timeSlot);
+        return TimeSlots.of(timeSlot);
     }
 
     @Override
@@ -2,9 +2,7 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -12,20 +10,33 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.AtomicFileUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as an xml file on the hard disk.
+ * The file is read and written one person at a time by {@link StreamingXmlAddressBookCodec}.
+ * Saves replace the file atomically and keep backups of it, and the newest intact backup is read if the file is
+ * damaged. See {@link AtomicFileUtil}.
  */
 public class XmlAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(XmlAddressBookStorage.class);
 
     private Path filePath;
+    private final ParallelPersonConverter converter;
 
     public XmlAddressBookStorage(Path filePath) {
+        this(filePath, ParallelPersonConverter.ALL_PROCESSORS);
+    }
+
+    /**
+     * Creates a storage that converts the persons it reads on {@code loadParallelism} threads, or on every
+     * available processor if it is 0.
+     */
+    public XmlAddressBookStorage(Path filePath, int loadParallelism) {
         this.filePath = filePath;
+        this.converter = new ParallelPersonConverter(loadParallelism);
     }
 
     public Path getAddressBookFilePath() {
@@ -43,19 +54,19 @@ public class XmlAddressBookStorage implements AddressBookStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+                                                                                 IOException {
         requireNonNull(filePath);
 
-        if (!Files.exists(filePath)) {
+        Optional<Path> intactFilePath = AtomicFileUtil.findIntactVersion(filePath, AtomicFileUtil.DEFAULT_BACKUP_COUNT);
+        if (!intactFilePath.isPresent()) {
             logger.info("AddressBook file " + filePath + " not found");
             return Optional.empty();
         }
 
-        XmlSerializableAddressBook xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlAddressBook.toModelType());
+            return Optional.of(StreamingXmlAddressBookCodec.read(intactFilePath.get(), converter));
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            logger.info("Illegal values found in " + intactFilePath.get() + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
@@ -73,8 +84,8 @@ public class XmlAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableAddressBook(addressBook));
+        AtomicFileUtil.save(filePath, AtomicFileUtil.CommentStyle.XML, AtomicFileUtil.DEFAULT_BACKUP_COUNT,
+            out -> StreamingXmlAddressBookCodec.write(out, addressBook));
     }
 
 }
@@ -10,7 +10,6 @@ import javax.xml.bind.annotation.XmlRootElement;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to XML format
@@ -40,20 +39,26 @@ public class XmlSerializableAddressBook {
     }
 
     /**
-     * Converts this addressbook into the model's {@code AddressBook} object.
+     * Converts this addressbook into the model's {@code AddressBook} object, converting the persons on every
+     * available processor.
      *
      * @throws IllegalValueException if there were any data constraints violated or duplicates in the
      * {@code XmlAdaptedPerson}.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(ParallelPersonConverter.SHARED);
+    }
+
+    /**
+     * Converts this addressbook into the model's {@code AddressBook} object, converting the persons with
+     * {@code converter}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the
+     * {@code XmlAdaptedPerson}. The first violation in the order of the persons is reported.
+     */
+    AddressBook toModelType(ParallelPersonConverter converter) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (XmlAdaptedPerson p : persons) {
-            Person person = p.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
+        converter.convertInto(persons, addressBook);
         return addressBook;
     }
 
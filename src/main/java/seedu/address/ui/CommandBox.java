@@ -1,5 +1,9 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -8,6 +12,7 @@ import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.logic.ListElementPointer;
 import seedu.address.logic.Logic;
@@ -21,11 +26,14 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String RUNNING_STYLE_CLASS = "running";
     private static final String FXML = "CommandBox.fxml";
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    // The commands entered that have not completed, in the order they were entered
+    private final List<CompletableFuture<CommandResult>> pendingCommands = new ArrayList<>();
 
     @FXML
     private TextField commandTextField;
@@ -55,6 +63,14 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case ESCAPE:
+            cancelPendingCommands();
+            break;
+        case TAB:
+            // consuming it keeps the focus in the command box
+            keyEvent.consume();
+            completeCommandWord();
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -86,6 +102,32 @@ public class CommandBox extends UiPart<Region> {
         replaceText(historySnapshot.next());
     }
 
+    /**
+     * Completes the command word in the text field, if nothing else has been entered, as far as the command words
+     * starting with it agree, and shows those command words if there are several.
+     */
+    private void completeCommandWord() {
+        String partialCommandWord = commandTextField.getText();
+        if (partialCommandWord.chars().anyMatch(Character::isWhitespace)) {
+            return;
+        }
+
+        List<String> completions = logic.getCommandWordCompletions(partialCommandWord);
+        if (completions.size() == 1) {
+            replaceText(completions.get(0) + " ");
+        } else if (!completions.isEmpty()) {
+            // the completions are in lexicographic order, so the first and last differ the earliest
+            String first = completions.get(0);
+            String last = completions.get(completions.size() - 1);
+            int commonLength = 0;
+            while (commonLength < first.length() && first.charAt(commonLength) == last.charAt(commonLength)) {
+                commonLength++;
+            }
+            replaceText(first.substring(0, commonLength));
+            raise(new NewResultAvailableEvent(String.join("\n", completions)));
+        }
+    }
+
     /**
      * Sets {@code CommandBox}'s text field with {@code text} and
      * positions the caret to the end of the {@code text}.
@@ -97,25 +139,71 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command is submitted to be executed after the commands entered before it, and its result is shown once
+     * it completes, so that the UI stays responsive while it executes.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
-            historySnapshot.next();
-            // process result of the command
+        String commandText = commandTextField.getText();
+        CompletableFuture<CommandResult> result = logic.submit(commandText);
+        pendingCommands.add(result);
+        setStyleToIndicateCommandRunning();
+        result.whenComplete((commandResult, error) -> runOnFxThread(() -> {
+            pendingCommands.remove(result);
+            if (pendingCommands.isEmpty()) {
+                commandTextField.getStyleClass().remove(RUNNING_STYLE_CLASS);
+            }
+            if (error == null) {
+                handleCommandSuccess(commandText, commandResult);
+            } else {
+                handleCommandFailure(commandText, error);
+            }
+        }));
+    }
+
+    /**
+     * Shows the result of the command {@code commandText}, and clears the text field if it still shows the command.
+     */
+    private void handleCommandSuccess(String commandText, CommandResult commandResult) {
+        initHistory();
+        historySnapshot.next();
+        // process result of the command
+        if (commandTextField.getText().equals(commandText)) {
             commandTextField.setText("");
-            logger.info("Result: " + commandResult.feedbackToUser);
-            raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+        }
+        logger.info("Result: " + commandResult.feedbackToUser);
+        raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+    }
+
+    /**
+     * Shows why the command {@code commandText} failed, and marks the text field if it still shows the command.
+     */
+    private void handleCommandFailure(String commandText, Throwable error) {
+        initHistory();
+        if (error instanceof CancellationException) {
+            logger.info("Cancelled command: " + commandText);
+            raise(new NewResultAvailableEvent(Messages.MESSAGE_COMMAND_CANCELLED));
+            return;
+        }
 
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            // handle command failure
+        // handle command failure
+        if (commandTextField.getText().equals(commandText)) {
             setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
         }
+        if (error instanceof CommandException || error instanceof ParseException) {
+            logger.info("Invalid command: " + commandText);
+        } else {
+            logger.warning("Command failed unexpectedly: " + error);
+        }
+        raise(new NewResultAvailableEvent(error.getMessage()));
+    }
+
+    /**
+     * Cancels every command entered that has not started executing, and interrupts the one that is executing if it
+     * can be cancelled. A command that cannot be cancelled goes on to show its result.
+     */
+    private void cancelPendingCommands() {
+        new ArrayList<>(pendingCommands).forEach(result -> result.cancel(true));
     }
 
     /**
@@ -135,6 +223,19 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.getStyleClass().remove(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Sets the command box style to indicate that commands entered are still running.
+     */
+    private void setStyleToIndicateCommandRunning() {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+
+        if (styleClass.contains(RUNNING_STYLE_CLASS)) {
+            return;
+        }
+
+        styleClass.add(RUNNING_STYLE_CLASS);
+    }
+
     /**
      * Sets the command box style to indicate a failed command.
      */
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.net.URL;
 
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
 import seedu.address.commons.core.EventsCenter;
@@ -76,6 +77,18 @@ public abstract class UiPart<T> {
         EventsCenter.getInstance().registerHandler(handler);
     }
 
+    /**
+     * Runs {@code action} on the JavaFX application thread: right away if this is that thread, or later otherwise,
+     * such as when an event is raised by a command executing on its own thread.
+     */
+    protected static void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+
     /**
      * Loads the object hierarchy from a FXML document.
      * @param location Location of the FXML document.
@@ -3,6 +3,7 @@ package guitests.guihandles;
 import javafx.collections.ObservableList;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
+import seedu.address.ui.CommandBox;
 
 /**
  * A handle to the {@code CommandBox} in the GUI.
@@ -23,7 +24,7 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
     }
 
     /**
-     * Enters the given command in the Command Box and presses enter.
+     * Enters the given command in the Command Box, presses enter and waits for the command to complete.
      */
     public void run(String command) {
         click();
@@ -31,6 +32,7 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
         guiRobot.pauseForHuman();
 
         guiRobot.type(KeyCode.ENTER);
+        guiRobot.waitForEvent(() -> !getStyleClass().contains(CommandBox.RUNNING_STYLE_CLASS));
     }
 
     /**
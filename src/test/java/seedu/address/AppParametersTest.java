@@ -37,6 +37,21 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validBatchPath_success() {
+        parametersStub.namedParameters.put("batch", "cohort.txt");
+        expected.setBatchPath(Paths.get("cohort.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_commandLineArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchPath(Paths.get("data", "cohort.txt"));
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "unnamed",
+            "--batch=data/cohort.txt", "--=ignored"}));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,165 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.AtomicFileUtil.CommentStyle;
+
+public class AtomicFileUtilTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void save_xml_contentFollowedByChecksumComment() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("ab.xml");
+        save(file, CommentStyle.XML, "<addressbook/>\n");
+
+        String saved = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(saved.matches("<addressbook/>\n<!-- crc32 [0-9a-f]{8} length 15 -->\n"));
+        assertTrue(AtomicFileUtil.isIntact(file));
+    }
+
+    @Test
+    public void save_contentWithoutFinalNewline_newlineAdded() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("prefs.json");
+        save(file, CommentStyle.LINE, "{}");
+
+        String saved = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(saved.matches("\\{}\n// crc32 [0-9a-f]{8} length 3\n"));
+        assertTrue(AtomicFileUtil.isIntact(file));
+    }
+
+    @Test
+    public void save_repeatedly_keepsBoundedBackups() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("ab.xml");
+        for (int version = 1; version <= 5; version++) {
+            save(file, CommentStyle.XML, "version " + version + "\n");
+        }
+
+        assertTrue(contentOf(file).startsWith("version 5\n"));
+        for (int generation = 1; generation <= AtomicFileUtil.DEFAULT_BACKUP_COUNT; generation++) {
+            assertTrue(contentOf(AtomicFileUtil.getBackupPath(file, generation))
+                    .startsWith("version " + (5 - generation) + "\n"));
+        }
+        assertFalse(Files.exists(AtomicFileUtil.getBackupPath(file, AtomicFileUtil.DEFAULT_BACKUP_COUNT + 1)));
+        assertFalse(Files.exists(file.resolveSibling("ab.xml.tmp")));
+    }
+
+    @Test
+    public void save_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("ab.xml");
+        save(file, CommentStyle.XML, "version 1\n");
+        byte[] before = Files.readAllBytes(file);
+
+        try {
+            AtomicFileUtil.save(file, CommentStyle.XML, AtomicFileUtil.DEFAULT_BACKUP_COUNT, out -> {
+                out.write("version".getBytes(StandardCharsets.UTF_8));
+                throw new IOException("disk full");
+            });
+        } catch (IOException e) {
+            // expected
+        }
+
+        assertArrayEquals(before, Files.readAllBytes(file));
+        assertFalse(Files.exists(AtomicFileUtil.getBackupPath(file, 1)));
+        assertFalse(Files.exists(file.resolveSibling("ab.xml.tmp")));
+    }
+
+    @Test
+    public void findIntactVersion_damagedFile_newestIntactBackup() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("ab.xml");
+        for (int version = 1; version <= 3; version++) {
+            save(file, CommentStyle.XML, "version " + version + "\n");
+        }
+        damage(file);
+        damage(AtomicFileUtil.getBackupPath(file, 1));
+
+        assertFalse(AtomicFileUtil.isIntact(file));
+        assertEquals(Optional.of(AtomicFileUtil.getBackupPath(file, 2)),
+                AtomicFileUtil.findIntactVersion(file, AtomicFileUtil.DEFAULT_BACKUP_COUNT));
+    }
+
+    @Test
+    public void findIntactVersion_truncatedFile_backup() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("ab.xml");
+        save(file, CommentStyle.XML, "version 1\n");
+        save(file, CommentStyle.XML, "version 2\n");
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertEquals(Optional.of(AtomicFileUtil.getBackupPath(file, 1)),
+                AtomicFileUtil.findIntactVersion(file, AtomicFileUtil.DEFAULT_BACKUP_COUNT));
+    }
+
+    @Test
+    public void findIntactVersion_missingFile_backupOrEmpty() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("ab.xml");
+        assertEquals(Optional.empty(), AtomicFileUtil.findIntactVersion(file, AtomicFileUtil.DEFAULT_BACKUP_COUNT));
+
+        save(file, CommentStyle.XML, "version 1\n");
+        save(file, CommentStyle.XML, "version 2\n");
+        Files.delete(file);
+        assertEquals(Optional.of(AtomicFileUtil.getBackupPath(file, 1)),
+                AtomicFileUtil.findIntactVersion(file, AtomicFileUtil.DEFAULT_BACKUP_COUNT));
+    }
+
+    @Test
+    public void findIntactVersion_noIntactVersion_file() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("ab.xml");
+        save(file, CommentStyle.XML, "version 1\n");
+        damage(file);
+        assertEquals(Optional.of(file), AtomicFileUtil.findIntactVersion(file, AtomicFileUtil.DEFAULT_BACKUP_COUNT));
+    }
+
+    @Test
+    public void isIntact_noChecksumLine_true() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("ab.xml");
+        Files.write(file, "<addressbook/>\n".getBytes(StandardCharsets.UTF_8));
+        assertTrue(AtomicFileUtil.isIntact(file));
+        Files.write(file, new byte[0]);
+        assertTrue(AtomicFileUtil.isIntact(file));
+    }
+
+    @Test
+    public void withoutChecksumLine_savedContent_contentOnly() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("prefs.json");
+        save(file, CommentStyle.LINE, "{\"a\": 1}\n");
+        assertEquals("{\"a\": 1}\n", AtomicFileUtil.withoutChecksumLine(contentOf(file)));
+
+        // content without a checksum line is returned as it is
+        assertEquals("{\"a\": 1}\n", AtomicFileUtil.withoutChecksumLine("{\"a\": 1}\n"));
+        assertEquals("", AtomicFileUtil.withoutChecksumLine(""));
+    }
+
+    private static void save(Path file, CommentStyle style, String content) throws IOException {
+        AtomicFileUtil.save(file, style, AtomicFileUtil.DEFAULT_BACKUP_COUNT,
+            out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String contentOf(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Changes the first byte of {@code file}, leaving its checksum line as it is.
+     */
+    private static void damage(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[0] ^= 1;
+        Files.write(file, bytes);
+    }
+}
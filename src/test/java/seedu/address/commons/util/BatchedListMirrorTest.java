@@ -0,0 +1,71 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Queue;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class BatchedListMirrorTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Queue<Runnable> publisherQueue = new ArrayDeque<>();
+    private ObservableList<String> source;
+    private ObservableList<String> mirror;
+
+    @Before
+    public void setUp() {
+        source = FXCollections.observableArrayList("a", "b", "c");
+        mirror = new BatchedListMirror<String>(source, publisherQueue::add).asUnmodifiableObservableList();
+    }
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(source, mirror);
+        assertTrue(publisherQueue.isEmpty());
+    }
+
+    @Test
+    public void changes_publishedTogetherInOrder() {
+        source.add("d");
+        source.remove("a");
+        source.set(0, "x");
+        source.addAll(1, Arrays.asList("y", "z"));
+        assertEquals(Arrays.asList("a", "b", "c"), mirror);
+
+        assertEquals(1, publisherQueue.size());
+        publisherQueue.poll().run();
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void changesAfterPublishing_publishedSeparately() {
+        source.add("d");
+        publisherQueue.poll().run();
+        source.setAll("e", "f", "g", "h", "i");
+        source.sort(Comparator.reverseOrder());
+        source.remove(1, 4);
+
+        assertEquals(1, publisherQueue.size());
+        publisherQueue.poll().run();
+        assertEquals(Arrays.asList("i", "e"), mirror);
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modify_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        mirror.add("d");
+    }
+}
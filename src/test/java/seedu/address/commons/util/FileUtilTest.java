@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.FileAndFolderCreation.DIFFERENT_SAMPLE_DIRECTORY;
@@ -18,11 +19,18 @@ import static seedu.address.testutil.TypicalModuleCodes.getZeroModuleCodes;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.testutil.Assert;
 
@@ -52,6 +60,9 @@ public class FileUtilTest {
     private static final Path VALID_DIRECTORY = Paths.get(VALID_DIRECTORY_NAME);
     private static final Path INVALID_DIRECTORY = Paths.get(INVALID_DIRECTORY_NAME);
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private final Set<String> sampleDirectories = getMultipleTypicalModuleCodes();
     private final Set<String> emptySampleDirectory = getZeroModuleCodes();
 
@@ -430,4 +441,93 @@ public class FileUtilTest {
         endTestState();
     }
 
+    @Test
+    public void deleteAllFiles_inParallel_summaryCountsFilesAndBytes() throws IOException {
+        Path folder = temporaryFolder.getRoot().toPath();
+        for (String module : Arrays.asList(CS2100_MODULE_CODE, CS2101_MODULE_CODE, CS2102_MODULE_CODE)) {
+            Files.createDirectories(folder.resolve(module).resolve("tutorials"));
+            Files.write(folder.resolve(module).resolve("lecture.pdf"), new byte[100]);
+            Files.write(folder.resolve(module).resolve("tutorials").resolve("tutorial.pdf"), new byte[10]);
+        }
+        Files.write(folder.resolve(SAMPLE_CONTENT), new byte[1]);
+        Files.createFile(folder.resolve(".hidden"));
+
+        FileOperationSummary summary = FileUtil.deleteAllFiles(folder, 3);
+        assertEquals(7, summary.getFileCount());
+        assertEquals(331, summary.getByteCount());
+        assertFalse(summary.hasFailures());
+        try (Stream<Path> remaining = Files.list(folder)) {
+            assertEquals(Collections.singletonList(folder.resolve(".hidden")), remaining.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void deleteSelectedFolders_summaryCountsSelectedFiles() throws IOException {
+        Path folder = temporaryFolder.getRoot().toPath();
+        Files.createDirectories(folder.resolve(CS2100_MODULE_CODE));
+        Files.write(folder.resolve(CS2100_MODULE_CODE).resolve("lecture.pdf"), new byte[5]);
+        Files.createDirectories(folder.resolve(CS3235_MODULE_CODE));
+        Files.write(folder.resolve(CS3235_MODULE_CODE).resolve("lecture.pdf"), new byte[7]);
+
+        FileOperationSummary summary = FileUtil.deleteSelectedFolders(folder,
+                Collections.singleton(CS2100_MODULE_CODE), 2);
+        assertEquals(1, summary.getFileCount());
+        assertEquals(5, summary.getByteCount());
+        assertFalse(FileUtil.isDirectoryExists(folder.resolve(CS2100_MODULE_CODE)));
+        assertTrue(FileUtil.isFileExists(folder.resolve(CS3235_MODULE_CODE).resolve("lecture.pdf")));
+    }
+
+    @Test
+    public void relocateFiles_summaryCountsMovedFiles() throws IOException {
+        Path folder = temporaryFolder.getRoot().toPath();
+        Files.createDirectories(folder.resolve(CS2100_MODULE_CODE));
+        Files.write(folder.resolve(VALID_FILE_NAME), new byte[3]);
+        Files.write(folder.resolve(DIFFERENT_VALID_FILE_NAME), new byte[4]);
+
+        FileOperationSummary summary = FileUtil.relocateFiles(folder, CS2100_MODULE_CODE);
+        assertEquals(2, summary.getFileCount());
+        assertEquals(7, summary.getByteCount());
+        assertTrue(FileUtil.isFileExists(folder.resolve(CS2100_MODULE_CODE).resolve(VALID_FILE_NAME)));
+        assertTrue(FileUtil.isFileExists(folder.resolve(CS2100_MODULE_CODE).resolve(DIFFERENT_VALID_FILE_NAME)));
+    }
+
+    @Test
+    public void deleteAllFiles_missingFolder_failureReported() {
+        FileOperationSummary summary = FileUtil.deleteAllFiles(temporaryFolder.getRoot().toPath().resolve("missing"));
+        assertEquals(0, summary.getFileCount());
+        assertEquals(1, summary.getFailures().size());
+        assertTrue(summary.getFailures().get(0).contains("missing"));
+    }
+
+    @Test
+    public void deleteAllFiles_interrupted_unfinishedDeletionsReported() throws IOException {
+        Path folder = temporaryFolder.getRoot().toPath();
+        for (int i = 0; i < 50; i++) {
+            Files.createDirectories(folder.resolve("module" + i));
+            Files.write(folder.resolve("module" + i).resolve("lecture.pdf"), new byte[10]);
+        }
+
+        Thread.currentThread().interrupt();
+        FileOperationSummary summary = FileUtil.deleteAllFiles(folder, 2);
+        assertTrue(Thread.interrupted());
+
+        // every folder whose deletion is not reported as unfinished has been deleted
+        for (int i = 0; i < 50; i++) {
+            String module = "module" + i;
+            boolean isReported = summary.getFailures().stream()
+                    .anyMatch(failure -> failure.contains(module + ":") && failure.contains("interrupted"));
+            assertTrue(isReported || !FileUtil.isDirectoryExists(folder.resolve(module)));
+        }
+    }
+
+    @Test
+    public void deleteFolders_missingFolder_skipped() throws IOException {
+        Path folder = temporaryFolder.getRoot().toPath();
+        Files.createDirectories(folder.resolve(CS2100_MODULE_CODE));
+        FileOperationSummary summary = FileUtil.deleteFolders(Arrays.asList(folder.resolve(CS2100_MODULE_CODE),
+                folder.resolve(CS2101_MODULE_CODE)), 2);
+        assertFalse(summary.hasFailures());
+        assertFalse(FileUtil.isDirectoryExists(folder.resolve(CS2100_MODULE_CODE)));
+    }
+
 }
@@ -0,0 +1,128 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class PersistentSortedMapTest {
+
+    private final PersistentSortedMap<String, String> empty = PersistentSortedMap.empty();
+
+    @Test
+    public void put_nullKeyOrValue_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> empty.put(null, "value"));
+        Assert.assertThrows(NullPointerException.class, () -> empty.put("key", null));
+    }
+
+    @Test
+    public void put_doesNotChangeOldVersion() {
+        PersistentSortedMap<String, String> first = empty.put("bob", "1");
+        PersistentSortedMap<String, String> second = first.put("alice", "2").put("bob", "3");
+
+        assertEquals(1, first.size());
+        assertEquals("1", first.get("bob"));
+        assertNull(first.get("alice"));
+        assertEquals(2, second.size());
+        assertEquals("3", second.get("bob"));
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    public void putAndRemove_unchanged_returnsSameMap() {
+        String value = "1";
+        PersistentSortedMap<String, String> map = empty.put("bob", value);
+
+        assertSame(map, map.put("bob", value));
+        assertSame(map, map.remove("alice"));
+        assertSame(empty, map.remove("bob"));
+    }
+
+    @Test
+    public void randomUpdates_matchTreeMap() {
+        Random random = new Random(2113);
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        PersistentSortedMap<Integer, String> actual = PersistentSortedMap.empty();
+        for (int i = 0; i < 2000; i++) {
+            int key = random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                actual = actual.remove(key);
+            } else {
+                expected.put(key, "v" + i);
+                actual = actual.put(key, "v" + i);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(new ArrayList<>(expected.values()), actual.values());
+        for (int key = 0; key < 300; key++) {
+            assertEquals(expected.get(key), actual.get(key));
+        }
+    }
+
+    @Test
+    public void indexOf_followsBinarySearchConvention() {
+        PersistentSortedMap<Integer, String> map = PersistentSortedMap.empty();
+        for (int i = 0; i < 50; i++) {
+            map = map.put(i * 2, "v" + i);
+        }
+
+        assertEquals(0, map.indexOf(0));
+        assertEquals(21, map.indexOf(42));
+        assertEquals(-22, map.indexOf(41));
+        assertEquals(-51, map.indexOf(1000));
+    }
+
+    @Test
+    public void diff_reportsOnlyChangedKeysInOrder() {
+        PersistentSortedMap<Integer, String> base = PersistentSortedMap.empty();
+        for (int i = 0; i < 100; i++) {
+            base = base.put(i, "v" + i);
+        }
+        PersistentSortedMap<Integer, String> changed = base.remove(10).put(50, "changed").put(200, "new");
+
+        List<String> changes = new ArrayList<>();
+        base.diff(changed, (key, oldValue, newValue) -> changes.add(key + ":" + oldValue + "->" + newValue));
+
+        assertEquals(Arrays.asList("10:v10->null", "50:v50->changed", "200:null->new"), changes);
+    }
+
+    @Test
+    public void diff_sameMap_reportsNothing() {
+        PersistentSortedMap<String, String> map = empty.put("alice", "1").put("bob", "2");
+        map.diff(map, (key, oldValue, newValue) -> {
+            throw new AssertionError("unexpected change of " + key);
+        });
+    }
+
+    @Test
+    public void equals() {
+        PersistentSortedMap<String, String> map = empty.put("alice", "1").put("bob", "2");
+
+        // same entries inserted in a different order -> returns true
+        PersistentSortedMap<String, String> sameEntries = empty.put("bob", "2").put("alice", "1");
+        assertTrue(map.equals(sameEntries));
+        assertEquals(map.hashCode(), sameEntries.hashCode());
+
+        // null -> returns false
+        assertFalse(map.equals(null));
+
+        // different value -> returns false
+        assertFalse(map.equals(map.put("bob", "3")));
+
+        // different keys -> returns false
+        assertFalse(map.equals(map.remove("bob").put("carl", "2")));
+    }
+}
@@ -5,12 +5,22 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class CommandHistoryTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private CommandHistory history;
 
     @Before
@@ -36,6 +46,70 @@ public class CommandHistoryTest {
         assertEquals(Arrays.asList(validCommand, invalidCommand), history.getHistory());
     }
 
+    @Test
+    public void add_moreThanCapacity_oldestCommandsDropped() {
+        CommandHistory boundedHistory = new CommandHistory(3);
+        List<String> commands = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            commands.add("list " + i);
+            boundedHistory.add("list " + i);
+            assertEquals(commands.subList(Math.max(0, commands.size() - 3), commands.size()),
+                    boundedHistory.getHistory());
+        }
+    }
+
+    @Test
+    public void getHistory_commandsAddedAfterwards_snapshotUnchanged() {
+        CommandHistory boundedHistory = new CommandHistory(2);
+        boundedHistory.add("a");
+        boundedHistory.add("b");
+        List<String> snapshot = boundedHistory.getHistory();
+        for (int i = 0; i < 10; i++) {
+            boundedHistory.add("c" + i);
+        }
+
+        assertEquals(Arrays.asList("a", "b"), snapshot);
+        assertEquals(Arrays.asList("c8", "c9"), boundedHistory.getHistory());
+    }
+
+    @Test
+    public void loadFrom_commandsAddedBefore_commandsKept() throws Exception {
+        Path historyFile = temporaryFolder.getRoot().toPath().resolve("data").resolve("history.bin");
+        CommandHistory persistedHistory = CommandHistory.loadFrom(historyFile, 3);
+        assertEquals(Collections.emptyList(), persistedHistory.getHistory());
+        for (int i = 0; i < 10; i++) {
+            persistedHistory.add("list " + i);
+        }
+
+        // the file is rewritten with only the history once it holds twice as many commands
+        assertTrue(Files.size(historyFile) < 10 * "list 0".length());
+        assertEquals(persistedHistory, CommandHistory.loadFrom(historyFile, 3));
+        assertEquals(Arrays.asList("list 8", "list 9"), CommandHistory.loadFrom(historyFile, 2).getHistory());
+    }
+
+    @Test
+    public void loadFrom_lastCommandCutShort_otherCommandsKept() throws Exception {
+        Path historyFile = temporaryFolder.getRoot().toPath().resolve("history.bin");
+        CommandHistory persistedHistory = CommandHistory.loadFrom(historyFile, 5);
+        persistedHistory.add("clear");
+        persistedHistory.add("list");
+        byte[] bytes = Files.readAllBytes(historyFile);
+        Files.write(historyFile, Arrays.copyOf(bytes, bytes.length - 2));
+
+        CommandHistory reloadedHistory = CommandHistory.loadFrom(historyFile, 5);
+        assertEquals(Collections.singletonList("clear"), reloadedHistory.getHistory());
+        reloadedHistory.add("history");
+        assertEquals(Arrays.asList("clear", "history"), CommandHistory.loadFrom(historyFile, 5).getHistory());
+    }
+
+    @Test
+    public void loadFrom_notCommandHistoryFile_emptyHistory() throws Exception {
+        Path historyFile = temporaryFolder.newFile("history.bin").toPath();
+        Files.write(historyFile, "list\nclear\n".getBytes());
+
+        assertEquals(Collections.emptyList(), CommandHistory.loadFrom(historyFile, 5).getHistory());
+    }
+
     @Test
     public void equals() {
         final CommandHistory commandHistoryWithA = new CommandHistory();
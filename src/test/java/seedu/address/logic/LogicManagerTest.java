@@ -1,14 +1,36 @@
 package seedu.address.logic;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalModuleCodes.getTypicalNotesDownloaded;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -16,12 +38,17 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonUtil;
 
 
 public class LogicManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private Model model = new ModelManager();
     private Logic logic = new LogicManager(model);
 
@@ -52,6 +79,110 @@ public class LogicManagerTest {
         logic.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void submit_validCommand_completesWithResult() throws Exception {
+        CompletableFuture<CommandResult> result = logic.submit(ListCommand.COMMAND_WORD);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.get().feedbackToUser);
+        assertHistoryCorrect(ListCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void submit_invalidCommand_completesExceptionally() throws Exception {
+        String invalidCommand = "uicfhmowqewca";
+        CompletableFuture<CommandResult> result = logic.submit(invalidCommand);
+        assertTrue(result.isCompletedExceptionally());
+        thrown.expect(ExecutionException.class);
+        thrown.expectCause(instanceOf(ParseException.class));
+        result.get();
+    }
+
+    @Test
+    public void submit_cancelledBeforeExecuting_notExecuted() {
+        Queue<Runnable> commandQueue = new ArrayDeque<>();
+        Logic queuedLogic = new LogicManager(model, new CommandHistory(), commandQueue::add, Runnable::run);
+
+        CompletableFuture<CommandResult> result = queuedLogic.submit(ListCommand.COMMAND_WORD);
+        assertFalse(result.isDone());
+        result.cancel(true);
+        commandQueue.forEach(Runnable::run);
+
+        assertTrue(result.isCancelled());
+        assertFalse(queuedLogic.getHistorySnapshot().hasPrevious());
+    }
+
+    @Test
+    public void submit_cancelledWhileExecutingAdd_completesWithResult() throws Exception {
+        List<CompletableFuture<CommandResult>> submitted = new ArrayList<>();
+        model = new ModelManager() {
+            @Override
+            public void addPerson(Person person) {
+                // add cannot be cancelled once it has started
+                assertFalse(submitted.get(0).cancel(true));
+                super.addPerson(person);
+            }
+        };
+        Queue<Runnable> commandQueue = new ArrayDeque<>();
+        Logic queuedLogic = new LogicManager(model, new CommandHistory(), commandQueue::add, Runnable::run);
+
+        submitted.add(queuedLogic.submit(PersonUtil.getAddCommand(AMY)));
+        commandQueue.forEach(Runnable::run);
+
+        assertFalse(submitted.get(0).isCancelled());
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, AMY), submitted.get(0).get().feedbackToUser);
+        assertTrue(model.hasPerson(AMY));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void submit_cancelledWhileExecutingBatch_cancelledWithoutChanges() throws Exception {
+        Path batchFile = temporaryFolder.newFile().toPath();
+        Files.write(batchFile, Arrays.asList(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB)));
+        List<CompletableFuture<CommandResult>> submitted = new ArrayList<>();
+        model = new ModelManager() {
+            @Override
+            public <E extends Exception> void transaction(Transaction<E> body) throws E {
+                // a batch is interrupted, and stops before its first line
+                assertFalse(submitted.get(0).cancel(true));
+                super.transaction(body);
+            }
+        };
+        Queue<Runnable> commandQueue = new ArrayDeque<>();
+        Logic queuedLogic = new LogicManager(model, new CommandHistory(), commandQueue::add, Runnable::run);
+
+        submitted.add(queuedLogic.submit(BatchCommand.COMMAND_WORD + " " + batchFile));
+        commandQueue.forEach(Runnable::run);
+
+        try {
+            submitted.get(0).get();
+            throw new AssertionError("The batch should have been cancelled.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof CommandException);
+            assertEquals(Messages.MESSAGE_COMMAND_CANCELLED, e.getCause().getMessage());
+        }
+        assertFalse(model.hasPerson(AMY));
+        assertFalse(model.hasPerson(BOB));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void submit_severalCommands_listChangesPublishedInOneBatch() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), getTypicalNotesDownloaded(), new UserPrefs());
+        Queue<Runnable> uiQueue = new ArrayDeque<>();
+        Logic publishingLogic = new LogicManager(model, new CommandHistory(), Runnable::run, uiQueue::add);
+        List<Person> shownBefore = new ArrayList<>(publishingLogic.getFilteredPersonList());
+
+        publishingLogic.submit(FindCommand.COMMAND_WORD + " main Meier").get();
+        assertTrue(model.getFilteredPersonList().size() < shownBefore.size());
+        publishingLogic.submit(ListCommand.COMMAND_WORD).get();
+        publishingLogic.submit(FindCommand.COMMAND_WORD + " main Meier").get();
+
+        // nothing is shown until the changes are published, and then all of them are
+        assertEquals(shownBefore, publishingLogic.getFilteredPersonList());
+        assertEquals(1, uiQueue.size());
+        uiQueue.poll().run();
+        assertEquals(model.getFilteredPersonList(), publishingLogic.getFilteredPersonList());
+    }
+
     /**
      * Executes the command, confirms that no exceptions are thrown and that the result message is correct.
      * Also confirms that {@code expectedModel} is as specified.
@@ -7,6 +7,8 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -22,6 +24,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyNotesDownloaded;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimetableContainsModulePredicate;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -120,6 +123,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<String, List<String>> pruneMergedGroups() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -130,6 +138,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(TimetableContainsModulePredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -155,6 +168,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public <E extends Exception> void transaction(Transaction<E> body) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyNotesDownloaded getNotesList() {
             throw new AssertionError("This method should not be called.");
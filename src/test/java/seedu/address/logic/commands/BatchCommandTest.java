@@ -0,0 +1,164 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.testutil.TypicalModuleCodes.getTypicalNotesDownloaded;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonUtil;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code BatchCommand}.
+ */
+public class BatchCommandTest {
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalNotesDownloaded(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_validCommands_appliedAsOneChange() throws Exception {
+        Path file = writeBatchFile("# a new cohort", PersonUtil.getAddCommand(AMY), "",
+                PersonUtil.getAddCommand(BOB));
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalNotesDownloaded(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        expectedModel.commitAddressBook();
+        eventsCollectorRule.eventsCollector.reset();
+
+        assertCommandSuccess(new BatchCommand(file), model, commandHistory,
+                String.format(BatchCommand.MESSAGE_SUCCESS, 2, 2, file), expectedModel);
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+
+        // a single undo reverts the whole batch
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_failingLines_reportedAndSkipped() throws Exception {
+        Path file = writeBatchFile("unknownCommand", UndoCommand.COMMAND_WORD, PersonUtil.getAddCommand(AMY),
+                PersonUtil.getAddCommand(AMY));
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalNotesDownloaded(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.commitAddressBook();
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_SUCCESS, 1, 4, file)
+                + "\n" + String.format(BatchCommand.MESSAGE_LINE_FAILED, 1, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(BatchCommand.MESSAGE_LINE_FAILED, 2, BatchCommand.MESSAGE_NOT_ALLOWED_IN_BATCH)
+                + "\n" + String.format(BatchCommand.MESSAGE_LINE_FAILED, 4, AddCommand.MESSAGE_DUPLICATE_PERSON);
+        assertCommandSuccess(new BatchCommand(file), model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_lineFailsUnexpectedly_reportedAndSkipped() throws Exception {
+        // the user's own entry takes no modules, so it is not shown after the filter and editing it fails unexpectedly
+        Path file = writeBatchFile(FilterCommand.COMMAND_WORD + " CS2101",
+                EditCommand.COMMAND_WORD + " self " + PREFIX_PHONE + VALID_PHONE_BOB, PersonUtil.getAddCommand(AMY));
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalNotesDownloaded(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.commitAddressBook();
+
+        CommandResult result = new BatchCommand(file).execute(model, commandHistory);
+        String[] reportedLines = result.feedbackToUser.split("\n");
+        assertEquals(2, reportedLines.length);
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2, 3, file), reportedLines[0]);
+        assertTrue(reportedLines[1].startsWith(String.format(BatchCommand.MESSAGE_LINE_FAILED, 2, "")));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_manyFailingLines_firstFailuresReported() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < BatchCommand.MAX_REPORTED_FAILURES + 3; i++) {
+            lines.add("unknownCommand");
+        }
+        Path file = writeBatchFile(lines.toArray(new String[0]));
+
+        CommandResult result = new BatchCommand(file).execute(model, commandHistory);
+        String[] reportedLines = result.feedbackToUser.split("\n");
+        assertEquals(BatchCommand.MAX_REPORTED_FAILURES + 2, reportedLines.length);
+        assertEquals(String.format(BatchCommand.MESSAGE_MORE_LINES_FAILED, 3),
+                reportedLines[reportedLines.length - 1]);
+    }
+
+    @Test
+    public void execute_noChanges_addressBookNotCommitted() throws Exception {
+        Path file = writeBatchFile(ListCommand.COMMAND_WORD);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalNotesDownloaded(), new UserPrefs());
+        eventsCollectorRule.eventsCollector.reset();
+
+        assertCommandSuccess(new BatchCommand(file), model, commandHistory,
+                String.format(BatchCommand.MESSAGE_SUCCESS, 1, 1, file), expectedModel);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = temporaryFolder.getRoot().toPath().resolve("missing.txt");
+        String expectedMessage = String.format(BatchCommand.MESSAGE_READ_FAILED, file, file);
+        assertCommandFailure(new BatchCommand(file), model, commandHistory, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        Path file = temporaryFolder.getRoot().toPath().resolve("batch.txt");
+        BatchCommand batchCommand = new BatchCommand(file);
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // same file -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(file)));
+
+        // different types -> returns false
+        assertFalse(batchCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(file.resolveSibling("other.txt"))));
+    }
+
+    /**
+     * Returns a file in the temporary folder with {@code lines}.
+     */
+    private Path writeBatchFile(String... lines) throws IOException {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -5,9 +5,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalModuleCodes.getTypicalNotesDownloaded;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -21,7 +19,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.person.IsNotSelfOrMergedPredicate;
 import seedu.address.model.person.IsSelfPredicate;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.TimeSlots;
+import seedu.address.model.person.WeeklyTimetable;
 
 public class ChangeTimeSlotCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), getTypicalNotesDownloaded(), new UserPrefs());
@@ -39,27 +37,15 @@ public class ChangeTimeSlotCommandTest {
         List<Person> filteredPersonList = model.getFilteredPersonList();
         List<Person> mainList = ((ObservableList<Person>) filteredPersonList)
                 .filtered(new IsNotSelfOrMergedPredicate());
-        String[] days = {"mon", "tue", "wed", "thu", "fri"};
-        Map<String, List<TimeSlots>> timeSlots;
-        Map<String, List<TimeSlots>> changedTimeSlots = new HashMap<>();
-        List<TimeSlots> monday;
-
-
         String[] actions = {"1", "mon", "10am", "GER1000"};
         String index = "1";
 
         Person personToChange = mainList.get(0);
-        timeSlots = personToChange.getTimeSlots();
-        monday = timeSlots.get("mon");
-        monday.set(3, new TimeSlots("GER1000"));
-
-        for (String day : days) {
-            changedTimeSlots.put(day, timeSlots.get(day));
-        }
+        WeeklyTimetable changedTimetable = personToChange.getTimetable().withActivity("mon", 2, "GER1000");
 
         Person changedPerson = new Person(personToChange.getName(), personToChange.getPhone(),
                 personToChange.getEmail(), personToChange.getAddress(), personToChange.getTags(),
-                personToChange.getEnrolledModules(), changedTimeSlots);
+                personToChange.getEnrolledModules(), changedTimetable);
 
         expectedModel.updatePerson(personToChange, changedPerson);
         expectedModel.commitAddressBook();
@@ -73,27 +59,15 @@ public class ChangeTimeSlotCommandTest {
         List<Person> filteredPersonList = model.getFilteredPersonList();
         List<Person> selfList = ((ObservableList<Person>) filteredPersonList)
                 .filtered(new IsSelfPredicate());
-        String[] days = {"mon", "tue", "wed", "thu", "fri"};
-        Map<String, List<TimeSlots>> timeSlots;
-        Map<String, List<TimeSlots>> changedTimeSlots = new HashMap<>();
-        List<TimeSlots> monday;
-
-
         String[] actions = {"1", "mon", "10am", "GER1000"};
         String index = "self";
 
         Person personToChange = selfList.get(0);
-        timeSlots = personToChange.getTimeSlots();
-        monday = timeSlots.get("mon");
-        monday.set(3, new TimeSlots("GER1000"));
-
-        for (String day : days) {
-            changedTimeSlots.put(day, timeSlots.get(day));
-        }
+        WeeklyTimetable changedTimetable = personToChange.getTimetable().withActivity("mon", 2, "GER1000");
 
         Person changedPerson = new Person(personToChange.getName(), personToChange.getPhone(),
                 personToChange.getEmail(), personToChange.getAddress(), personToChange.getTags(),
-                personToChange.getEnrolledModules(), changedTimeSlots);
+                personToChange.getEnrolledModules(), changedTimetable);
 
         expectedModel.updatePerson(personToChange, changedPerson);
         expectedModel.commitAddressBook();
@@ -106,18 +80,11 @@ public class ChangeTimeSlotCommandTest {
         List<Person> filteredPersonList = model.getFilteredPersonList();
         List<Person> mainList = ((ObservableList<Person>) filteredPersonList)
                 .filtered(new IsNotSelfOrMergedPredicate());
-        Map<String, List<TimeSlots>> timeSlots;
-        List<TimeSlots> monday;
-
-
         String[] actions = {"1", "mon", "10am", "free"};
         String index = "1";
 
         Person personToChange = mainList.get(0);
-        timeSlots = personToChange.getTimeSlots();
-        monday = timeSlots.get("mon");
-        TimeSlots mon10amSlot = monday.get(3);
-        actions[3] = mon10amSlot.toString();
+        actions[3] = personToChange.getTimetable().getActivity("mon", 2);
 
         assertNothingChangedFailure(index, actions);
 
@@ -23,7 +23,6 @@ import seedu.address.model.person.IsMergedPredicate;
 import seedu.address.model.person.IsNotSelfOrMergedPredicate;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.TimeSlots;
 import seedu.address.testutil.MergedBuilder;
 
 public class UpdateMergedCommandTest {
@@ -59,22 +58,13 @@ public class UpdateMergedCommandTest {
         List<Person> filteredPersonList = expectedModel.getFilteredPersonList();
         List<Person> mainList = ((ObservableList<Person>) filteredPersonList)
                 .filtered(new IsNotSelfOrMergedPredicate());
-        List<Person> mergedList = ((ObservableList<Person>) filteredPersonList).filtered(new IsMergedPredicate());
         Person personToChange = mainList.get(INDEX_FIRST_PERSON.getZeroBased());
+        Person changedPerson = new Person(personToChange.getName(), personToChange.getPhone(),
+                personToChange.getEmail(), personToChange.getAddress(), personToChange.getTags(),
+                personToChange.getEnrolledModules(), personToChange.getTimetable().withActivity("mon", 1, "test"));
 
-        Map<String, List<TimeSlots>> timetableToChange = personToChange.getTimeSlots();
-        List<TimeSlots> dayToChange = timetableToChange.get("mon");
-        dayToChange.set(1, new TimeSlots("test"));
-        personToChange = mergedList.get(0);
-        timetableToChange = personToChange.getTimeSlots();
-        dayToChange = timetableToChange.get("mon");
-        TimeSlots changedTimeSlot = dayToChange.get(1);
-        String newBusyNum = changedTimeSlot.toString();
-        int newBusyNumInt = Integer.parseInt(newBusyNum);
-
-        changedTimeSlot = new TimeSlots(Integer.toString(newBusyNumInt));
-        dayToChange.set(1, changedTimeSlot);
-
+        model.updatePerson(personToChange, changedPerson);
+        expectedModel.updatePerson(personToChange, changedPerson);
         expectedModel.commitAddressBook();
         assertUpdateTimeSlotSuccess();
     }
@@ -6,6 +6,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,6 +16,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -47,6 +49,12 @@ public class AddressBookParserTest {
         assertEquals(new AddCommand(person), command);
     }
 
+    @Test
+    public void parseCommand_batch() throws Exception {
+        BatchCommand command = (BatchCommand) parser.parseCommand(BatchCommand.COMMAND_WORD + " data/cohort.txt");
+        assertEquals(new BatchCommand(Paths.get("data", "cohort.txt")), command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -134,6 +142,31 @@ public class AddressBookParserTest {
         parser.parseCommand("");
     }
 
+    @Test
+    public void parseCommand_lineBreakInArguments_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        parser.parseCommand(ListCommand.COMMAND_WORD + " all\nclear");
+    }
+
+    @Test
+    public void parseCommand_commandWordPrefix_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_UNKNOWN_COMMAND);
+        parser.parseCommand("hist");
+    }
+
+    @Test
+    public void getCommandWordCompletions() {
+        assertEquals(Arrays.asList("delete", "deleteSelectNotes", "downloadAllNotes", "downloadSelectNotes"),
+                parser.getCommandWordCompletions("d"));
+        assertEquals(Arrays.asList(HistoryCommand.COMMAND_WORD), parser.getCommandWordCompletions("hist"));
+        assertEquals(Arrays.asList(ClearCommand.COMMAND_WORD, "clearNotes"),
+                parser.getCommandWordCompletions(ClearCommand.COMMAND_WORD));
+        assertTrue(parser.getCommandWordCompletions("x").isEmpty());
+        assertEquals(25, parser.getCommandWordCompletions("").size());
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
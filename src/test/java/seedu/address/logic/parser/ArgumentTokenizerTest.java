@@ -136,6 +136,31 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_cliSyntaxPrefixes_onlyGivenPrefixesRecognized() {
+        String argsString = " 1 n/Alice em/CS2113 p/98765432 pass/secret";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, CliSyntax.PREFIX_NAME,
+                CliSyntax.PREFIX_PHONE);
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, CliSyntax.PREFIX_NAME, "Alice em/CS2113");
+        assertArgumentPresent(argMultimap, CliSyntax.PREFIX_PHONE, "98765432 pass/secret");
+        assertArgumentAbsent(argMultimap, CliSyntax.PREFIX_ENROLLED_MODULE);
+    }
+
+    @Test
+    public void tokenize_prefixesAtSamePosition_longestRecognized() {
+        Prefix aSlash = new Prefix("a/");
+        Prefix aSlashB = new Prefix("a/b/");
+        String argsString = "preamble a/b/ first a/ second";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, aSlash, aSlashB);
+        assertArgumentPresent(argMultimap, aSlashB, "first");
+        assertArgumentPresent(argMultimap, aSlash, "second");
+
+        // a prefix that is not given is not recognized, even if it is longer
+        argMultimap = ArgumentTokenizer.tokenize(argsString, aSlash);
+        assertArgumentPresent(argMultimap, aSlash, "b/ first", "second");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -28,7 +28,7 @@ public class FilterCommandParserTest {
 
         keywords.add("CS2040c");
 
-        expectedFilterCommand = new FilterCommand(predicate);
+        expectedFilterCommand = new FilterCommand(new TimetableContainsModulePredicate(keywords));
 
         assertParseSuccess(parser, "mon 10am CS2040c", expectedFilterCommand);
 
@@ -36,7 +36,7 @@ public class FilterCommandParserTest {
         keywords.remove(1);
         keywords.remove(1);
 
-        expectedFilterCommand = new FilterCommand(predicate);
+        expectedFilterCommand = new FilterCommand(new TimetableContainsModulePredicate(keywords));
 
         assertParseSuccess(parser, "CS2040c", expectedFilterCommand);
     }
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class StringTrieTest {
+
+    private final StringTrie<Integer> trie = new StringTrie<>(entriesOf("pass/", "p/", "em/", "e/", "ex"));
+
+    @Test
+    public void get() {
+        assertEquals(Integer.valueOf(1), trie.get("p/", 0, 2));
+        assertEquals(Integer.valueOf(0), trie.get(" a pass/", 3, 8));
+        assertNull(trie.get("pass/", 0, 4));
+        assertNull(trie.get("pass/x", 0, 6));
+        assertNull(trie.get("", 0, 0));
+    }
+
+    @Test
+    public void longestMatchAt() {
+        StringTrie<Integer> nestedTrie = new StringTrie<>(entriesOf("e", "em", "em/"));
+        assertEquals(Integer.valueOf(2), nestedTrie.longestMatchAt("x em/CS2113", 2, value -> true));
+        assertEquals(Integer.valueOf(1), nestedTrie.longestMatchAt("x em/CS2113", 2, value -> value < 2));
+        assertEquals(Integer.valueOf(1), nestedTrie.longestMatchAt("x em", 2, value -> true));
+        assertNull(nestedTrie.longestMatchAt("x em/CS2113", 1, value -> true));
+        assertNull(nestedTrie.longestMatchAt("x em/CS2113", 2, value -> false));
+    }
+
+    @Test
+    public void keysStartingWith() {
+        assertEquals(Arrays.asList("e/", "em/", "ex", "p/", "pass/"), trie.keysStartingWith(""));
+        assertEquals(Arrays.asList("e/", "em/", "ex"), trie.keysStartingWith("e"));
+        assertEquals(Collections.singletonList("pass/"), trie.keysStartingWith("pa"));
+        assertEquals(Collections.emptyList(), trie.keysStartingWith("pass/x"));
+    }
+
+    /**
+     * Returns the map of each of {@code keys} to its index.
+     */
+    private static Map<String, Integer> entriesOf(String... keys) {
+        Map<String, Integer> entries = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            entries.put(keys[i], i);
+        }
+        return entries;
+    }
+}
@@ -12,6 +12,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -19,7 +20,9 @@ import org.junit.rules.ExpectedException;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.WeeklyTimetable;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -48,6 +51,25 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withAddressBook_laterChangesNotShared() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        addressBook.removePerson(ALICE);
+
+        assertTrue(newData.hasPerson(ALICE));
+        assertFalse(addressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void snapshot_laterChangesNotShared() {
+        AddressBook newData = getTypicalAddressBook();
+        List<Person> persons = Arrays.asList(newData.getPersonList().toArray(new Person[0]));
+        ReadOnlyAddressBook snapshot = newData.snapshot();
+        newData.removePerson(ALICE);
+        assertEquals(persons, snapshot.getPersonList());
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -91,6 +113,72 @@ public class AddressBookTest {
         addressBook.getPersonList().remove(0);
     }
 
+    @Test
+    public void updatePerson_memberTimetableChanged_updatesGroupTimetable() {
+        addGroupOfAliceAndBob();
+        Person alice = getPerson("Alice");
+        addressBook.updatePerson(alice, new PersonBuilder(alice)
+                .withTimetable(alice.getTimetable().withActivity("mon", 0, "CS2113")).build());
+
+        Person group = getPerson("Project");
+        assertEquals("2", group.getTimetable().getActivity("mon", 0));
+        assertEquals("0", group.getTimetable().getActivity("mon", 1));
+    }
+
+    @Test
+    public void updatePerson_memberRenamed_renamesGroupMember() {
+        addGroupOfAliceAndBob();
+        Person alice = getPerson("Alice");
+        addressBook.updatePerson(alice, new PersonBuilder(alice).withName("Alicia").build());
+
+        Person group = getPerson("Project");
+        assertEquals("Alicia, Bob", group.getAddress().value);
+        assertEquals("1", group.getTimetable().getActivity("mon", 0));
+    }
+
+    @Test
+    public void removePerson_member_updatesGroupTimetableUntilPruned() {
+        addGroupOfAliceAndBob();
+        addressBook.removePerson(getPerson("Bob"));
+
+        Person group = getPerson("Project");
+        assertEquals("0", group.getTimetable().getActivity("mon", 0));
+        assertEquals("Alice, Bob", group.getAddress().value);
+
+        Map<String, List<String>> removed = addressBook.pruneMergedGroups();
+        assertEquals(Collections.singletonMap("Bob", Collections.singletonList("Project")), removed);
+        assertEquals("Alice", getPerson("Project").getAddress().value);
+        assertTrue(addressBook.pruneMergedGroups().isEmpty());
+    }
+
+    @Test
+    public void resetData_staleGroup_recomputesGroupTimetable() {
+        addGroupOfAliceAndBob();
+        Person alice = getPerson("Alice");
+        Person staleGroup = new PersonBuilder(getPerson("Project")).withTimetable(WeeklyTimetable.empty()).build();
+        AddressBookStub newData = new AddressBookStub(Arrays.asList(alice, getPerson("Bob"), staleGroup));
+
+        addressBook.resetData(newData);
+        assertEquals("1", getPerson("Project").getTimetable().getActivity("mon", 0));
+    }
+
+    /**
+     * Adds Alice, who is free all week, Bob, who is busy on Monday at 8am, and a merged group of the two.
+     */
+    private void addGroupOfAliceAndBob() {
+        Person alice = new PersonBuilder().withName("Alice").withPhone("91111111").build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("92222222")
+                .withTimetable(WeeklyTimetable.empty().withActivity("mon", 0, "CS2101")).build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+        addressBook.addPerson(TimetableMergeEngine.mergeGroup(new Name("Project"), Arrays.asList(alice, bob)));
+    }
+
+    private Person getPerson(String name) {
+        return addressBook.getPersonList().stream()
+                .filter(person -> person.getName().fullName.equals(name)).findFirst().get();
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.AvailabilitySearcher.FreeWindow;
+import seedu.address.model.person.WeeklyTimetable;
+import seedu.address.testutil.Assert;
+
+public class AvailabilitySearcherTest {
+
+    @Test
+    public void findNext_invalidArguments_throwsIllegalArgumentException() {
+        AvailabilitySearcher searcher = new AvailabilitySearcher(WeeklyTimetable.ALL_SLOTS_MASK);
+        Assert.assertThrows(IllegalArgumentException.class, () -> searcher.findNext(5, 0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> searcher.findNext(0, -1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> searcher.findNext(0, 0, 1, 0));
+    }
+
+    @Test
+    public void findNext_allFree_returnsRestOfStartingDay() {
+        AvailabilitySearcher searcher = new AvailabilitySearcher(WeeklyTimetable.ALL_SLOTS_MASK);
+        FreeWindow window = searcher.findNext(2, 4);
+
+        assertEquals(new FreeWindow(2, 0, 4, 12), window);
+        assertEquals(12, window.getStartHour());
+        assertEquals(20, window.getEndHour());
+    }
+
+    @Test
+    public void findNext_noneFree_returnsNull() {
+        assertNull(new AvailabilitySearcher(0L).findNext(0, 0));
+        assertEquals(Collections.emptyList(), new AvailabilitySearcher(0L).findNext(0, 0, 3, 1));
+    }
+
+    @Test
+    public void findNext_freeOnlyEarlierOnStartingDay_wrapsToNextWeek() {
+        long mask = 1L << WeeklyTimetable.slotIndex(3, 1);
+        assertEquals(new FreeWindow(3, 5, 1, 2), new AvailabilitySearcher(mask).findNext(3, 5));
+    }
+
+    @Test
+    public void findNext_severalWindows_skipsShortWindowsInTimeOrder() {
+        WeeklyTimetable busy = WeeklyTimetable.empty()
+                .withActivity("fri", 2, "CS2113")
+                .withActivity("fri", 5, "CS2101")
+                .withActivity("mon", 3, "CS2113");
+        WeeklyTimetable alsoBusy = WeeklyTimetable.empty()
+                .withActivity("fri", 0, "MA1521")
+                .withActivity("fri", 6, "MA1521");
+        AvailabilitySearcher searcher = AvailabilitySearcher.of(Arrays.asList(busy, alsoBusy));
+
+        // fri: 0 busy, 1 free, 2 busy, 3-4 free, 5-6 busy, 7-11 free; mon: 0-2 free, 3 busy, 4-11 free
+        assertEquals(Arrays.asList(new FreeWindow(4, 0, 3, 5), new FreeWindow(4, 0, 7, 12),
+                new FreeWindow(0, 1, 0, 3)), searcher.findNext(4, 0, 3, 2));
+        assertEquals(Arrays.asList(new FreeWindow(4, 0, 7, 12), new FreeWindow(0, 1, 4, 12)),
+                searcher.findNext(4, 0, 2, 4));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model;
 //@@author auskure
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
@@ -8,22 +9,32 @@ import static seedu.address.testutil.TypicalModuleCodes.CS2101_MODULE_CODE;
 import static seedu.address.testutil.TypicalModuleCodes.getDifferentNotesDownloaded;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.NotesDownloadedBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -49,6 +60,102 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void addPerson_eventCarriesDelta() {
+        modelManager.addPerson(ALICE);
+        AddressBookChangedEvent event = (AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(new AddressBookDelta(Collections.emptyList(), Arrays.asList(ALICE)), event.getDelta().get());
+    }
+
+    @Test
+    public void transaction_changesMade_appliedAsOneChange() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        ModelManager expectedModel = new ModelManager(modelManager.getAddressBook(), new NotesDownloaded(),
+                new UserPrefs());
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        expectedModel.updatePerson(ALICE, editedAlice);
+        expectedModel.addPerson(BENSON);
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.transaction(model -> {
+            model.updatePerson(ALICE, editedAlice);
+            model.addPerson(BENSON);
+            model.addPerson(CARL);
+            model.deletePerson(CARL);
+            assertTrue(model.hasPerson(BENSON));
+            // not applied until the transaction ends
+            assertFalse(modelManager.hasPerson(BENSON));
+            assertTrue(modelManager.getAddressBook().getPersonList().contains(ALICE));
+        });
+
+        assertEquals(expectedModel.getAddressBook().getPersonList(), modelManager.getAddressBook().getPersonList());
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        AddressBookChangedEvent event = (AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(new AddressBookDelta(Arrays.asList(ALICE), Arrays.asList(editedAlice, BENSON)),
+                event.getDelta().get());
+
+        // the transaction saved a single address book state
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertTrue(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void transaction_noChanges_nothingApplied() {
+        modelManager.transaction(model -> model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS));
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void transaction_bodyThrows_nothingApplied() throws Exception {
+        ModelManager expectedModel = new ModelManager(modelManager.getAddressBook(), new NotesDownloaded(),
+                new UserPrefs());
+        thrown.expect(CommandException.class);
+        try {
+            modelManager.transaction(model -> {
+                model.addPerson(ALICE);
+                throw new CommandException("failure");
+            });
+        } finally {
+            assertEquals(expectedModel, modelManager);
+            assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+            assertFalse(modelManager.canUndoAddressBook());
+        }
+    }
+
+    @Test
+    public void transaction_notesChanged_changedOnModel() {
+        modelManager.transaction(model -> {
+            model.resetNotesData(getDifferentNotesDownloaded());
+            model.undoAddressBook();
+        });
+
+        assertEquals(new NotesDownloaded(getDifferentNotesDownloaded()), modelManager.getNotesList());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void transaction_nestedTransactionThrows_onlyItsChangesDiscarded() {
+        modelManager.transaction(model -> {
+            model.addPerson(ALICE);
+            try {
+                model.transaction(nestedModel -> {
+                    nestedModel.addPerson(BENSON);
+                    throw new CommandException("failure");
+                });
+            } catch (CommandException e) {
+                assertFalse(model.hasPerson(BENSON));
+            }
+            assertEquals(new AddressBookDelta(Collections.emptyList(), Arrays.asList(ALICE)), model.getChanges());
+        });
+
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
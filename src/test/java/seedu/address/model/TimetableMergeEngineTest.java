@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlots;
+import seedu.address.model.person.WeeklyTimetable;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.MergedBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class TimetableMergeEngineTest {
+
+    private static final WeeklyTimetable SAMPLE = WeeklyTimetable.fromMap(TimeSlots.sampleTimeSlots());
+
+    @Test
+    public void countBusy_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> TimetableMergeEngine.countBusy((long[]) null));
+    }
+
+    @Test
+    public void countBusy_noTimetables_allZero() {
+        assertArrayEquals(new int[WeeklyTimetable.NUM_SLOTS], TimetableMergeEngine.countBusy(new long[0]));
+    }
+
+    @Test
+    public void countBusy_randomMasks_matchesPerSlotCount() {
+        Random random = new Random(2113);
+        for (int size : new int[] {1, 2, 3, 7, 64, 200, 1000}) {
+            long[] masks = new long[size];
+            int[] expected = new int[WeeklyTimetable.NUM_SLOTS];
+            for (int i = 0; i < size; i++) {
+                masks[i] = random.nextLong() & WeeklyTimetable.ALL_SLOTS_MASK;
+                for (int slot = 0; slot < WeeklyTimetable.NUM_SLOTS; slot++) {
+                    if ((masks[i] & (1L << slot)) != 0) {
+                        expected[slot]++;
+                    }
+                }
+            }
+            assertArrayEquals(expected, TimetableMergeEngine.countBusy(masks));
+        }
+    }
+
+    @Test
+    public void countBusy_everyoneBusy_countsEveryone() {
+        List<WeeklyTimetable> timetables = Collections.nCopies(255, SAMPLE.withBusyActivity("busy")
+                .withActivity("mon", 0, "busy"));
+        int[] counts = TimetableMergeEngine.countBusy(timetables);
+        assertEquals(255, counts[0]);
+        assertEquals(0, counts[1]);
+    }
+
+    @Test
+    public void commonFreeMask_returnsSlotsFreeForEveryone() {
+        WeeklyTimetable busyMonday = WeeklyTimetable.empty().withActivity("mon", 0, "CS2113");
+        long freeMask = TimetableMergeEngine.commonFreeMask(Arrays.asList(SAMPLE, busyMonday));
+
+        assertEquals(0, freeMask & 1L);
+        assertEquals(0, freeMask & SAMPLE.getBusyMask());
+        assertTrue((freeMask & (1L << 1)) != 0);
+    }
+
+    @Test
+    public void mergeGroup_matchesPairwiseMerge() {
+        Person alice = new PersonBuilder().withName("Alice").withTimetable(SAMPLE).build();
+        Person bob = new PersonBuilder().withName("Bob")
+                .withTimetable(SAMPLE.withActivity("mon", 3, "CS2101").withActivity("tue", 0, "free")).build();
+        Person carl = new PersonBuilder().withName("Carl").build();
+        List<Person> members = Arrays.asList(alice, bob, carl);
+
+        Person expected = new MergedBuilder(new ArrayList<>(members), "Project").getMergedPerson();
+        Person merged = TimetableMergeEngine.mergeGroup(new Name("Project"), members);
+
+        assertTrue(expected.completelyEquals(merged));
+        assertEquals(expected.getTimetable(), merged.getTimetable());
+    }
+}
@@ -15,7 +15,11 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.WeeklyTimetable;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class VersionedAddressBookTest {
 
@@ -239,6 +243,41 @@ public class VersionedAddressBookTest {
         assertFalse(versionedAddressBook.equals(differentCurrentStatePointer));
     }
 
+    @Test
+    public void commit_historyLimitReached_oldestStateDropped() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, 2);
+        for (ReadOnlyAddressBook state : Arrays.asList(addressBookWithAmy, addressBookWithBob, addressBookWithCarl)) {
+            versionedAddressBook.resetData(state);
+            versionedAddressBook.commit();
+        }
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy, addressBookWithBob),
+                addressBookWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_memberEdited_restoresMergedGroupTimetable() {
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Person group = TimetableMergeEngine.mergeGroup(new Name("Project"), Collections.singletonList(alice));
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(
+                new AddressBookBuilder().withPerson(alice).withPerson(group).withPerson(SELF).build());
+
+        Person busyAlice = new PersonBuilder(alice)
+                .withTimetable(WeeklyTimetable.empty().withActivity("mon", 0, "CS2113")).build();
+        versionedAddressBook.updatePerson(alice, busyAlice);
+        versionedAddressBook.commit();
+        assertEquals("1", getTimetable(versionedAddressBook, "Project").getActivity("mon", 0));
+
+        versionedAddressBook.undo();
+        assertEquals("0", getTimetable(versionedAddressBook, "Project").getActivity("mon", 0));
+
+        // the group index follows the restored state
+        versionedAddressBook.updatePerson(alice, busyAlice);
+        assertEquals("1", getTimetable(versionedAddressBook, "Project").getActivity("mon", 0));
+    }
+
     /**
      * Asserts that {@code versionedAddressBook} is currently pointing at {@code expectedCurrentState},
      * states before {@code versionedAddressBook#currentStatePointer} is equal to {@code expectedStatesBeforePointer},
@@ -275,6 +314,11 @@ public class VersionedAddressBookTest {
         expectedStatesAfterPointer.forEach(unused -> versionedAddressBook.undo());
     }
 
+    private WeeklyTimetable getTimetable(ReadOnlyAddressBook addressBook, String name) {
+        return addressBook.getPersonList().stream()
+                .filter(person -> person.getName().fullName.equals(name)).findFirst().get().getTimetable();
+    }
+
     /**
      * Creates and returns a {@code VersionedAddressBook} with the {@code addressBookStates} added into it, and the
      * {@code VersionedAddressBook#currentStatePointer} at the end of list.
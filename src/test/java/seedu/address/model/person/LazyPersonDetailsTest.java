@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class LazyPersonDetailsTest {
+
+    @Test
+    public void get_notDecoded_decodesOnce() {
+        AtomicInteger decodeCount = new AtomicInteger();
+        byte[] encoded = {1, 2, 3};
+        PersonDetails details = new PersonDetails(ALICE.getEnrolledModules(), ALICE.getTimetable());
+        LazyPersonDetails lazyDetails = new LazyPersonDetails(encoded, bytes -> {
+            assertSame(encoded, bytes);
+            decodeCount.incrementAndGet();
+            return details;
+        });
+        assertFalse(lazyDetails.isDecoded());
+        assertEquals(0, decodeCount.get());
+
+        assertSame(details, lazyDetails.get());
+        assertSame(details, lazyDetails.get());
+        assertTrue(lazyDetails.isDecoded());
+        assertEquals(1, decodeCount.get());
+    }
+
+    @Test
+    public void person_lazyDetails_sameAsEager() {
+        Person lazyAlice = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getTags(), new LazyPersonDetails(new byte[0], unused ->
+                        new PersonDetails(ALICE.getEnrolledModules(), ALICE.getTimetable())));
+        assertEquals(ALICE.getEnrolledModules(), lazyAlice.getEnrolledModules());
+        assertEquals(ALICE.getTimetable(), lazyAlice.getTimetable());
+        assertEquals(ALICE.hashCode(), lazyAlice.hashCode());
+        assertEquals(ALICE.toString(), lazyAlice.toString());
+    }
+}
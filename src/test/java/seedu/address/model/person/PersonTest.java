@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -10,10 +11,18 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.enrolledmodule.EnrolledModule;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -27,6 +36,29 @@ public class PersonTest {
         person.getTags().remove(0);
     }
 
+    @Test
+    public void getTimeSlots_modifyDay_throwsUnsupportedOperationException() {
+        Person person = new PersonBuilder().build();
+        thrown.expect(UnsupportedOperationException.class);
+        person.getTimeSlots().get("mon").set(0, TimeSlots.of("CS2113"));
+    }
+
+    @Test
+    public void constructor_sourceCollectionsModifiedAfterwards_personUnchanged() {
+        Set<Tag> tags = new HashSet<>(Collections.singleton(new Tag("friends")));
+        Map<String, EnrolledModule> enrolledModules = new TreeMap<>();
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(), tags,
+                enrolledModules, ALICE.getTimetable());
+        int hashCode = person.hashCode();
+
+        tags.add(new Tag("colleagues"));
+        enrolledModules.put("CS2113", new EnrolledModule("CS2113"));
+        assertEquals(1, person.getTags().size());
+        assertTrue(person.getEnrolledModules().isEmpty());
+        assertEquals(hashCode, person.hashCode());
+        assertEquals(hashCode, new PersonBuilder(person).build().hashCode());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -0,0 +1,52 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class TimeSlotsTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> TimeSlots.of(null));
+    }
+
+    @Test
+    public void of_sameActivity_returnsSharedInstance() {
+        assertSame(TimeSlots.of("CS2113"), TimeSlots.of(new String("CS2113")));
+        assertSame(TimeSlots.FREE, TimeSlots.of("free"));
+        assertSame(TimeSlots.BUSY, TimeSlots.of("busy"));
+        assertNotSame(TimeSlots.FREE, TimeSlots.of("FREE"));
+    }
+
+    @Test
+    public void getFreeTimeSlots_sharesFreeInstance() {
+        for (TimeSlots slot : TimeSlots.getFreeTimeSlots()) {
+            assertSame(TimeSlots.FREE, slot);
+        }
+    }
+
+    @Test
+    public void deserialize_returnsSharedInstance() throws Exception {
+        TimeSlots original = TimeSlots.of("CS2101");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(original);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Object deserialized = in.readObject();
+            assertSame(original, deserialized);
+            assertEquals(original.getCode(), ((TimeSlots) deserialized).getCode());
+        }
+    }
+}
@@ -7,15 +7,23 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.PersistentSortedMap;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -177,9 +185,162 @@ public class UniquePersonListTest {
         uniquePersonList.setPersons(listWithDuplicatePersons);
     }
 
+    @Test
+    public void setPersons_listWithNonAdjacentSamePersons_throwsDuplicatePersonException() {
+        Person aliceWithSameEmail = new PersonBuilder(ALICE).withPhone("99998888").build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, CARL, aliceWithSameEmail);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPersons(listWithDuplicatePersons);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asUnmodifiableObservableList().remove(0);
     }
+
+    @Test
+    public void add_personInMiddle_insertsAtSortedPositionWithSingleChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        List<String> changes = recordChanges();
+
+        uniquePersonList.add(BOB);
+        assertEquals(Collections.singletonList("added " + BOB.getName() + " at 1"), changes);
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_sameName_replacesInPlaceWithSingleChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        List<String> changes = recordChanges();
+
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertEquals(Collections.singletonList("replaced " + BOB.getName() + " at 1"), changes);
+        assertTrue(editedBob.completelyEquals(uniquePersonList.asUnmodifiableObservableList().get(1)));
+    }
+
+    @Test
+    public void setPerson_renamed_movesToSortedPosition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        Person zed = new PersonBuilder(ALICE).withName("Zed").build();
+
+        uniquePersonList.setPerson(ALICE, zed);
+        assertEquals(Arrays.asList(BOB, CARL, zed), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_person_removesWithSingleChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        List<String> changes = recordChanges();
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Collections.singletonList("removed " + BOB.getName() + " at 1"), changes);
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void restore_snapshot_appliesOnlyDifferences() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(DANIEL);
+        PersistentSortedMap<String, Person> snapshot = uniquePersonList.getSnapshot();
+        uniquePersonList.remove(BOB);
+        List<String> changes = recordChanges();
+
+        uniquePersonList.restore(snapshot);
+        assertEquals(Collections.singletonList("added " + BOB.getName() + " at 1"), changes);
+        assertEquals(Arrays.asList(ALICE, BOB, CARL, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void toIndexedPredicate_matchesPredicate() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        List<List<String>> queries = Arrays.asList(
+                Collections.singletonList("CS2040c"),
+                Arrays.asList("cs2040C", "mon", "3"),
+                Arrays.asList("tue", "0"),
+                Arrays.asList("CS2040c", "GER1000", "wed", "5"),
+                Collections.singletonList("CS9999"));
+        for (List<String> keywords : queries) {
+            TimetableContainsModulePredicate predicate = new TimetableContainsModulePredicate(keywords);
+            Predicate<Person> indexedPredicate = uniquePersonList.toIndexedPredicate(predicate);
+            for (Person person : uniquePersonList) {
+                assertEquals(keywords + " " + person.getName(), predicate.test(person), indexedPredicate.test(person));
+            }
+        }
+    }
+
+    @Test
+    public void toIndexedPredicate_personEditedAfterwards_testedDirectly() {
+        uniquePersonList.add(ALICE);
+        TimetableContainsModulePredicate predicate =
+                new TimetableContainsModulePredicate(Collections.singletonList("CS2113"));
+        Predicate<Person> indexedPredicate = uniquePersonList.toIndexedPredicate(predicate);
+        assertFalse(indexedPredicate.test(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE)
+                .withTimetable(ALICE.getTimetable().withActivity("mon", 0, "CS2113")).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(indexedPredicate.test(editedAlice));
+    }
+
+    @Test
+    public void toIndexedPredicate_personAddedAfterBulkChange_matched() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        Person bob = new PersonBuilder(BOB).withTimetable(WeeklyTimetable.empty().withActivity("mon", 0, "CS2113"))
+                .build();
+        uniquePersonList.add(bob);
+        Predicate<Person> indexedPredicate = uniquePersonList.toIndexedPredicate(
+                new TimetableContainsModulePredicate(Collections.singletonList("CS2113")));
+        assertTrue(indexedPredicate.test(bob));
+        assertFalse(indexedPredicate.test(ALICE));
+    }
+
+    @Test
+    public void setPersons_lazyDetails_decodedOnlyWhenFiltered() {
+        AtomicInteger decodeCount = new AtomicInteger();
+        List<Person> persons = new ArrayList<>();
+        for (Person person : getTypicalPersons()) {
+            PersonDetails details = new PersonDetails(person.getEnrolledModules(), person.getTimetable());
+            persons.add(new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                    person.getTags(), new LazyPersonDetails(new byte[0], unused -> {
+                        decodeCount.incrementAndGet();
+                        return details;
+                    })));
+        }
+
+        uniquePersonList.setPersons(persons);
+        UniquePersonList copy = new UniquePersonList();
+        copy.setPersons(uniquePersonList);
+        assertEquals(0, decodeCount.get());
+
+        copy.toIndexedPredicate(new TimetableContainsModulePredicate(Collections.singletonList("CS2040c")));
+        assertEquals(persons.size(), decodeCount.get());
+    }
+
+    /**
+     * Returns a list that records every change made to {@code uniquePersonList} from now on.
+     */
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced()) {
+                    changes.add("replaced " + change.getAddedSubList().get(0).getName() + " at " + change.getFrom());
+                } else if (change.wasAdded()) {
+                    changes.add("added " + change.getAddedSubList().get(0).getName() + " at " + change.getFrom());
+                } else if (change.wasRemoved()) {
+                    changes.add("removed " + change.getRemoved().get(0).getName() + " at " + change.getFrom());
+                }
+            }
+        });
+        return changes;
+    }
 }
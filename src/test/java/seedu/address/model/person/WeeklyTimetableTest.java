@@ -0,0 +1,127 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class WeeklyTimetableTest {
+
+    @Test
+    public void fromMap_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> WeeklyTimetable.fromMap(null));
+    }
+
+    @Test
+    public void fromMap_extraDaysAndSlots_ignored() {
+        Map<String, List<TimeSlots>> timeslots = TimeSlots.initTimeSlots();
+        timeslots.put("sat", TimeSlots.getSampleTue());
+        timeslots.get("mon").add(TimeSlots.of("CS2113"));
+
+        assertSame(WeeklyTimetable.empty(), WeeklyTimetable.fromMap(timeslots));
+    }
+
+    @Test
+    public void withActivity_invalidDay_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> WeeklyTimetable.empty()
+                .withActivity("sat", 0, "CS2113"));
+    }
+
+    @Test
+    public void fromMap_sampleTimetable_keepsActivitiesAndBusyMask() {
+        WeeklyTimetable timetable = WeeklyTimetable.fromMap(TimeSlots.sampleTimeSlots());
+
+        assertEquals("CS2040c", timetable.getActivity("tue", 0));
+        assertEquals("free", timetable.getActivity("mon", 0));
+        assertFalse(timetable.isFree("tue", 0));
+        assertTrue(timetable.isFree("mon", 11));
+
+        // tue 8am is bit 12, wed 8am is bit 24
+        assertTrue((timetable.getBusyMask() & (1L << 12)) != 0);
+        assertTrue((timetable.getBusyMask() & (1L << 24)) != 0);
+        assertEquals(WeeklyTimetable.ALL_SLOTS_MASK, timetable.getBusyMask() | timetable.getFreeMask());
+    }
+
+    @Test
+    public void fromMap_missingDays_treatedAsFree() {
+        Map<String, List<TimeSlots>> partial = new HashMap<>();
+        partial.put("mon", TimeSlots.getSampleTue());
+
+        WeeklyTimetable timetable = WeeklyTimetable.fromMap(partial);
+        assertEquals("CS2040c", timetable.getActivity("mon", 0));
+        assertEquals(12, timetable.asMap().get("fri").size());
+        assertTrue(timetable.isFree("fri", 0));
+    }
+
+    @Test
+    public void fromMap_allFree_returnsSharedEmptyTimetable() {
+        assertSame(WeeklyTimetable.empty(), WeeklyTimetable.fromMap(TimeSlots.initTimeSlots()));
+        assertEquals(0L, WeeklyTimetable.empty().getBusyMask());
+    }
+
+    @Test
+    public void fromMap_view_returnsBackingTimetable() {
+        WeeklyTimetable timetable = WeeklyTimetable.fromMap(TimeSlots.sampleTimeSlots());
+        assertSame(timetable, WeeklyTimetable.fromMap(timetable.asMap()));
+    }
+
+    @Test
+    public void isFree_freeIgnoresCase() {
+        WeeklyTimetable timetable = WeeklyTimetable.empty().withActivity("mon", 0, "FREE");
+        assertTrue(timetable.isFree("mon", 0));
+        assertEquals("FREE", timetable.getActivity("mon", 0));
+    }
+
+    @Test
+    public void withActivity_returnsNewTimetable() {
+        WeeklyTimetable original = WeeklyTimetable.empty();
+        WeeklyTimetable changed = original.withActivity("wed", 3, "CS2113");
+
+        assertTrue(original.isFree("wed", 3));
+        assertFalse(changed.isFree("wed", 3));
+        assertEquals("CS2113", changed.getActivity("wed", 3));
+        assertTrue(changed.containsActivity("cs2113"));
+        assertSame(changed, changed.withActivity("wed", 3, "CS2113"));
+        assertEquals(WeeklyTimetable.empty(), changed.withActivity("wed", 3, "free"));
+    }
+
+    @Test
+    public void withBusyActivity_replacesOnlyBusySlots() {
+        WeeklyTimetable timetable = WeeklyTimetable.fromMap(TimeSlots.sampleTimeSlots()).withBusyActivity("busy");
+
+        assertEquals("busy", timetable.getActivity("tue", 0));
+        assertEquals("free", timetable.getActivity("mon", 0));
+        assertFalse(timetable.containsActivity("CS2040c"));
+    }
+
+    @Test
+    public void asMap_modify_throwsUnsupportedOperationException() {
+        Map<String, List<TimeSlots>> view = WeeklyTimetable.empty().asMap();
+        Assert.assertThrows(UnsupportedOperationException.class, () -> view.get("mon").set(0, TimeSlots.of("x")));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> view.remove("mon"));
+    }
+
+    @Test
+    public void equals() {
+        WeeklyTimetable sample = WeeklyTimetable.fromMap(TimeSlots.sampleTimeSlots());
+
+        // same values -> returns true
+        assertEquals(sample, WeeklyTimetable.fromMap(TimeSlots.sampleTimeSlots()));
+        assertEquals(sample.hashCode(), WeeklyTimetable.fromMap(TimeSlots.sampleTimeSlots()).hashCode());
+
+        // null -> returns false
+        assertNotEquals(sample, null);
+
+        // different activity in the same busy slot -> returns false
+        assertNotEquals(sample, sample.withActivity("tue", 0, "CS1010"));
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.Assert;
+
+public class AsyncAddressBookSaverTest {
+
+    private final List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new AsyncAddressBookSaver(null, failures::add));
+        Assert.assertThrows(NullPointerException.class, () -> new AsyncAddressBookSaver(saved::add, null));
+    }
+
+    @Test
+    public void submit_burstDuringSave_savesFirstAndLatestOnly() throws Exception {
+        CountDownLatch saveStarted = new CountDownLatch(1);
+        CountDownLatch releaseSave = new CountDownLatch(1);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(addressBook -> {
+            saveStarted.countDown();
+            try {
+                releaseSave.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            saved.add(addressBook);
+        }, failures::add);
+
+        AddressBook first = new AddressBook();
+        saver.submit(first);
+        saveStarted.await();
+        AddressBook latest = getTypicalAddressBook();
+        saver.submit(new AddressBook());
+        saver.submit(new AddressBook());
+        saver.submit(latest);
+        releaseSave.countDown();
+        saver.flush();
+
+        assertEquals(2, saved.size());
+        assertSame(first, saved.get(0));
+        assertSame(latest, saved.get(1));
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void submit_saveFails_failureHandled() {
+        IOException exception = new IOException("dummy exception");
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(addressBook -> {
+            throw exception;
+        }, failures::add);
+
+        saver.submit(new AddressBook());
+        saver.flush();
+
+        assertEquals(Collections.singletonList(exception), failures);
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.Assert.assertSameData;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.AtomicFileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.WeeklyTimetable;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryAddressBookStorage(getTempFilePath("ab")).readAddressBook(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(getTempFilePath("ab")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withEnrolledModules("CS2113", "CS2101").withTimetable(
+                WeeklyTimetable.empty().withActivity("mon", 0, "CS2113").withActivity("fri", 11, "lunch with \u4F60"))
+                .build());
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertSameData(original, storage.readAddressBook(filePath).get());
+
+        // Modify data, overwrite exiting file, and read back
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+        assertSameData(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_lazy_sameData() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withEnrolledModules("CS2113", "CS2101").withTimetable(
+                WeeklyTimetable.empty().withActivity("mon", 0, "CS2113").withActivity("fri", 11, "lunch"))
+                .build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertSameData(original, new BinaryAddressBookStorage(filePath, true).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_lazyTruncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, dataLengthOf(bytes) - 5));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath, true).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_xmlFile_readAsXml() throws Exception {
+        Path filePath = getTempFilePath("ab.xml");
+        AddressBook original = getTypicalAddressBook();
+        new XmlAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertSameData(original, new BinaryAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_damagedFileWithXmlBackup_backupReadAsXml() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        AddressBook backup = getTypicalAddressBook();
+        backup.addPerson(HOON);
+        new XmlAddressBookStorage(AtomicFileUtil.getBackupPath(filePath, 1)).saveAddressBook(backup);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[dataLengthOf(bytes) - 5]++;
+        Files.write(filePath, bytes);
+
+        assertSameData(backup, new BinaryAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, dataLengthOf(bytes) - 5));
+
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_damagedTableCount_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        byte[] damaged = Arrays.copyOf(bytes, dataLengthOf(bytes));
+        // the table count after the magic number and the version is replaced by the largest count there can be
+        byte[] largestCount = {(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07};
+        System.arraycopy(largestCount, 0, damaged, Integer.BYTES + Short.BYTES, largestCount.length);
+        Files.write(filePath, damaged);
+
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameData() throws Exception {
+        Path xmlFilePath = getTempFilePath("ab.xml");
+        Path binaryFilePath = getTempFilePath("ab.bin");
+        Path convertedFilePath = getTempFilePath("converted.xml");
+        AddressBook original = getTypicalAddressBook();
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(original);
+
+        AddressBookFormatConverter.xmlToBinary(xmlFilePath, binaryFilePath);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(binaryFilePath));
+        AddressBookFormatConverter.binaryToXml(binaryFilePath, convertedFilePath);
+
+        assertSameData(original, new XmlAddressBookStorage(convertedFilePath).readAddressBook().get());
+    }
+
+    /**
+     * Returns the length of the data in a saved file, which is followed by its checksum line.
+     */
+    private static int dataLengthOf(byte[] bytes) {
+        int index = bytes.length - 2;
+        while (bytes[index] != '\n') {
+            index--;
+        }
+        return index + 1;
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.Assert.assertSameData;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.WeeklyTimetable;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(getTempFilePath("ab.xml")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_changesAppendedToJournal() throws Exception {
+        Path filePath = getTempFilePath("ab.xml");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        // first save writes a snapshot
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameData(original, storage.readAddressBook().get());
+
+        // later saves only append the changes
+        long snapshotSize = Files.size(filePath);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        Person editedBenson = new PersonBuilder(BENSON).withTimetable(WeeklyTimetable.empty()
+                .withActivity("tue", 3, "CS2113")).build();
+        original.updatePerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+        assertEquals(snapshotSize, Files.size(filePath));
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        // a new storage replays the journal
+        assertSameData(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = getTempFilePath("ab.xml");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook beforeLastSave = new AddressBook(original);
+        long validLength = Files.size(storage.getJournalFilePath());
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // simulates a crash while the last record was being written
+        try (FileChannel journal = FileChannel.open(storage.getJournalFilePath(), StandardOpenOption.WRITE)) {
+            journal.truncate(Files.size(storage.getJournalFilePath()) - 3);
+        }
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        assertSameData(beforeLastSave, reopened.readAddressBook().get());
+
+        // the incomplete record is overwritten by the next save
+        beforeLastSave.addPerson(IDA);
+        reopened.saveAddressBook(beforeLastSave);
+        assertTrue(Files.size(reopened.getJournalFilePath()) > validLength);
+        assertSameData(beforeLastSave, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalWriteFails_changesSavedByNextSave() throws Exception {
+        Path filePath = getTempFilePath("ab.xml");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // the journal cannot be opened for writing while a directory is in its place
+        Files.createDirectory(storage.getJournalFilePath());
+        original.addPerson(HOON);
+        try {
+            storage.saveAddressBook(original);
+            fail("The journal should not have been written");
+        } catch (IOException e) {
+            // expected
+        }
+        Files.delete(storage.getJournalFilePath());
+
+        storage.saveAddressBook(original);
+        assertSameData(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_journalCompacted() throws Exception {
+        Path filePath = getTempFilePath("ab.xml");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameData(original, new XmlAddressBookStorage(filePath).readAddressBook().get());
+
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+        assertSameData(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_savedAsXml() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(getTempFilePath("ab.xml"));
+        Path otherPath = getTempFilePath("other.xml");
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherPath);
+
+        assertSameData(original, new XmlAddressBookStorage(otherPath).readAddressBook().get());
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
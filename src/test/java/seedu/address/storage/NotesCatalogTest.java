@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class NotesCatalogTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path notesFolder;
+
+    @Before
+    public void setUp() throws IOException {
+        notesFolder = testFolder.getRoot().toPath().resolve("notes");
+        writeNote("CS2100", "lecture1.pdf", "pipelining");
+        writeNote("CS2100", "tutorials/tutorial1.pdf", "caches");
+        writeNote("CS2101", "notes.txt", "");
+        Files.createDirectories(notesFolder.resolve("CS3230"));
+        writeNote("", "download.zip", "not a module");
+    }
+
+    @Test
+    public void getModules_noCatalogFile_rebuiltFromNotesFolder() throws Exception {
+        NotesCatalog catalog = new NotesCatalog(notesFolder);
+        assertEquals(Arrays.asList("CS2100", "CS2101", "CS3230"), Arrays.asList(
+                catalog.getModules().toArray()));
+        assertTrue(Files.exists(catalog.getCatalogFile()));
+
+        List<NotesCatalog.Entry> files = catalog.getFiles("CS2100");
+        assertEquals(2, files.size());
+        assertEquals("lecture1.pdf", files.get(0).getPath());
+        assertEquals("pipelining".length(), files.get(0).getSize());
+        assertEquals(crc32Of("pipelining"), files.get(0).getChecksum());
+        assertEquals("tutorials/tutorial1.pdf", files.get(1).getPath());
+        assertEquals(Collections.emptyList(), catalog.getFiles("CS3230"));
+        assertEquals(Collections.emptyList(), catalog.getFiles("CS9999"));
+    }
+
+    @Test
+    public void getModules_catalogFileUpToDate_notesFolderNotWalked() throws Exception {
+        new NotesCatalog(notesFolder).getModules();
+
+        // a change within a module folder does not change the notes folder, so it is not noticed
+        writeNote("CS2100", "lecture1.pdf", "a longer lecture");
+        NotesCatalog catalog = new NotesCatalog(notesFolder);
+        assertEquals("pipelining".length(), catalog.getFiles("CS2100").get(0).getSize());
+    }
+
+    @Test
+    public void getModules_notesFolderChangedElsewhere_rebuilt() throws Exception {
+        new NotesCatalog(notesFolder).getModules();
+
+        Files.createDirectories(notesFolder.resolve("MA1521"));
+        Files.setLastModifiedTime(notesFolder, FileTime.fromMillis(0));
+        assertTrue(new NotesCatalog(notesFolder).getModules().contains("MA1521"));
+    }
+
+    @Test
+    public void getModules_damagedCatalogFile_rebuilt() throws Exception {
+        NotesCatalog catalog = new NotesCatalog(notesFolder);
+        catalog.getModules();
+        byte[] bytes = Files.readAllBytes(catalog.getCatalogFile());
+        Files.write(catalog.getCatalogFile(), Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertEquals(catalog.getModules(), new NotesCatalog(notesFolder).getModules());
+        assertEquals(catalog.getFiles("CS2100"), new NotesCatalog(notesFolder).getFiles("CS2100"));
+    }
+
+    @Test
+    public void updateModule_changesKeptAcrossReads() throws Exception {
+        NotesCatalog catalog = new NotesCatalog(notesFolder);
+        catalog.getModules();
+
+        writeNote("MA1521", "limits.pdf", "epsilon");
+        catalog.updateModule("MA1521");
+        writeNote("CS2101", "notes.txt", "oral presentation");
+        catalog.updateModule("CS2101");
+
+        NotesCatalog reread = new NotesCatalog(notesFolder);
+        assertEquals(Arrays.asList("CS2100", "CS2101", "CS3230", "MA1521"), Arrays.asList(
+                reread.getModules().toArray()));
+        assertEquals(catalog.getFiles("MA1521"), reread.getFiles("MA1521"));
+        assertEquals(crc32Of("oral presentation"), reread.getFiles("CS2101").get(0).getChecksum());
+    }
+
+    @Test
+    public void updateModule_missingFolder_removed() throws Exception {
+        NotesCatalog catalog = new NotesCatalog(notesFolder);
+        catalog.getModules();
+        Files.delete(notesFolder.resolve("CS3230"));
+
+        catalog.updateModule("CS3230");
+        assertFalse(catalog.getModules().contains("CS3230"));
+        assertFalse(new NotesCatalog(notesFolder).getModules().contains("CS3230"));
+    }
+
+    @Test
+    public void removeModules_changesKeptAcrossReads() throws Exception {
+        NotesCatalog catalog = new NotesCatalog(notesFolder);
+        catalog.removeModules(Arrays.asList("CS2100", "CS9999"));
+        assertEquals(Arrays.asList("CS2101", "CS3230"), Arrays.asList(
+                new NotesCatalog(notesFolder).getModules().toArray()));
+
+        catalog.removeAllModules();
+        assertTrue(new NotesCatalog(notesFolder).getModules().isEmpty());
+    }
+
+    @Test
+    public void storageHelper_deleteSelectedNotes_catalogUpdated() throws Exception {
+        NotesDownloadStorageHelper storage = new NotesDownloadStorageHelper(notesFolder);
+        storage.deleteSelectedNotes(Collections.singleton("CS210"));
+
+        assertEquals(Collections.singleton("CS3230"), storage.readDownloadedNotes());
+        assertFalse(Files.exists(notesFolder.resolve("CS2100")));
+        assertFalse(Files.exists(notesFolder.resolve("CS2101")));
+        assertEquals(Collections.singleton("CS3230"), new NotesCatalog(notesFolder).getModules());
+    }
+
+    /**
+     * Writes {@code content} to the file at {@code path} in the module folder {@code module}, or in the notes folder
+     * itself if {@code module} is empty.
+     */
+    private void writeNote(String module, String path, String content) throws IOException {
+        Path file = notesFolder.resolve(module).resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long crc32Of(String content) {
+        CRC32 checksum = new CRC32();
+        checksum.update(content.getBytes(StandardCharsets.UTF_8));
+        return checksum.getValue();
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.WeeklyTimetable;
+
+public class ParallelPersonConverterTest {
+
+    private static final int PERSON_COUNT = 2000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_nonPositiveParallelism_usesAllProcessors() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        assertEquals(processors, new ParallelPersonConverter(ParallelPersonConverter.ALL_PROCESSORS).getParallelism());
+        assertEquals(processors, new ParallelPersonConverter(-1).getParallelism());
+        assertEquals(3, new ParallelPersonConverter(3).getParallelism());
+    }
+
+    @Test
+    public void convertInto_parallel_sameAsSequential() throws Exception {
+        List<XmlAdaptedPerson> xmlPersons = xmlPersons();
+        AddressBook sequential = new AddressBook();
+        new ParallelPersonConverter(1).convertInto(xmlPersons, sequential);
+        AddressBook parallel = new AddressBook();
+        new ParallelPersonConverter(4).convertInto(xmlPersons, parallel);
+
+        assertEquals(PERSON_COUNT, parallel.getPersonList().size());
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            assertTrue(BinaryPersonCodec.haveSameData(sequential.getPersonList().get(i),
+                    parallel.getPersonList().get(i)));
+        }
+    }
+
+    @Test
+    public void convertInto_severalInvalidPersons_firstErrorReported() throws Exception {
+        List<XmlAdaptedPerson> xmlPersons = xmlPersons();
+        xmlPersons.set(1500, withPhone(xmlPersons.get(1500), "+651234"));
+        xmlPersons.set(300, withPhone(xmlPersons.get(300), null));
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(XmlAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
+        new ParallelPersonConverter(4).convertInto(xmlPersons, new AddressBook());
+    }
+
+    @Test
+    public void convertInto_duplicateBeforeInvalidPerson_duplicateReported() throws Exception {
+        List<XmlAdaptedPerson> xmlPersons = xmlPersons();
+        xmlPersons.set(1500, withPhone(xmlPersons.get(1500), "+651234"));
+        xmlPersons.set(700, xmlPersons.get(10));
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        new ParallelPersonConverter(4).convertInto(xmlPersons, new AddressBook());
+    }
+
+    /**
+     * Returns {@code PERSON_COUNT} valid persons with distinct names, in their xml form.
+     */
+    private static List<XmlAdaptedPerson> xmlPersons() {
+        List<XmlAdaptedPerson> xmlPersons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            xmlPersons.add(new XmlAdaptedPerson(new Person(new Name("Person " + i), new Phone("9123456" + (i % 10)),
+                    new Email("person" + i + "@example.com"), new Address("Blk " + i), new HashSet<>(),
+                    new TreeMap<>(), WeeklyTimetable.empty().withActivity("tue", i % 12, "CS2113"))));
+        }
+        return xmlPersons;
+    }
+
+    /**
+     * Returns a copy of {@code source} with the given phone, which need not be valid.
+     */
+    private static XmlAdaptedPerson withPhone(XmlAdaptedPerson source, String phone) throws IllegalValueException {
+        Person person = source.toModelType();
+        return new XmlAdaptedPerson(person.getName().fullName, phone, person.getEmail().value,
+                person.getAddress().value, new ArrayList<>(), new ArrayList<>(),
+                XmlAdaptedPerson.toXmlAdaptedTimeSlots(person.getTimeSlots()));
+    }
+}
@@ -3,9 +3,11 @@ package seedu.address.storage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -19,6 +21,7 @@ import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -70,6 +73,39 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_samePersons_skipped() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveAddressBook(addressBook.snapshot());
+        assertEquals(1, storageManager.getPerformedSaveCount());
+        assertEquals(1, storageManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void saveAddressBook_changedData_saved() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+
+        // same name, so the change is only found as a different person under that name
+        addressBook.updatePerson(ALICE, new PersonBuilder(ALICE).withPhone("11111111").build());
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(2, storageManager.getPerformedSaveCount());
+        assertEquals(0, storageManager.getSkippedSaveCount());
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFileOrFileDeleted_saved() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        storageManager.saveAddressBook(getTypicalAddressBook(), getTempFilePath("other"));
+        Files.delete(getTempFilePath("other"));
+        storageManager.saveAddressBook(getTypicalAddressBook(), getTempFilePath("other"));
+        assertEquals(3, storageManager.getPerformedSaveCount());
+        assertEquals(0, storageManager.getSkippedSaveCount());
+        assertTrue(Files.exists(getTempFilePath("other")));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -82,6 +118,7 @@ public class StorageManagerTest {
                                              new JsonUserPrefsStorage(Paths.get("dummy")),
                                              new NotesDownloadStorageHelper(Paths.get("dummy")));
         storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flushAddressBook();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static seedu.address.testutil.Assert.assertSameData;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.WeeklyTimetable;
+import seedu.address.testutil.PersonBuilder;
+
+public class StreamingXmlAddressBookCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.xml");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.xml");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void write_typicalPersons_sameBytesAsJaxb() throws Exception {
+        assertSameBytesAsJaxb(getTypicalAddressBook());
+    }
+
+    @Test
+    public void write_emptyAddressBook_sameBytesAsJaxb() throws Exception {
+        assertSameBytesAsJaxb(new AddressBook());
+    }
+
+    @Test
+    public void write_charactersToEscape_sameBytesAsJaxb() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(HOON).withAddress("1 <Main> St & \"Co\" '\u00E9' \u4F60 \uD83D\uDE00")
+                .withEnrolledModules("CS2113").withTimetable(WeeklyTimetable.empty()
+                        .withActivity("mon", 0, "a < b && c > d\r").withActivity("fri", 11, "lunch with \u4F60"))
+                .build());
+        assertSameBytesAsJaxb(addressBook);
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertSameData(XmlFileStorage.loadDataFromSaveFile(TYPICAL_PERSONS_FILE).toModelType(),
+                StreamingXmlAddressBookCodec.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        StreamingXmlAddressBookCodec.read(DUPLICATE_PERSON_FILE);
+    }
+
+    @Test
+    public void read_invalidPerson_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        StreamingXmlAddressBookCodec.read(INVALID_PERSON_FILE);
+    }
+
+    @Test
+    public void read_notXml_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("notXml.xml");
+        Files.write(filePath, "not xml".getBytes());
+        thrown.expect(IllegalValueException.class);
+        StreamingXmlAddressBookCodec.read(filePath);
+    }
+
+    @Test
+    public void writeThenRead_charactersToEscape_sameData() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withAddress("a & b <c> \uD83D\uDE00")
+                .withTimetable(WeeklyTimetable.empty().withActivity("wed", 5, "<&>\r")).build());
+        Path filePath = testFolder.getRoot().toPath().resolve("ab.xml");
+        StreamingXmlAddressBookCodec.write(filePath, original);
+        assertSameData(original, StreamingXmlAddressBookCodec.read(filePath));
+    }
+
+    /**
+     * Asserts that the codec writes {@code addressBook} with exactly the bytes that JAXB writes.
+     */
+    private void assertSameBytesAsJaxb(ReadOnlyAddressBook addressBook) throws Exception {
+        Path jaxbFile = testFolder.getRoot().toPath().resolve("jaxb.xml");
+        Path streamedFile = testFolder.getRoot().toPath().resolve("streamed.xml");
+        Files.createFile(jaxbFile);
+        XmlFileStorage.saveDataToFile(jaxbFile, new XmlSerializableAddressBook(addressBook));
+        StreamingXmlAddressBookCodec.write(streamedFile, addressBook);
+        assertArrayEquals(Files.readAllBytes(jaxbFile), Files.readAllBytes(streamedFile));
+    }
+}
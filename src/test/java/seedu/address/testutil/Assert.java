@@ -1,5 +1,12 @@
 package seedu.address.testutil;
 
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
 /**
  * A set of assertion methods useful for writing tests.
  */
@@ -42,6 +49,26 @@ public class Assert {
                 "Expected %s to be thrown, but nothing was thrown.", expectedException.getName()));
     }
 
+    /**
+     * Asserts that {@code actual} has the persons of {@code expected}, in order and with the same data in every field.
+     * {@link Person#equals(Object)} only compares names.
+     */
+    public static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        List<Person> expectedPersons = expected.getPersonList();
+        List<Person> actualPersons = actual.getPersonList();
+        assertEquals(expectedPersons, actualPersons);
+        for (int i = 0; i < expectedPersons.size(); i++) {
+            Person expectedPerson = expectedPersons.get(i);
+            Person actualPerson = actualPersons.get(i);
+            assertEquals(expectedPerson.getPhone(), actualPerson.getPhone());
+            assertEquals(expectedPerson.getEmail(), actualPerson.getEmail());
+            assertEquals(expectedPerson.getAddress(), actualPerson.getAddress());
+            assertEquals(expectedPerson.getTags(), actualPerson.getTags());
+            assertEquals(expectedPerson.getEnrolledModules(), actualPerson.getEnrolledModules());
+            assertEquals(expectedPerson.getTimetable(), actualPerson.getTimetable());
+        }
+    }
+
     /**
      * Represents a function which does not return anything and may throw an exception.
      */
@@ -109,25 +109,25 @@ public class MergedBuilder {
         for (int i = 0; i < 12; i++) {
             if (day1[i].toString().equalsIgnoreCase("free")
                     || day1[i].toString().equalsIgnoreCase("0")) {
-                day1[i] = new TimeSlots("0");
+                day1[i] = TimeSlots.of("0");
             } else {
                 try {
                     Integer.parseInt(day1[i].toString());
                 } catch (NumberFormatException e) {
-                    day1[i] = new TimeSlots("1");
+                    day1[i] = TimeSlots.of("1");
                 }
             }
 
             if (day2[i].toString().equalsIgnoreCase("free")) {
-                day2[i] = new TimeSlots("0");
+                day2[i] = TimeSlots.of("0");
             } else {
-                day2[i] = new TimeSlots("1");
+                day2[i] = TimeSlots.of("1");
             }
             String day1BusyCount = day1[i].toString();
             String day2BusyCount = day2[i].toString();
             int totalBusyCount = Integer.parseInt(day1BusyCount) + Integer.parseInt(day2BusyCount);
             String newBusyCount = Integer.toString(totalBusyCount);
-            finalDay.add(new TimeSlots(newBusyCount));
+            finalDay.add(TimeSlots.of(newBusyCount));
         }
         return finalDay;
     }
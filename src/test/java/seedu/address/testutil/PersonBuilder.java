@@ -14,6 +14,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.TimeSlots;
+import seedu.address.model.person.WeeklyTimetable;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.SampleDataUtil;
 
@@ -92,6 +93,14 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code WeeklyTimetable} of the {@code Person} that we are building.
+     */
+    public PersonBuilder withTimetable(WeeklyTimetable timetable) {
+        this.timeslots = timetable.asMap();
+        return this;
+    }
+
     /**
      * Sets the {@code Address} of the {@code Person} that we are building.
      */